@@ -11,6 +11,12 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import javax.imageio.ImageIO;
 import javax.swing.BoxLayout;
@@ -22,13 +28,20 @@ import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JTextField;
+import javax.swing.SwingWorker;
 
+import dataGenerator.AccuracyCurve;
 import guiPieces.GuiConstants;
 import modelPieces.Overclock;
 import weapons.Weapon;
 
 public class CompareAccuracyGraphs extends Comparator {
 	
+	// The 4 DPS graphs get rounded up to the next highest multiple of this
+	private static final double desiredMultiple = 50.0;
+	// Each background task does this many datapoints of one build. With 101 datapoints per line, that's 11 tasks per build.
+	private static final int datapointsPerTask = 10;
+	
 	private double minDistance, maxDistance;
 	private int numIntervalsPerLine;
 	
@@ -246,79 +259,35 @@ public class CompareAccuracyGraphs extends Comparator {
 			buildInput4.setText(build4);
 			
 			/*
-				Third, generate the matrices of data -- one matrix for each of the six metrics, with 1-4 rows for each build and as many columns as necessary for the datapoints
+				Third, set up the matrices of data -- one matrix for each of the six metrics, with 1-4 rows for each build and as many columns as necessary for the datapoints.
+				Every datapoint starts out as NaN, and a GraphWorker fills them in on background threads while the graphs are already on screen.
 			*/
 			double xInterval = (maxDistance - minDistance) / ((double) numIntervalsPerLine);
 			
-			double[][] generalAccuracy, weakpointAccuracy, burstAccDPS, sustainedAccDPS, burstAccWpDPS, sustainedAccWpDPS;
-			generalAccuracy = new double[numBuildsToCompare][numIntervalsPerLine + 1];
-			weakpointAccuracy = new double[numBuildsToCompare][numIntervalsPerLine + 1];
-			burstAccDPS = new double[numBuildsToCompare][numIntervalsPerLine + 1];
-			sustainedAccDPS = new double[numBuildsToCompare][numIntervalsPerLine + 1];
-			burstAccWpDPS = new double[numBuildsToCompare][numIntervalsPerLine + 1];
-			sustainedAccWpDPS = new double[numBuildsToCompare][numIntervalsPerLine + 1];
-			
-			double largestBurstAcc = 0, largestSustainedAcc = 0, largestBurstAccWP = 0, largestSustainedAccWP = 0;
+			double[][][] graphData = new double[enableMetricsToGraph.length][numBuildsToCompare][numIntervalsPerLine + 1];
+			boolean[] metricsToGraph = new boolean[enableMetricsToGraph.length];
+			for (i = 0; i < enableMetricsToGraph.length; i++) {
+				metricsToGraph[i] = enableMetricsToGraph[i].isSelected();
+				for (j = 0; j < numBuildsToCompare; j++) {
+					Arrays.fill(graphData[i][j], Double.NaN);
+				}
+			}
 			
+			// Each build gets its own copy of baseModel, so the background threads never touch baseModel itself
 			baseModel.setAccuracyDPS(true, false);
 			baseModel.setWeakpointDPS(false, false);
 			baseModel.setArmorWastingDPS(false, false);
+			Weapon[] buildsToGraph = new Weapon[numBuildsToCompare];
 			for (i = 0; i < numBuildsToCompare; i++) {
 				baseModel.buildFromCombination(justifyTop.get(i), false);
-				
-				for (j = 0; j < numIntervalsPerLine + 1; j++) {
-					baseModel.setAccuracyDistance(minDistance + j * xInterval, false);
-					
-					if (enableMetricsToGraph[0].isSelected()) {
-						generalAccuracy[i][j] = baseModel.getGeneralAccuracy();
-					}
-					if (enableMetricsToGraph[1].isSelected()) {
-						weakpointAccuracy[i][j] = baseModel.getWeakpointAccuracy();
-					}
-					
-					if (enableMetricsToGraph[2].isSelected()) {
-						burstAccDPS[i][j] = baseModel.calculateSingleTargetDPS(true);
-						
-						if (burstAccDPS[i][j] > largestBurstAcc) {
-							largestBurstAcc = burstAccDPS[i][j];
-						}
-					}
-					if (enableMetricsToGraph[3].isSelected()) {
-						sustainedAccDPS[i][j] = baseModel.calculateSingleTargetDPS(false);
-						
-						if (sustainedAccDPS[i][j] > largestSustainedAcc) {
-							largestSustainedAcc = sustainedAccDPS[i][j];
-						}
-					}
-					
-					baseModel.setWeakpointDPS(true, false);
-					if (enableMetricsToGraph[4].isSelected()) {
-						burstAccWpDPS[i][j] = baseModel.calculateSingleTargetDPS(true);
-						
-						if (burstAccWpDPS[i][j] > largestBurstAccWP) {
-							largestBurstAccWP = burstAccWpDPS[i][j];
-						}
-					}
-					if (enableMetricsToGraph[5].isSelected()) {
-						sustainedAccWpDPS[i][j] = baseModel.calculateSingleTargetDPS(false);
-						
-						if (sustainedAccWpDPS[i][j] > largestSustainedAccWP) {
-							largestSustainedAccWP = sustainedAccWpDPS[i][j];
-						}
-					}
-					baseModel.setWeakpointDPS(false, false);
-				}
+				buildsToGraph[i] = baseModel.cloneForCalculations();
 			}
 			
 			/*
 				Fourth, use those matrices and generate as many "fancy graphs" as needed. Arrange them in a GridLayout with the appropriate labels
 			*/
-			// Start by rounding up the 4 DPS metrics to the next highest multiple of 50
-			double desiredMultiple = 50.0;
-			largestBurstAcc = desiredMultiple * Math.ceil(largestBurstAcc / desiredMultiple); 
-			largestSustainedAcc = desiredMultiple * Math.ceil(largestSustainedAcc / desiredMultiple); 
-			largestBurstAccWP = desiredMultiple * Math.ceil(largestBurstAccWP / desiredMultiple); 
-			largestSustainedAccWP = desiredMultiple * Math.ceil(largestSustainedAccWP / desiredMultiple); 
+			// The 4 DPS graphs start out one multiple of 50 tall, and grow as the numbers come in.
+			MultiLineGraph[] graphs = new MultiLineGraph[enableMetricsToGraph.length];
 			
 			generatedGraphs = new JPanel();
 			//generatedGraphs.setPreferredSize(new Dimension(800, 1200));
@@ -423,33 +392,34 @@ public class CompareAccuracyGraphs extends Comparator {
 				container.setLayout(new BorderLayout());
 				container.setOpaque(false);
 				
-				if (enableMetricsToGraph[i].isSelected()) {
+				if (metricsToGraph[i]) {
 					if (i == 0) {
 						nameOfGraph = new JLabel("General Accuracy");
-						mlg = constructMultiLineGraph(100.0, 100.0/25.0, generalAccuracy);
+						mlg = constructMultiLineGraph(100.0, 100.0/25.0, graphData[i]);
 						mlg.setYUnit("%");
 					}
 					else if (i == 1) {
 						nameOfGraph = new JLabel("Weakpoint Accuracy");
-						mlg = constructMultiLineGraph(100.0, 100.0/25.0, weakpointAccuracy);
+						mlg = constructMultiLineGraph(100.0, 100.0/25.0, graphData[i]);
 						mlg.setYUnit("%");
 					}
 					else if (i == 2) {
 						nameOfGraph = new JLabel("Burst DPS affected by Accuracy");
-						mlg = constructMultiLineGraph(largestBurstAcc, largestBurstAcc/desiredMultiple, burstAccDPS);
+						mlg = constructMultiLineGraph(desiredMultiple, 1.0, graphData[i]);
 					}
 					else if (i == 3) {
 						nameOfGraph = new JLabel("Sustained DPS affected by Accuracy");
-						mlg = constructMultiLineGraph(largestSustainedAcc, largestSustainedAcc/desiredMultiple, sustainedAccDPS);
+						mlg = constructMultiLineGraph(desiredMultiple, 1.0, graphData[i]);
 					}
 					else if (i == 4) {
 						nameOfGraph = new JLabel("Burst DPS w/ Accuracy & Weakpoints");
-						mlg = constructMultiLineGraph(largestBurstAccWP, largestBurstAccWP/desiredMultiple, burstAccWpDPS);
+						mlg = constructMultiLineGraph(desiredMultiple, 1.0, graphData[i]);
 					}
 					else if (i == 5) {
 						nameOfGraph = new JLabel("Sustained DPS w/ Accuracy & Weakpoints");
-						mlg = constructMultiLineGraph(largestSustainedAccWP, largestSustainedAccWP/desiredMultiple, sustainedAccWpDPS);
+						mlg = constructMultiLineGraph(desiredMultiple, 1.0, graphData[i]);
 					}
+					graphs[i] = mlg;
 					mlg.setXUnit("m");
 					
 					nameOfGraph.setFont(GuiConstants.customFontHeader);
@@ -463,12 +433,18 @@ public class CompareAccuracyGraphs extends Comparator {
 			}
 			generatedGraphs.add(graphsGrid, BorderLayout.CENTER);
 			
-			saveToPNG.setEnabled(true);
+			// The .png button only gets turned back on once every line has been drawn all the way across.
+			saveToPNG.setEnabled(false);
+			GraphWorker worker = new GraphWorker(buildsToGraph, xInterval, metricsToGraph, graphData, graphs);
+			worker.execute();
 			
 			// Adapted from https://stackoverflow.com/a/13760416 and https://www.tutorialspoint.com/how-to-display-a-jframe-to-the-center-of-a-screen-in-java
 			JOptionPane a = new JOptionPane(generatedGraphs, JOptionPane.INFORMATION_MESSAGE);
 			JDialog d = a.createDialog(null, "Graphs that compare various metrics affected by Accuracy and distance");
 			d.setVisible(true);
+			
+			// The dialog is modal, so by the time it gets here the graphs have been closed and there's no point in finishing them.
+			worker.cancel(false);
 		}
 		else if (e == saveToPNG) {
 			int returnVal = saveLocation.showOpenDialog(null);
@@ -497,4 +473,212 @@ public class CompareAccuracyGraphs extends Comparator {
 			}
 		}
 	}
+	
+	/*
+		Generating the graphs used to happen right here in actionPerformed(), one datapoint after another, which froze the window until all of them were done. Now each build
+		gets split up into chunks of datapointsPerTask distances, and every chunk is its own task on the common ForkJoinPool with its own copy of the build, so the chunks all
+		get calculated at the same time.
+		
+		The tasks never write into the graphs' data themselves. Every finished chunk gets published, and process() copies it in on the Event Dispatch Thread, so a graph never
+		gets painted from an array that another thread is halfway through writing. That also means the lines get drawn in as the chunks finish, instead of all at the end.
+	*/
+	private class GraphWorker extends SwingWorker<Void, GraphChunk> {
+		private Weapon[] buildsToGraph;
+		private double firstDistance, xInterval;
+		private int numDatapointsPerLine;
+		private boolean[] metricsToGraph;
+		private boolean graphingDPS;
+		
+		// These three are only ever touched on the Event Dispatch Thread.
+		private double[][][] graphData;
+		private MultiLineGraph[] graphs;
+		private double[] largestValues;
+		private int numDatapointsRemaining;
+		
+		// Has to be constructed on the Event Dispatch Thread. None of these get changed by CompareAccuracyGraphs afterwards; the next set of graphs gets new ones.
+		public GraphWorker(Weapon[] builds, double interval, boolean[] metrics, double[][][] data, MultiLineGraph[] graphsToUpdate) {
+			buildsToGraph = builds;
+			firstDistance = minDistance;
+			xInterval = interval;
+			numDatapointsPerLine = numIntervalsPerLine + 1;
+			metricsToGraph = metrics;
+			
+			// The DPS lines still need the Weapon to actually be at each distance, so it only gets moved there if one of them is being drawn.
+			graphingDPS = false;
+			for (int i = 2; i < metrics.length; i++) {
+				graphingDPS = graphingDPS || metrics[i];
+			}
+			
+			graphData = data;
+			graphs = graphsToUpdate;
+			largestValues = new double[metrics.length];
+			numDatapointsRemaining = builds.length * numDatapointsPerLine;
+		}
+		
+		@Override
+		protected Void doInBackground() {
+			final ArrayList<RecursiveAction> tasks = new ArrayList<RecursiveAction>();
+			for (int i = 0; i < buildsToGraph.length; i++) {
+				for (int start = 0; start < numDatapointsPerLine; start += datapointsPerTask) {
+					tasks.add(new ChunkTask(i, start, Math.min(start + datapointsPerTask, numDatapointsPerLine)));
+				}
+			}
+			
+			ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+				private static final long serialVersionUID = 1L;
+				
+				@Override
+				protected void compute() {
+					invokeAll(tasks);
+				}
+			});
+			return null;
+		}
+		
+		@Override
+		protected void process(List<GraphChunk> chunks) {
+			if (isCancelled()) {
+				return;
+			}
+			
+			int i, j;
+			for (GraphChunk c: chunks) {
+				for (i = 0; i < metricsToGraph.length; i++) {
+					if (!metricsToGraph[i]) {
+						continue;
+					}
+					
+					System.arraycopy(c.values[i], 0, graphData[i][c.buildIndex], c.firstDatapoint, c.values[i].length);
+					for (j = 0; j < c.values[i].length; j++) {
+						if (c.values[i][j] > largestValues[i]) {
+							largestValues[i] = c.values[i][j];
+						}
+					}
+				}
+				numDatapointsRemaining -= c.values[0].length;
+			}
+			
+			// Round the 4 DPS graphs up to the next highest multiple of 50, but always leave them at least that tall so that they have a gridline to draw.
+			double height;
+			for (i = 2; i < graphs.length; i++) {
+				if (graphs[i] != null) {
+					height = desiredMultiple * Math.max(1.0, Math.ceil(largestValues[i] / desiredMultiple));
+					graphs[i].setMaxY(height, height / desiredMultiple);
+				}
+			}
+			for (i = 0; i < graphs.length; i++) {
+				if (graphs[i] != null) {
+					graphs[i].repaint();
+				}
+			}
+			
+			if (numDatapointsRemaining == 0) {
+				saveToPNG.setEnabled(true);
+			}
+		}
+		
+		@Override
+		protected void done() {
+			try {
+				get();
+			}
+			catch (CancellationException e) {
+				// The graphs got closed before they were finished, so there's nothing left to draw.
+			}
+			catch (InterruptedException e) {
+				e.printStackTrace();
+			}
+			catch (ExecutionException e) {
+				e.printStackTrace();
+			}
+		}
+		
+		private class ChunkTask extends RecursiveAction {
+			private static final long serialVersionUID = 1L;
+			
+			private int buildIndex, start, end;
+			
+			public ChunkTask(int b, int s, int e) {
+				buildIndex = b;
+				start = s;
+				end = e;
+			}
+			
+			/*
+				RecursiveAction has its own isCancelled() too, and a plain isCancelled() in here would call that one instead of the GraphWorker's. It's the GraphWorker
+				that gets cancelled when the dialog closes, so every check in here has to ask it specifically; otherwise every chunk still gets calculated after the graphs
+				are gone, and pressing the button again would start another full run on top of it.
+			*/
+			@Override
+			protected void compute() {
+				if (GraphWorker.this.isCancelled()) {
+					return;
+				}
+				
+				Weapon privateCopy = buildsToGraph[buildIndex].cloneForCalculations();
+				AccuracyCurve accuracyCurve = AccuracyCurve.forWeapon(privateCopy);
+				GraphChunk chunk = new GraphChunk(buildIndex, start, end - start, metricsToGraph.length);
+				
+				int k;
+				double distance;
+				double[][] values = chunk.values;
+				for (int j = start; j < end; j++) {
+					if (GraphWorker.this.isCancelled()) {
+						return;
+					}
+					
+					k = j - start;
+					distance = firstDistance + j * xInterval;
+					
+					// The two accuracy lines get read off of the build's AccuracyCurve, which only has to calculate its 73 quarter-meter samples once.
+					if (metricsToGraph[0]) {
+						values[0][k] = accuracyCurve.getAccuracy(privateCopy, distance, false);
+					}
+					if (metricsToGraph[1]) {
+						values[1][k] = accuracyCurve.getAccuracy(privateCopy, distance, true);
+					}
+					
+					if (!graphingDPS) {
+						continue;
+					}
+					privateCopy.setAccuracyDistance(distance, false);
+					
+					if (metricsToGraph[2]) {
+						values[2][k] = privateCopy.calculateSingleTargetDPS(true);
+					}
+					if (metricsToGraph[3]) {
+						values[3][k] = privateCopy.calculateSingleTargetDPS(false);
+					}
+					
+					privateCopy.setWeakpointDPS(true, false);
+					if (metricsToGraph[4]) {
+						values[4][k] = privateCopy.calculateSingleTargetDPS(true);
+					}
+					if (metricsToGraph[5]) {
+						values[5][k] = privateCopy.calculateSingleTargetDPS(false);
+					}
+					privateCopy.setWeakpointDPS(false, false);
+				}
+				
+				if (!GraphWorker.this.isCancelled()) {
+					publish(chunk);
+				}
+			}
+		}
+	}
+	
+	// One ChunkTask's worth of datapoints for all six metrics, on its way to the Event Dispatch Thread
+	private static class GraphChunk {
+		private int buildIndex, firstDatapoint;
+		private double[][] values;
+		
+		public GraphChunk(int build, int first, int numDatapoints, int numMetrics) {
+			buildIndex = build;
+			firstDatapoint = first;
+			values = new double[numMetrics][numDatapoints];
+			for (int i = 0; i < numMetrics; i++) {
+				Arrays.fill(values[i], Double.NaN);
+			}
+		}
+	}
 }
@@ -17,6 +17,7 @@ import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JTextField;
 
+import dataGenerator.MetricsCache;
 import guiPieces.GuiConstants;
 import modelPieces.StatsRow;
 import weapons.Weapon;
@@ -120,7 +121,7 @@ public class CompareMetrics extends Comparator {
 		
 		return toReturn;
 	}
-
+	
 	@Override
 	public void actionPerformed(ActionEvent arg0) {
 		Object e = arg0.getSource();
@@ -179,27 +180,21 @@ public class CompareMetrics extends Comparator {
 			baseModel.setArmorWastingDPS(enableArmorWasting.isSelected(), false);
 			
 			// Guaranteed to have at the left-most two columns at this point in the method
+			MetricsCache cache = MetricsCache.getSharedCache();
 			double[][] metricsToCompare = new double[numBuildsToCompare][15];
 			StatsRow[][] breakpointsToCompare = new StatsRow[numBuildsToCompare][31];
 			for (i = 0; i < numBuildsToCompare; i++) {
 				baseModel.buildFromCombination(justifyLeft.get(i), false);
-				metricsToCompare[i] = new double[] {
-					baseModel.calculateSingleTargetDPS(true),
-					baseModel.calculateSingleTargetDPS(false),
-					baseModel.calculateAdditionalTargetDPS(),
-					baseModel.calculateMaxNumTargets(),
-					baseModel.calculateMaxMultiTargetDamage(),
-					baseModel.ammoEfficiency(),
-					baseModel.damageWastedByArmor(),
-					baseModel.getGeneralAccuracy(),
-					baseModel.getWeakpointAccuracy(),
-					baseModel.calculateFiringDuration(),
-					baseModel.averageTimeToKill(),
-					baseModel.averageOverkill(),
-					baseModel.breakpoints(),
-					baseModel.utilityScore(),
-					baseModel.averageTimeToCauterize()
-				};
+				metricsToCompare[i] = new double[15];
+				for (j = 0; j < 15; j++) {
+					// Breakpoints has to be calculated directly every time because breakpointsExplanation() reads the array that it fills in. Everything else can come out of MetricsCache.
+					if (j == 12) {
+						metricsToCompare[i][j] = baseModel.breakpoints();
+					}
+					else {
+						metricsToCompare[i][j] = cache.getMetric(baseModel, baseModel.getMetricVectorIndex(j));
+					}
+				}
 				
 				breakpointsToCompare[i] = baseModel.breakpointsExplanation();
 			}
@@ -58,6 +58,12 @@ public class MultiLineGraph extends JPanel {
 	public void setYUnit(String newUnit) {
 		yUnit = newUnit;
 	}
+	
+	// CompareAccuracyGraphs doesn't know how tall the DPS graphs need to be until the numbers come in, so this gets called again as they do.
+	public void setMaxY(double mxY, double numYIntervals) {
+		maxY = mxY;
+		numYDivisions = (int) Math.round(numYIntervals);
+	}
 
 	@Override
 	protected void paintComponent(Graphics g) {
@@ -147,6 +153,11 @@ public class MultiLineGraph extends JPanel {
 					averageYvalue1 = (dataToPlot[i][j-2] + dataToPlot[i][j-1] + dataToPlot[i][j] + dataToPlot[i][j+1] + dataToPlot[i][j+2]) / 5.0;
 					averageYvalue2 = (dataToPlot[i][j-1] + dataToPlot[i][j] + dataToPlot[i][j+1] + dataToPlot[i][j+2] + dataToPlot[i][j+3]) / 5.0;
 				}
+				// Data points that haven't been calculated yet are NaN, so any segment next to one of them gets left out until it's filled in.
+				if (Double.isNaN(averageYvalue1) || Double.isNaN(averageYvalue2)) {
+					continue;
+				}
+				
 				y0 = (int) Math.round((1.0 - (averageYvalue1 - minY) / (maxY - minY)) * (getHeight() - 2*padding - labelPadding)) + padding;
 				y1 = (int) Math.round((1.0 - (averageYvalue2 - minY) / (maxY - minY)) * (getHeight() - 2*padding - labelPadding)) + padding;
 				
@@ -0,0 +1,199 @@
+package dataGenerator;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+import modelPieces.EnemyContext;
+import weapons.Weapon;
+
+/*
+	General Accuracy and Weakpoint Accuracy only depend on the build, the user-set RoF, the two AccuracyEstimator checkboxes (model recoil and dwarf is moving), the Hazard
+	Level and player count (Minigun and AssaultRifle both read creature stats for their accuracy), the status effects -- and on the distance to the target. Every time the distance changed, both of them used to get calculated from scratch, and CompareAccuracyGraphs did that 101 times per build
+	every time the button got pressed, even if it had already drawn that same build a minute ago.
+	
+	This is one curve of both accuracies against distance for one of those combinations, sampled every quarter meter from 1m to 19m (the same range that the slider and
+	CompareAccuracyGraphs allow). Samples get filled in the first time that something needs them, so a single build at a single distance still only costs one calculation,
+	and the curves are shared between every Weapon object through the cache below. That way the GUI slider, CompareAccuracyGraphs, and the exporters all read the same numbers.
+	
+	On a grid distance (every whole, half, and quarter meter) getAccuracy() returns exactly what estimatedAccuracy() would have. Between two grid distances it draws a
+	straight line between them. Accuracy drops in little steps as each bullet's spread grows past the edge of the target, so right at one of those steps the line can be off
+	by a few percent; CompareAccuracyGraphs was already drawing straight lines between points 0.18m apart, so its graphs come out looking almost the same. That's fine for
+	graphing but it isn't the same number, so Weapon only uses the curve for distances on the grid so that every metric stays exact, and anything that wants the
+	interpolated values has to ask for them itself.
+*/
+public class AccuracyCurve {
+	
+	/****************************************************************************************
+	* Class Variables
+	****************************************************************************************/
+	
+	public static final double minDistance = 1.0;
+	public static final double maxDistance = 19.0;
+	private static final double samplesPerMeter = 4.0;
+	private static final int numSamples = (int) ((maxDistance - minDistance) * samplesPerMeter) + 1;
+	
+	// Each curve is about 1.2 KB, so this is about 10 MB when full. Just like EnemyContext's caches, it gets emptied when it fills up instead of tracking which ones are old.
+	private static final int maxCachedCurves = 8192;
+	private static final ConcurrentHashMap<Key, AccuracyCurve> cachedCurves = new ConcurrentHashMap<Key, AccuracyCurve>();
+	
+	// NaN means that sample hasn't been calculated yet
+	private double[] generalAccuracy;
+	private double[] weakpointAccuracy;
+	
+	/****************************************************************************************
+	* Constructors
+	****************************************************************************************/
+	
+	private AccuracyCurve() {
+		generalAccuracy = new double[numSamples];
+		weakpointAccuracy = new double[numSamples];
+		Arrays.fill(generalAccuracy, Double.NaN);
+		Arrays.fill(weakpointAccuracy, Double.NaN);
+	}
+	
+	/****************************************************************************************
+	* Setters and Getters
+	****************************************************************************************/
+	
+	// The curve for the build, RoF, difficulty, status effects, and AccuracyEstimator settings currently on this Weapon. The distance it's currently set to doesn't matter.
+	public static AccuracyCurve forWeapon(Weapon equippedWeapon) {
+		Key k = new Key(equippedWeapon);
+		AccuracyCurve toReturn = cachedCurves.get(k);
+		if (toReturn == null) {
+			if (cachedCurves.size() >= maxCachedCurves) {
+				cachedCurves.clear();
+			}
+			
+			AccuracyCurve newCurve = new AccuracyCurve();
+			toReturn = cachedCurves.putIfAbsent(k, newCurve);
+			if (toReturn == null) {
+				toReturn = newCurve;
+			}
+		}
+		return toReturn;
+	}
+	
+	// True if getAccuracy() gives the exact answer at this distance instead of an interpolated one
+	public static boolean isOnGrid(double distance) {
+		if (distance < minDistance || distance > maxDistance) {
+			return false;
+		}
+		double position = (distance - minDistance) * samplesPerMeter;
+		return position == Math.floor(position) && getGridDistance((int) position) == distance;
+	}
+	
+	private static double getGridDistance(int index) {
+		return minDistance + index / samplesPerMeter;
+	}
+	
+	/****************************************************************************************
+	* Other Methods
+	****************************************************************************************/
+	
+	/*
+		equippedWeapon has to have the same build and settings that this curve was made for; it's what gets used to calculate any samples that haven't been filled in yet.
+		Distances outside of 1-19m get clamped to the nearest end of the curve.
+	*/
+	public double getAccuracy(Weapon equippedWeapon, double distance, boolean weakpoint) {
+		double position = (Math.max(minDistance, Math.min(maxDistance, distance)) - minDistance) * samplesPerMeter;
+		int lowerIndex = (int) Math.floor(position);
+		double fraction = position - lowerIndex;
+		
+		double lower = getSample(equippedWeapon, lowerIndex, weakpoint);
+		if (fraction == 0.0 || lowerIndex == numSamples - 1) {
+			return lower;
+		}
+		
+		double upper = getSample(equippedWeapon, lowerIndex + 1, weakpoint);
+		return lower + (upper - lower) * fraction;
+	}
+	
+	/*
+		The samples only get read and written while holding the lock, so no thread ever sees one that's half written. The calculation itself happens outside of it though,
+		so that CompareAccuracyGraphs' threads can fill in different parts of the same curve at once; if two of them happen to calculate the same sample, they both get
+		exactly the same number, so it doesn't matter which one gets stored.
+	*/
+	private double getSample(Weapon equippedWeapon, int index, boolean weakpoint) {
+		double[] samples = generalAccuracy;
+		if (weakpoint) {
+			samples = weakpointAccuracy;
+		}
+		
+		synchronized (this) {
+			if (!Double.isNaN(samples[index])) {
+				return samples[index];
+			}
+		}
+		
+		double toReturn = equippedWeapon.estimateAccuracyAtDistance(getGridDistance(index), weakpoint);
+		synchronized (this) {
+			samples[index] = toReturn;
+		}
+		return toReturn;
+	}
+	
+	private static final class Key {
+		private final String weaponModel;
+		private final int buildCode;
+		private final int hazardLevel;
+		private final int playerCount;
+		// Bits 0-3 are the 4 status effects, bit 4 is "model recoil", and bit 5 is "dwarf is moving" -- the same as MetricsCache.Key
+		private final int settingsFlags;
+		private final double customRoF;
+		
+		private Key(Weapon source) {
+			weaponModel = source.getClass().getName();
+			buildCode = source.getBuildCode();
+			EnemyContext enemies = source.getEnemyContext();
+			hazardLevel = enemies.getHazardLevel();
+			playerCount = enemies.getPlayerCount();
+			
+			boolean[] statusEffects = source.getCurrentStatusEffects();
+			int flags = 0;
+			for (int i = 0; i < statusEffects.length; i++) {
+				if (statusEffects[i]) {
+					flags |= 1 << i;
+				}
+			}
+			if (source.isRecoilModeledInAccuracy()) {
+				flags |= 1 << 4;
+			}
+			if (source.isDwarfMoving()) {
+				flags |= 1 << 5;
+			}
+			settingsFlags = flags;
+			
+			if (source.isCustomRoFSet()) {
+				customRoF = source.getCustomRoF();
+			}
+			else {
+				customRoF = 0;
+			}
+		}
+		
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof Key)) {
+				return false;
+			}
+			
+			Key o = (Key) other;
+			return buildCode == o.buildCode && hazardLevel == o.hazardLevel && playerCount == o.playerCount && settingsFlags == o.settingsFlags
+				&& Double.compare(customRoF, o.customRoF) == 0 && weaponModel.equals(o.weaponModel);
+		}
+		
+		@Override
+		public int hashCode() {
+			int toReturn = weaponModel.hashCode();
+			toReturn = toReturn * 31 + buildCode;
+			toReturn = toReturn * 31 + hazardLevel * 8 + playerCount;
+			toReturn = toReturn * 31 + settingsFlags;
+			long bits = Double.doubleToLongBits(customRoF);
+			toReturn = toReturn * 31 + (int) (bits ^ (bits >>> 32));
+			return toReturn;
+		}
+	}
+}
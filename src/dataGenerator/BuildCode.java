@@ -0,0 +1,157 @@
+package dataGenerator;
+
+import weapons.Weapon;
+
+/*
+	A whole build packed into a single int, so that the sweeps, caches, and exporters don't have to build and parse 6-character Strings for every combination.
+	
+	Each of the 5 Mod tiers and the Overclock gets 3 bits, storing (selected index + 1) so that "nothing equipped" (-1) becomes 0:
+		
+		bits  0- 2: Tier 1
+		bits  3- 5: Tier 2
+		bits  6- 8: Tier 3
+		bits  9-11: Tier 4
+		bits 12-14: Tier 5
+		bits 15-17: Overclock
+	
+	That means the empty build "------" is code 0, every valid code is between 0 and 2^18 - 1, and codes can be compared with == and used directly as array or hash keys.
+	The only place a combination String should get created is right before it gets shown to the user or written to a file.
+*/
+public final class BuildCode {
+	
+	/****************************************************************************************
+	* Class Variables
+	****************************************************************************************/
+	
+	public static final int bitsPerSlot = 3;
+	public static final int numSlots = 6;
+	public static final int maxCode = (1 << (bitsPerSlot * numSlots)) - 1;
+	private static final int slotMask = (1 << bitsPerSlot) - 1;
+	private static final int overclockShift = 5 * bitsPerSlot;
+	
+	// Indexed by (selected index + 1). Mods only go up to 'C' and Overclocks up to '7', so the last four Mod slots are '?' to make every 3-bit value printable.
+	private static final int numValidModSymbols = 4;
+	private static final char[] modSymbols = {'-', 'A', 'B', 'C', '?', '?', '?', '?'};
+	private static final char[] overclockSymbols = {'-', '1', '2', '3', '4', '5', '6', '7'};
+	
+	// Reverse lookup for parsing, indexed by the character itself. -2 marks every character that isn't allowed in that position.
+	private static final int[] modSymbolLookup = new int[128];
+	private static final int[] overclockSymbolLookup = new int[128];
+	static {
+		for (int i = 0; i < 128; i++) {
+			modSymbolLookup[i] = -2;
+			overclockSymbolLookup[i] = -2;
+		}
+		for (int i = 0; i < numValidModSymbols; i++) {
+			modSymbolLookup[modSymbols[i]] = i - 1;
+		}
+		for (int i = 0; i < overclockSymbols.length; i++) {
+			overclockSymbolLookup[overclockSymbols[i]] = i - 1;
+		}
+	}
+	
+	// This class is only a collection of static methods, so there's no reason to ever instantiate it.
+	private BuildCode() {}
+	
+	/****************************************************************************************
+	* Encode/Decode
+	****************************************************************************************/
+	
+	public static int encode(int mod1, int mod2, int mod3, int mod4, int mod5, int overclock) {
+		return (mod1 + 1)
+			| ((mod2 + 1) << bitsPerSlot)
+			| ((mod3 + 1) << (2 * bitsPerSlot))
+			| ((mod4 + 1) << (3 * bitsPerSlot))
+			| ((mod5 + 1) << (4 * bitsPerSlot))
+			| ((overclock + 1) << overclockShift);
+	}
+	public static int fromWeapon(Weapon source) {
+		return encode(source.getSelectedModAtTier(1), source.getSelectedModAtTier(2), source.getSelectedModAtTier(3),
+					  source.getSelectedModAtTier(4), source.getSelectedModAtTier(5), source.getSelectedOverclock());
+	}
+	
+	// Returns -1 if nothing is equipped at that tier, just like Weapon.getSelectedModAtTier()
+	public static int getModAtTier(int code, int tierNumber) {
+		return ((code >>> ((tierNumber - 1) * bitsPerSlot)) & slotMask) - 1;
+	}
+	public static int getOverclock(int code) {
+		return ((code >>> overclockShift) & slotMask) - 1;
+	}
+	
+	public static int withModAtTier(int code, int tierNumber, int newSelection) {
+		int shift = (tierNumber - 1) * bitsPerSlot;
+		return (code & ~(slotMask << shift)) | ((newSelection + 1) << shift);
+	}
+	public static int withOverclock(int code, int newSelection) {
+		return (code & ~(slotMask << overclockShift)) | ((newSelection + 1) << overclockShift);
+	}
+	
+	/****************************************************************************************
+	* Strings (output edge only)
+	****************************************************************************************/
+	
+	// Produces the exact same String as Weapon.getCombination() would for the same build.
+	public static String toCombination(int code) {
+		char[] toReturn = new char[numSlots];
+		for (int i = 0; i < 5; i++) {
+			toReturn[i] = modSymbols[(code >>> (i * bitsPerSlot)) & slotMask];
+		}
+		toReturn[5] = overclockSymbols[(code >>> overclockShift) & slotMask];
+		return new String(toReturn);
+	}
+	
+	// Returns -1 if the String isn't shaped like a combination at all. This doesn't know which Weapon the combination is for, so use isValid() afterwards.
+	public static int fromCombination(String combination) {
+		if (combination == null || combination.length() != numSlots) {
+			return -1;
+		}
+		
+		int code = 0;
+		char symbol;
+		int selection;
+		for (int i = 0; i < 5; i++) {
+			symbol = combination.charAt(i);
+			selection = (symbol < 128) ? modSymbolLookup[symbol] : -2;
+			if (selection == -2) {
+				return -1;
+			}
+			code |= (selection + 1) << (i * bitsPerSlot);
+		}
+		
+		symbol = combination.charAt(5);
+		selection = (symbol < 128) ? overclockSymbolLookup[symbol] : -2;
+		if (selection == -2) {
+			return -1;
+		}
+		return code | ((selection + 1) << overclockShift);
+	}
+	
+	/****************************************************************************************
+	* Validation
+	****************************************************************************************/
+	
+	/*
+		The validation table for a Weapon is just how many choices each slot has: {tier1.length, tier2.length, tier3.length, tier4.length, tier5.length, overclocks.length}.
+		It's fetched once per Weapon and then every check is six shifts and compares, instead of the character-by-character checks in Weapon.isCombinationValid().
+	*/
+	public static int[] getValidationTable(Weapon source) {
+		return new int[] {
+			source.getModsAtTier(1).length, source.getModsAtTier(2).length, source.getModsAtTier(3).length,
+			source.getModsAtTier(4).length, source.getModsAtTier(5).length, source.getOverclocks().length
+		};
+	}
+	
+	public static boolean isValid(int code, int[] validationTable) {
+		if (code < 0 || code > maxCode) {
+			return false;
+		}
+		
+		for (int i = 0; i < numSlots; i++) {
+			// Stored value is (index + 1), so the largest legal value in each slot is exactly the number of choices in that slot.
+			if (((code >>> (i * bitsPerSlot)) & slotMask) > validationTable[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,138 @@
+package dataGenerator;
+
+import modelPieces.EnemyContext;
+import weapons.Weapon;
+
+/*
+	Every metric in Weapon reads the selected Mods and Overclock straight from its own fields, so the only way to evaluate a build used to be equipping it on the Weapon
+	(which toggles the Mods and tells the GUI to redraw itself). This class is the way around that: it takes a snapshot of a Weapon's settings when it gets constructed,
+	and then evaluates any BuildKey on a private copy of that Weapon that belongs to the current thread.
+	
+	The Weapon passed into the constructor is never modified, and the snapshot doesn't change if the user changes the Weapon afterwards. It's safe to call evaluate()
+	from as many threads at once as needed.
+*/
+public class BuildEvaluator {
+	
+	/****************************************************************************************
+	* Class Variables
+	****************************************************************************************/
+	
+	// 8 Burst DPS, 8 Sustained DPS, and then the 15 other metrics that get exported
+	public static final int numMetrics = Weapon.numMetricsInVector;
+	// These two metrics are integers, so the exporters need to know which columns to print as %d
+	public static final int maxNumTargetsIndex = 17;
+	public static final int breakpointsIndex = 26;
+	
+	private Weapon snapshot;
+	private ThreadLocal<Weapon> privateWeapons;
+	
+	/****************************************************************************************
+	* Constructors
+	****************************************************************************************/
+	
+	public BuildEvaluator(Weapon toEvaluate) {
+		this(toEvaluate, null);
+	}
+	
+	// Evaluates every build at this Hazard Level and player count, no matter what the GUI is set to. Evaluators for different difficulties can run at the same time.
+	public BuildEvaluator(Weapon toEvaluate, int hazardLevel, int playerCount) {
+		this(toEvaluate, EnemyContext.forDifficulty(hazardLevel, playerCount));
+	}
+	
+	// A null context keeps whatever toEvaluate was already using.
+	public BuildEvaluator(Weapon toEvaluate, EnemyContext enemies) {
+		// This copy only ever gets read from, so all of the threads can clone it at the same time.
+		snapshot = toEvaluate.cloneForCalculations();
+		if (enemies != null) {
+			// Every private copy gets cloned from the snapshot, so they all inherit this context too.
+			snapshot.setEnemyContext(enemies);
+		}
+		
+		privateWeapons = new ThreadLocal<Weapon>() {
+			@Override
+			protected Weapon initialValue() {
+				return snapshot.cloneForCalculations();
+			}
+		};
+	}
+	
+	/****************************************************************************************
+	* Setters and Getters
+	****************************************************************************************/
+	
+	public String getSimpleName() {
+		return snapshot.getSimpleName();
+	}
+	public String getDwarfClass() {
+		return snapshot.getDwarfClass();
+	}
+	public int getDwarfClassID() {
+		return snapshot.getDwarfClassID();
+	}
+	public int getWeaponID() {
+		return snapshot.getWeaponID();
+	}
+	
+	/****************************************************************************************
+	* Other Methods
+	****************************************************************************************/
+	
+	public double[] evaluate(BuildKey build) {
+		double[] toReturn = new double[numMetrics];
+		evaluate(build.getCode(), toReturn);
+		return toReturn;
+	}
+	public void evaluate(BuildKey build, double[] output) {
+		evaluate(build.getCode(), output);
+	}
+	// Fills the first numMetrics slots of output, in the same order as the columns of the CSV export. Builds that have already been evaluated come out of MetricsCache.
+	public void evaluate(int buildCode, double[] output) {
+		MetricsCache.getSharedCache().getMetrics(this, buildCode, output);
+	}
+	// Just one slot of the metric vector, for when a sweep only cares about a single metric.
+	public double evaluateMetric(int buildCode, int vectorIndex) {
+		return MetricsCache.getSharedCache().getMetric(this, buildCode, vectorIndex);
+	}
+	
+	// The cache key is built from the snapshot instead of the live Weapon, so it matches the settings that this evaluator actually calculates with.
+	MetricsCache.Key createCacheKey(int buildCode) {
+		return new MetricsCache.Key(snapshot, buildCode);
+	}
+	
+	/*
+		Returns this thread's private Weapon with the build equipped, for the few places that need a metric that isn't part of the vector (like the DPS that follows the
+		Weapon's own checkboxes). The returned Weapon must not be shared with other threads or attached to the GUI.
+	*/
+	public Weapon getWeaponForBuild(BuildKey build) {
+		return getWeaponForBuild(build.getCode());
+	}
+	public Weapon getWeaponForBuild(int buildCode) {
+		Weapon myWeapon = privateWeapons.get();
+		equipBuild(myWeapon, buildCode);
+		return myWeapon;
+	}
+	
+	// Only sets the mods and OC that are different from what's currently equipped, because setting the same one again just un-sets it.
+	private static void equipBuild(Weapon toChange, int buildCode) {
+		if (toChange.getBuildCode() == buildCode) {
+			return;
+		}
+		
+		int selection;
+		for (int tier = 1; tier < 6; tier++) {
+			selection = BuildCode.getModAtTier(buildCode, tier);
+			if (toChange.getSelectedModAtTier(tier) != selection) {
+				toChange.setSelectedModAtTier(tier, selection, false);
+			}
+		}
+		selection = BuildCode.getOverclock(buildCode);
+		if (toChange.getSelectedOverclock() != selection) {
+			toChange.setSelectedOverclock(selection, false);
+		}
+	}
+	
+	// Each Weapon knows how to calculate its whole metric vector at once, sharing all of the intermediate values between the 16 DPS variants.
+	public static void calculateAllMetrics(Weapon toEvaluate, double[] output) {
+		toEvaluate.calculateMetricVector(output);
+	}
+}
@@ -0,0 +1,104 @@
+package dataGenerator;
+
+import weapons.Weapon;
+
+/*
+	An immutable description of one build: the selected Mod at each of the 5 tiers, and the selected Overclock. Just like in Weapon, -1 means that nothing is equipped.
+	
+	Because it never changes after it gets constructed, the same BuildKey can be handed to as many threads as needed, and it can be used as a key in HashMaps.
+	Internally it's just a packed BuildCode, so equals() and hashCode() are a single int compare.
+*/
+public final class BuildKey {
+	
+	/****************************************************************************************
+	* Class Variables
+	****************************************************************************************/
+	
+	private final int code;
+	
+	/****************************************************************************************
+	* Constructors
+	****************************************************************************************/
+	
+	public BuildKey(int mod1, int mod2, int mod3, int mod4, int mod5, int oc) {
+		code = BuildCode.encode(mod1, mod2, mod3, mod4, mod5, oc);
+	}
+	
+	private BuildKey(int buildCode) {
+		code = buildCode;
+	}
+	public static BuildKey fromCode(int buildCode) {
+		return new BuildKey(buildCode);
+	}
+	
+	// Grabs whatever is currently equipped on the Weapon, without changing anything about it.
+	public static BuildKey fromWeapon(Weapon source) {
+		return new BuildKey(BuildCode.fromWeapon(source));
+	}
+	
+	/****************************************************************************************
+	* Setters and Getters
+	****************************************************************************************/
+	
+	public int getCode() {
+		return code;
+	}
+	
+	public int getModAtTier(int tierNumber) {
+		if (tierNumber > 0 && tierNumber < 6) {
+			return BuildCode.getModAtTier(code, tierNumber);
+		}
+		else {
+			System.out.println("Tier #" + tierNumber + " is not a valid tier of gear modifications");
+			return -2;
+		}
+	}
+	public int getOverclock() {
+		return BuildCode.getOverclock(code);
+	}
+	
+	// Since BuildKey is immutable, these return a new BuildKey with just that one tier changed.
+	public BuildKey withModAtTier(int tierNumber, int newSelection) {
+		if (tierNumber > 0 && tierNumber < 6) {
+			return new BuildKey(BuildCode.withModAtTier(code, tierNumber, newSelection));
+		}
+		else {
+			System.out.println("Tier #" + tierNumber + " is not a valid tier of gear modifications");
+			return this;
+		}
+	}
+	public BuildKey withOverclock(int newSelection) {
+		return new BuildKey(BuildCode.withOverclock(code, newSelection));
+	}
+	
+	/****************************************************************************************
+	* Other Methods
+	****************************************************************************************/
+	
+	// This matches Weapon.getCombination() exactly, since Mod letters and Overclock numbers are both derived from their index.
+	public String getCombination() {
+		return BuildCode.toCombination(code);
+	}
+	
+	@Override
+	public boolean equals(Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof BuildKey)) {
+			return false;
+		}
+		
+		return code == ((BuildKey) other).code;
+	}
+	
+	@Override
+	public int hashCode() {
+		return code;
+	}
+	
+	@Override
+	public String toString() {
+		return getCombination();
+	}
+}
@@ -0,0 +1,140 @@
+package dataGenerator;
+
+import java.io.File;
+import java.io.IOException;
+
+/*
+	The build_metrics table used to be spelled out line-by-line inside GuiController, which was fine while INSERT ... VALUES() was the only way to fill it. Now that the
+	same rows can also be written as a tab-separated file for LOAD DATA, both files need to agree on exactly which columns exist and what order they're in, so the schema
+	lives here once and both exports read it.
+	
+	The column order has to match the order MetricsCalculator writes the values in: the 4 identifying columns, the 16 DPS values, the 15 other metrics, and the patch ID.
+*/
+public class BuildMetricsTable {
+	
+	/****************************************************************************************
+	* Class Variables
+	****************************************************************************************/
+	
+	// Each entry is {column name, column type}. Every column is NOT NULL.
+	private static final String[][] columns = new String[][] {
+		{"character_id", "BIGINT UNSIGNED"},
+		{"gun_id", "BIGINT UNSIGNED"},
+		{"weapon_short_name", "VARCHAR(20)"},
+		{"build_combination", "VARCHAR(6)"},
+		
+		// Burst DPS
+		{"ideal_burst_dps", "DOUBLE"},
+		{"burst_dps_wp", "DOUBLE"},
+		{"burst_dps_acc", "DOUBLE"},
+		{"burst_dps_aw", "DOUBLE"},
+		{"burst_dps_wp_acc", "DOUBLE"},
+		{"burst_dps_wp_aw", "DOUBLE"},
+		{"burst_dps_acc_aw", "DOUBLE"},
+		{"burst_dps_wp_acc_aw", "DOUBLE"},
+		
+		// Sustained DPS
+		{"ideal_sustained_dps", "DOUBLE"},
+		{"sustained_dps_wp", "DOUBLE"},
+		{"sustained_dps_acc", "DOUBLE"},
+		{"sustained_dps_aw", "DOUBLE"},
+		{"sustained_dps_wp_acc", "DOUBLE"},
+		{"sustained_dps_wp_aw", "DOUBLE"},
+		{"sustained_dps_acc_aw", "DOUBLE"},
+		{"sustained_dps_wp_acc_aw", "DOUBLE"},
+		
+		// GUI row 2
+		{"ideal_additional_target_dps", "DOUBLE"},
+		{"max_num_targets_per_shot", "INT"},
+		{"max_multi_target_damage", "DOUBLE"},
+		{"ammo_efficiency", "DOUBLE"},
+		{"damage_wasted_by_armor", "DOUBLE"},
+		
+		// GUI row 3
+		{"general_accuracy", "DOUBLE"},
+		{"weakpoint_accuracy", "DOUBLE"},
+		{"firing_duration", "DOUBLE"},
+		{"average_time_to_kill", "DOUBLE"},
+		
+		// GUI row 4
+		{"average_overkill", "DOUBLE"},
+		{"breakpoints", "INT"},
+		{"utility", "DOUBLE"},
+		{"average_time_to_ignite_or_freeze", "DOUBLE"},
+		
+		// Metrics not on GUI
+		{"damage_per_magazine", "DOUBLE"},
+		{"time_to_fire_magazine", "DOUBLE"},
+		
+		{"patch_id", "BIGINT UNSIGNED"}
+	};
+	
+	/****************************************************************************************
+	* Other Methods
+	****************************************************************************************/
+	
+	// Writes USE, DROP TABLE, and CREATE TABLE for build_metrics. The output is identical to what GuiController used to write by hand.
+	public static void writeCreateTable(MetricsFileWriter writer) throws IOException {
+		writer.append("USE `" + DatabaseConstants.databaseName + "`;\n\n");
+		writer.append("DROP TABLE IF EXISTS `" + DatabaseConstants.statsTableName + "`;\n\n");
+		writer.append("CREATE TABLE `" + DatabaseConstants.statsTableName + "` (\n");
+		writer.append("    `id` BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,\n");
+		
+		for (int i = 0; i < columns.length; i++) {
+			writer.append("    `" + columns[i][0] + "` " + columns[i][1] + " NOT NULL,\n");
+		}
+		
+		writer.append("\n");
+		writer.append("    PRIMARY KEY (`id`),\n\n");
+		writer.append("    FOREIGN KEY (`character_id`)\n");
+		writer.append("        REFERENCES characters(`id`),\n\n");
+		writer.append("    FOREIGN KEY (`gun_id`)\n");
+		writer.append("        REFERENCES guns(`id`),\n\n");
+		writer.append("    FOREIGN KEY (`patch_id`)\n");
+		writer.append("        REFERENCES patches(`id`)\n");
+		writer.append(");\n\n");
+	}
+	
+	/*
+		Everything a bulk-load script needs: the same table as writeCreateTable(), filled from a file written by MetricsCalculator.dumpMetricsToTSV().
+		The mysql client resolves a relative LOAD DATA LOCAL INFILE path against whatever folder it was started from, not the folder the script is in, so the script
+		always gets the full path to the .tsv file and can be run from anywhere.
+	*/
+	public static void writeLoadDataScript(MetricsFileWriter writer, File tsvFile) throws IOException {
+		writeCreateTable(writer);
+		writer.append("LOAD DATA LOCAL INFILE " + toStringLiteral(tsvFile.getAbsolutePath()) + "\n");
+		writer.append("    INTO TABLE `" + DatabaseConstants.statsTableName + "`\n");
+		writer.append("    CHARACTER SET utf8mb4\n");
+		writer.append("    FIELDS TERMINATED BY '\\t'\n");
+		writer.append("    LINES TERMINATED BY '\\n'\n");
+		writer.append("    " + getInsertColumnList() + ";\n");
+	}
+	
+	// MySQL takes forward slashes in Windows paths too, which is easier than escaping every backslash. Anything else that's special inside '...' gets a backslash.
+	private static String toStringLiteral(String path) {
+		if (File.separatorChar == '\\') {
+			path = path.replace('\\', '/');
+		}
+		else {
+			path = path.replace("\\", "\\\\");
+		}
+		return "'" + path.replace("'", "\\'") + "'";
+	}
+	
+	// "(`character_id`, `gun_id`, ..., `patch_id`)" -- every column except the auto-incremented id, in the same order as the rows get written.
+	public static String getInsertColumnList() {
+		StringBuilder toReturn = new StringBuilder("(");
+		for (int i = 0; i < columns.length; i++) {
+			if (i > 0) {
+				toReturn.append(", ");
+			}
+			toReturn.append('`').append(columns[i][0]).append('`');
+		}
+		toReturn.append(')');
+		return toReturn.toString();
+	}
+	
+	public static int getNumInsertColumns() {
+		return columns.length;
+	}
+}
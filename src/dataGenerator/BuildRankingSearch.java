@@ -0,0 +1,182 @@
+package dataGenerator;
+
+import weapons.Weapon;
+
+/*
+	getBestMetricCombination() only ever remembers one build per metric, so getting the runner-ups used to mean re-running the whole sweep once per metric. This class
+	does a single pass over every build and feeds each one into:
+		1. A TopBuildsHeap for every metric that the top K builds were requested for
+		2. A ParetoFront across a group of metrics, if one was requested (like Sustained DPS vs Ammo Efficiency vs Utility)
+	
+	Metrics use the same 0-14 numbering as the GUI and getBestMetricCombination(), including which ones are better when lower. Values that getBestMetricCombination()
+	would ignore (like -1 for Avg Time to Ignite/Freeze) are left out of the top K lists, so the first build of each list is always the same build that
+	getBestMetricCombination() returns. In the Pareto front those values count as the worst possible value instead.
+	
+	Builds get visited in the same order as ParallelBuildSweep, and every metric comes out of MetricsCache, so asking for metrics that were already exported or searched is fast.
+*/
+public class BuildRankingSearch {
+	
+	/****************************************************************************************
+	* Class Variables
+	****************************************************************************************/
+	
+	public static final int numDisplayedMetrics = 15;
+	
+	private ParallelBuildSweep sweep;
+	private BuildEvaluator evaluator;
+	// Translates each of the 15 displayed metrics into its slot in the metric vector, following the Weapon's DPS checkboxes
+	private int[] vectorIndexes;
+	
+	private TopBuildsHeap[] topBuilds;
+	private int[] paretoMetrics;
+	private ParetoFront paretoFront;
+	
+	/****************************************************************************************
+	* Constructors
+	****************************************************************************************/
+	
+	public BuildRankingSearch(Weapon toSearch, boolean subset) {
+		sweep = new ParallelBuildSweep(toSearch, subset);
+		evaluator = sweep.getEvaluator();
+		
+		vectorIndexes = new int[numDisplayedMetrics];
+		for (int i = 0; i < numDisplayedMetrics; i++) {
+			vectorIndexes[i] = toSearch.getMetricVectorIndex(i);
+		}
+		
+		topBuilds = new TopBuildsHeap[numDisplayedMetrics];
+		paretoMetrics = null;
+		paretoFront = null;
+	}
+	
+	/****************************************************************************************
+	* Setters and Getters
+	****************************************************************************************/
+	
+	public void requestTopBuilds(int metricIndex, int numBuilds) {
+		if (metricIndex < 0 || metricIndex >= numDisplayedMetrics) {
+			System.out.println("Metric #" + metricIndex + " is not one of the metrics displayed in the GUI");
+			return;
+		}
+		topBuilds[metricIndex] = new TopBuildsHeap(numBuilds);
+	}
+	
+	public void requestParetoFront(int[] metricIndexes) {
+		for (int i = 0; i < metricIndexes.length; i++) {
+			if (metricIndexes[i] < 0 || metricIndexes[i] >= numDisplayedMetrics) {
+				System.out.println("Metric #" + metricIndexes[i] + " is not one of the metrics displayed in the GUI");
+				return;
+			}
+		}
+		paretoMetrics = metricIndexes.clone();
+		paretoFront = new ParetoFront(paretoMetrics.length);
+	}
+	
+	// Returns an empty array if the top builds weren't requested for that metric.
+	public String[] getTopCombinations(int metricIndex) {
+		if (metricIndex < 0 || metricIndex >= numDisplayedMetrics || topBuilds[metricIndex] == null) {
+			return new String[0];
+		}
+		
+		int[] codes = topBuilds[metricIndex].getBuildCodesBestFirst(null);
+		String[] toReturn = new String[codes.length];
+		for (int i = 0; i < codes.length; i++) {
+			toReturn[i] = BuildCode.toCombination(codes[i]);
+		}
+		return toReturn;
+	}
+	// The metric values of getTopCombinations(), in the same order
+	public double[] getTopValues(int metricIndex) {
+		if (metricIndex < 0 || metricIndex >= numDisplayedMetrics || topBuilds[metricIndex] == null) {
+			return new double[0];
+		}
+		
+		double[] toReturn = new double[topBuilds[metricIndex].size()];
+		topBuilds[metricIndex].getBuildCodesBestFirst(toReturn);
+		if (MetricsCalculator.lowerValueIsBetter(metricIndex)) {
+			for (int i = 0; i < toReturn.length; i++) {
+				toReturn[i] = -toReturn[i];
+			}
+		}
+		return toReturn;
+	}
+	
+	public String[] getParetoCombinations() {
+		if (paretoFront == null) {
+			return new String[0];
+		}
+		
+		int[] codes = paretoFront.getBuildCodes();
+		String[] toReturn = new String[codes.length];
+		for (int i = 0; i < codes.length; i++) {
+			toReturn[i] = BuildCode.toCombination(codes[i]);
+		}
+		return toReturn;
+	}
+	
+	/****************************************************************************************
+	* Other Methods
+	****************************************************************************************/
+	
+	public void search() {
+		// Every metric that either a TopBuildsHeap or the ParetoFront needs. Each one only gets evaluated once per build, even if both need it.
+		boolean[] isNeeded = new boolean[numDisplayedMetrics];
+		int i;
+		for (i = 0; i < numDisplayedMetrics; i++) {
+			isNeeded[i] = topBuilds[i] != null;
+		}
+		if (paretoMetrics != null) {
+			for (i = 0; i < paretoMetrics.length; i++) {
+				isNeeded[paretoMetrics[i]] = true;
+			}
+		}
+		
+		double[] scores = new double[numDisplayedMetrics];
+		double[] paretoScores = null;
+		if (paretoMetrics != null) {
+			paretoScores = new double[paretoMetrics.length];
+		}
+		
+		int numBuilds = sweep.getNumBuilds();
+		int buildCode;
+		for (int order = 0; order < numBuilds; order++) {
+			buildCode = sweep.getBuildCodeAtIndex(order);
+			
+			for (i = 0; i < numDisplayedMetrics; i++) {
+				if (isNeeded[i]) {
+					scores[i] = toScore(i, evaluator.evaluateMetric(buildCode, vectorIndexes[i]));
+				}
+			}
+			
+			for (i = 0; i < numDisplayedMetrics; i++) {
+				// Same cutoff as the starting "best" value in getBestMetricCombination(): anything at or below it would never have been picked there either.
+				if (topBuilds[i] != null && scores[i] > -1000000) {
+					topBuilds[i].offer(scores[i], buildCode, order);
+				}
+			}
+			
+			if (paretoFront != null) {
+				for (i = 0; i < paretoMetrics.length; i++) {
+					paretoScores[i] = scores[paretoMetrics[i]];
+				}
+				paretoFront.offer(paretoScores, buildCode);
+			}
+		}
+	}
+	
+	// Higher is always better after this, and values that don't count become negative infinity.
+	private static double toScore(int metricIndex, double value) {
+		if (Double.isNaN(value)) {
+			return Double.NEGATIVE_INFINITY;
+		}
+		if (MetricsCalculator.lowerValueIsBetter(metricIndex)) {
+			if (value < 0) {
+				return Double.NEGATIVE_INFINITY;
+			}
+			return -value;
+		}
+		else {
+			return value;
+		}
+	}
+}
@@ -0,0 +1,11 @@
+package dataGenerator;
+
+/*
+	Lets whoever started a long Best Combination search watch how far along it is, and stop it early. Both methods get called from the thread that's doing the search,
+	so implementations have to be thread-safe (SwingWorker's setProgress() and isCancelled() already are).
+*/
+public interface BuildSearchMonitor {
+	// buildsCovered counts every build that's been evaluated so far, so it always ends at totalBuilds unless the search got cancelled.
+	public void reportProgress(long buildsCovered, long totalBuilds);
+	public boolean isCancelled();
+}
@@ -6,6 +6,11 @@ public class DatabaseConstants {
 	public static String modsTableName = "mods";
 	public static String OCsTableName = "overclocks";
 	
+	// How many builds go into each INSERT statement of the build_metrics dump. 1 gives the old one-INSERT-per-build file.
+	public static int statsRowsPerInsert = 500;
+	// The tab-separated file that the LOAD DATA version of the build_metrics dump reads from. It gets saved next to the .sql file, which loads it by its full path.
+	public static String statsBulkLoadFileName = "build_metrics.tsv";
+	
 	public static String patchNumber = "33.10";
 	public static int patchNumberID = 5;
 	
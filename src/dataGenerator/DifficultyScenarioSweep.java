@@ -0,0 +1,97 @@
+package dataGenerator;
+
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import modelPieces.EnemyInformation;
+import weapons.Weapon;
+
+/*
+	Exports every build of every Weapon at all 20 difficulties (Hazard 1-5 x 1-4 players) into one combined CSV, instead of having to click through the Difficulty
+	Scaling menu and export 20 times. Each difficulty gets its own ParallelBuildSweep whose BuildEvaluator is locked to that Hazard Level and player count, so all 20
+	of them get evaluated at the same time on the common ForkJoinPool without ever changing the difficulty that the GUI is set to.
+	
+	Rows are ordered by Weapon, then build (in the same order as the other exports), then Hazard Level, then player count. Just like MetricsCalculator's exports, the
+	builds get evaluated and written one chunk at a time, so memory use doesn't depend on how many builds there are.
+*/
+public class DifficultyScenarioSweep {
+	
+	/****************************************************************************************
+	* Class Variables
+	****************************************************************************************/
+	
+	public static final int numHazardLevels = EnemyInformation.numHazardLevels;
+	public static final int maxPlayerCount = EnemyInformation.maxPlayerCount;
+	public static final int numScenarios = numHazardLevels * maxPlayerCount;
+	
+	// Every chunk gets evaluated 20 times over, so this is smaller than MetricsCalculator's chunks to keep the memory use about the same.
+	private static final int buildsPerChunk = 128;
+	
+	/****************************************************************************************
+	* Other Methods
+	****************************************************************************************/
+	
+	public static String getHeaderLine() {
+		return "Hazard Level, Player Count, Class, Weapon, Mods/OC, " + String.join(", ", MetricsCalculator.metricColumnNames) + ",\n";
+	}
+	
+	// Scenario s is Hazard Level (s / 4) + 1 with (s % 4) + 1 players, so that the player count changes first.
+	public static int getHazardLevel(int scenario) {
+		return scenario / maxPlayerCount + 1;
+	}
+	public static int getPlayerCount(int scenario) {
+		return scenario % maxPlayerCount + 1;
+	}
+	
+	public static void exportToCSV(MetricsFileWriter writer, Weapon[] weapons) throws IOException {
+		writer.append(getHeaderLine());
+		for (int i = 0; i < weapons.length; i++) {
+			appendWeapon(writer, weapons[i]);
+		}
+	}
+	
+	private static void appendWeapon(MetricsFileWriter writer, Weapon toSweep) throws IOException {
+		ParallelBuildSweep[] sweeps = new ParallelBuildSweep[numScenarios];
+		String[] rowStarts = new String[numScenarios];
+		for (int s = 0; s < numScenarios; s++) {
+			sweeps[s] = new ParallelBuildSweep(toSweep, false, getHazardLevel(s), getPlayerCount(s));
+			rowStarts[s] = getHazardLevel(s) + ", " + getPlayerCount(s) + ", " + toSweep.getDwarfClass() + ", " + toSweep.getSimpleName() + ", ";
+		}
+		
+		int numBuilds = sweeps[0].getNumBuilds();
+		int chunkSize = Math.min(numBuilds, buildsPerChunk);
+		int[][] buildCodes = new int[numScenarios][chunkSize];
+		double[][][] metrics = new double[numScenarios][chunkSize][];
+		
+		final RecursiveAction[] tasks = new RecursiveAction[numScenarios];
+		int chunkEnd, i, s;
+		String combination;
+		for (int chunkStart = 0; chunkStart < numBuilds; chunkStart += chunkSize) {
+			chunkEnd = Math.min(chunkStart + chunkSize, numBuilds);
+			
+			// All 20 difficulties' share of this chunk go into the pool together, so the cores stay busy even when one difficulty's builds are slower than the others.
+			for (s = 0; s < numScenarios; s++) {
+				tasks[s] = sweeps[s].createTask(chunkStart, chunkEnd, buildCodes[s], metrics[s]);
+			}
+			ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+				private static final long serialVersionUID = 1L;
+				
+				@Override
+				protected void compute() {
+					invokeAll(tasks);
+				}
+			});
+			
+			for (i = 0; i < chunkEnd - chunkStart; i++) {
+				// Every sweep visits the builds in the same order, so the first one's BuildCodes apply to all of them.
+				combination = BuildCode.toCombination(buildCodes[0][i]);
+				for (s = 0; s < numScenarios; s++) {
+					writer.append(rowStarts[s]).append(combination);
+					MetricsCalculator.appendMetrics(writer, metrics[s][i], ", ");
+					writer.append(',').append('\n');
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,277 @@
+package dataGenerator;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import modelPieces.EnemyContext;
+import weapons.Weapon;
+
+/*
+	Best Combination, the CSV/MySQL exporters, CompareMetrics, and WeaponTab all used to recalculate the same builds from scratch every time they were used. This is one
+	shared cache of metric vectors that they all read from, so that clicking the same thing twice only does the math once.
+	
+	Each entry is keyed by everything that can change the numbers for a build:
+		1. Which Weapon model it is
+		2. The build itself (as a BuildCode)
+		3. Hazard Level and player count (from the Weapon's EnemyContext)
+		4. Status effects, accuracy distance, the recoil and moving settings of the AccuracyEstimator, and the user-set RoF (if any)
+	
+	Because the Hazard Level, player count, and accuracy distance are all part of the key, changing any of them automatically makes every old entry unreachable; there's no
+	way to read a number that was calculated for a different difficulty or distance. The old entries just sit there until they're the least recently used and get evicted,
+	which is handy when the user switches back and forth between two Hazard Levels.
+	
+	Entries are filled lazily, one metric at a time: Best Combination for a single metric only has to calculate that metric for each build, and a later export of the same
+	builds only has to calculate the other 30.
+*/
+public class MetricsCache {
+	
+	/****************************************************************************************
+	* Class Variables
+	****************************************************************************************/
+	
+	// Each entry is roughly 400 bytes, so this is about 13 MB when full -- enough to hold every build of the three largest Weapons at once.
+	private static final int defaultMaxEntries = 32768;
+	private static MetricsCache sharedCache = new MetricsCache(defaultMaxEntries);
+	
+	private int maxEntries;
+	private LinkedHashMap<Key, Entry> entries;
+	
+	private AtomicLong hits;
+	private AtomicLong misses;
+	private AtomicLong evictions;
+	
+	/****************************************************************************************
+	* Constructors
+	****************************************************************************************/
+	
+	public MetricsCache(int maximumNumberOfEntries) {
+		maxEntries = maximumNumberOfEntries;
+		hits = new AtomicLong(0);
+		misses = new AtomicLong(0);
+		evictions = new AtomicLong(0);
+		
+		// The third parameter set to true makes LinkedHashMap order its entries by when they were last accessed instead of when they were inserted, which is exactly LRU.
+		entries = new LinkedHashMap<Key, Entry>(1024, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+			
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+				if (size() > maxEntries) {
+					evictions.incrementAndGet();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+	
+	public static MetricsCache getSharedCache() {
+		return sharedCache;
+	}
+	
+	/****************************************************************************************
+	* Setters and Getters
+	****************************************************************************************/
+	
+	public synchronized void setMaxEntries(int newMax) {
+		if (newMax > 0) {
+			maxEntries = newMax;
+		}
+	}
+	public synchronized int getMaxEntries() {
+		return maxEntries;
+	}
+	public synchronized int size() {
+		return entries.size();
+	}
+	
+	public long getHits() {
+		return hits.get();
+	}
+	public long getMisses() {
+		return misses.get();
+	}
+	public long getEvictions() {
+		return evictions.get();
+	}
+	public String getStatistics() {
+		long h = hits.get();
+		long m = misses.get();
+		double hitRate = 0;
+		if (h + m > 0) {
+			hitRate = 100.0 * h / (h + m);
+		}
+		return "MetricsCache: " + size() + "/" + getMaxEntries() + " entries, " + h + " hits, " + m + " misses (" + String.format("%.1f", hitRate) + "% hit rate), " + evictions.get() + " evictions";
+	}
+	
+	public synchronized void clear() {
+		entries.clear();
+	}
+	public void resetStatistics() {
+		hits.set(0);
+		misses.set(0);
+		evictions.set(0);
+	}
+	
+	/****************************************************************************************
+	* Other Methods
+	****************************************************************************************/
+	
+	/*
+		These two methods are for a Weapon that already has the build equipped, like the ones in the GUI. On a miss, the metric gets calculated on that Weapon.
+	*/
+	public double getMetric(Weapon equippedWeapon, int vectorIndex) {
+		Entry e = getOrCreateEntry(new Key(equippedWeapon));
+		return readOrCalculate(e, vectorIndex, equippedWeapon, null, 0);
+	}
+	public void getMetrics(Weapon equippedWeapon, double[] output) {
+		Entry e = getOrCreateEntry(new Key(equippedWeapon));
+		readOrCalculateAll(e, output, equippedWeapon, null, 0);
+	}
+	
+	/*
+		These two are for BuildEvaluator: the key is made from the evaluator's snapshot and the BuildCode, so that a hit doesn't have to equip the build at all.
+		The build only gets equipped on the evaluator's private Weapon if something actually has to be calculated.
+	*/
+	public double getMetric(BuildEvaluator evaluator, int buildCode, int vectorIndex) {
+		Entry e = getOrCreateEntry(evaluator.createCacheKey(buildCode));
+		return readOrCalculate(e, vectorIndex, null, evaluator, buildCode);
+	}
+	public void getMetrics(BuildEvaluator evaluator, int buildCode, double[] output) {
+		Entry e = getOrCreateEntry(evaluator.createCacheKey(buildCode));
+		readOrCalculateAll(e, output, null, evaluator, buildCode);
+	}
+	
+	private synchronized Entry getOrCreateEntry(Key k) {
+		Entry toReturn = entries.get(k);
+		if (toReturn == null) {
+			toReturn = new Entry();
+			entries.put(k, toReturn);
+		}
+		return toReturn;
+	}
+	
+	private double readOrCalculate(Entry e, int vectorIndex, Weapon equippedWeapon, BuildEvaluator evaluator, int buildCode) {
+		long slotBit = 1L << vectorIndex;
+		synchronized (e) {
+			if ((e.calculatedSlots & slotBit) != 0) {
+				hits.incrementAndGet();
+				return e.values[vectorIndex];
+			}
+		}
+		
+		// The math happens outside of the lock so that other threads aren't blocked while this one works. If two threads race on the same slot, they both get the same answer.
+		misses.incrementAndGet();
+		if (equippedWeapon == null) {
+			equippedWeapon = evaluator.getWeaponForBuild(buildCode);
+		}
+		double value = equippedWeapon.calculateMetric(vectorIndex);
+		
+		synchronized (e) {
+			e.values[vectorIndex] = value;
+			e.calculatedSlots |= slotBit;
+		}
+		return value;
+	}
+	
+	private void readOrCalculateAll(Entry e, double[] output, Weapon equippedWeapon, BuildEvaluator evaluator, int buildCode) {
+		synchronized (e) {
+			if (e.calculatedSlots == Entry.allSlots) {
+				hits.incrementAndGet();
+				System.arraycopy(e.values, 0, output, 0, Weapon.numMetricsInVector);
+				return;
+			}
+		}
+		
+		misses.incrementAndGet();
+		if (equippedWeapon == null) {
+			equippedWeapon = evaluator.getWeaponForBuild(buildCode);
+		}
+		// Even if a few slots were already filled in, it's faster to let the Weapon calculate the whole vector in one pass than to do the missing ones one at a time.
+		equippedWeapon.calculateMetricVector(output);
+		
+		synchronized (e) {
+			System.arraycopy(output, 0, e.values, 0, Weapon.numMetricsInVector);
+			e.calculatedSlots = Entry.allSlots;
+		}
+	}
+	
+	private static class Entry {
+		private static final long allSlots = (1L << Weapon.numMetricsInVector) - 1;
+		
+		private double[] values = new double[Weapon.numMetricsInVector];
+		// One bit per slot of values[], set to 1 once that slot holds a real number
+		private long calculatedSlots = 0;
+	}
+	
+	public static final class Key {
+		private final String weaponModel;
+		private final int buildCode;
+		private final int hazardLevel;
+		private final int playerCount;
+		// Bits 0-3 are the 4 status effects, bit 4 is "model recoil", and bit 5 is "dwarf is moving"
+		private final int settingsFlags;
+		private final double accuracyDistance;
+		private final double customRoF;
+		
+		// Uses the build that's currently equipped on the Weapon
+		public Key(Weapon source) {
+			this(source, source.getBuildCode(), source.isCustomRoFSet() ? source.getCustomRoF() : 0);
+		}
+		// Uses every setting from the Weapon except for the build. Since the user-set RoF gets reset every time the build changes, it doesn't carry over to other builds.
+		public Key(Weapon contextSource, int build) {
+			this(contextSource, build, 0);
+		}
+		private Key(Weapon source, int build, double RoF) {
+			weaponModel = source.getClass().getName();
+			buildCode = build;
+			EnemyContext enemies = source.getEnemyContext();
+			hazardLevel = enemies.getHazardLevel();
+			playerCount = enemies.getPlayerCount();
+			
+			boolean[] statusEffects = source.getCurrentStatusEffects();
+			int flags = 0;
+			for (int i = 0; i < statusEffects.length; i++) {
+				if (statusEffects[i]) {
+					flags |= 1 << i;
+				}
+			}
+			if (source.isRecoilModeledInAccuracy()) {
+				flags |= 1 << 4;
+			}
+			if (source.isDwarfMoving()) {
+				flags |= 1 << 5;
+			}
+			settingsFlags = flags;
+			
+			accuracyDistance = source.getAccuracyDistance();
+			customRoF = RoF;
+		}
+		
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof Key)) {
+				return false;
+			}
+			
+			Key o = (Key) other;
+			return buildCode == o.buildCode && hazardLevel == o.hazardLevel && playerCount == o.playerCount && settingsFlags == o.settingsFlags
+				&& Double.compare(accuracyDistance, o.accuracyDistance) == 0 && Double.compare(customRoF, o.customRoF) == 0 && weaponModel.equals(o.weaponModel);
+		}
+		
+		@Override
+		public int hashCode() {
+			int toReturn = weaponModel.hashCode();
+			toReturn = toReturn * 31 + buildCode;
+			toReturn = toReturn * 31 + hazardLevel * 8 + playerCount;
+			toReturn = toReturn * 31 + settingsFlags;
+			long bits = Double.doubleToLongBits(accuracyDistance) ^ (Double.doubleToLongBits(customRoF) * 31);
+			toReturn = toReturn * 31 + (int) (bits ^ (bits >>> 32));
+			return toReturn;
+		}
+	}
+}
@@ -6,6 +6,13 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import weapons.Weapon;
 
@@ -14,6 +21,18 @@ public class MetricsCalculator {
 	private Weapon weaponToTest;
 	private File outputFolder;
 	
+	// How many builds the exporters evaluate before writing them out. Big enough to keep every core busy, small enough that memory use doesn't depend on the Weapon.
+	private static final int buildsPerExportChunk = 1024;
+	
+	// The column headers of the 31 metrics, in the same order as the metric vector. Every CSV export uses these.
+	static final String[] metricColumnNames = new String[] {
+		"Ideal Burst DPS", "Burst DPS (+WP)", "Burst DPS (+Acc)", "Burst DPS (+AW)", "Burst DPS (+WP, +Acc)", "Burst DPS (+WP, +AW)", "Burst DPS (+Acc, +AW)", "Burst DPS (+WP, +Acc, +AW)", 
+		"Ideal Sustained DPS", "Sustained DPS (+WP)", "Sustained DPS (+Acc)", "Sustained DPS (+AW)", "Sustained DPS (+WP, +Acc)", "Sustained DPS (+WP, +AW)", "Sustained DPS (+Acc, +AW)", "Sustained DPS (+WP, +Acc, +AW)", 
+		"Ideal Additional Target DPS", "Max Num Targets", "Max Multi-Target Dmg", "Ammo Efficiency", "Avg Damage Wasted by Armor",
+		"General Accuracy", "Weakpoint Accuracy", "Firing Duration", "Avg TTK", "Avg Overkill", "Breakpoints", "Utility", "Avg Time to Ignite/Freeze", 
+		"Damage per Magazine/Explosion", "Time to Fire Magazine"
+	};
+	
 	public MetricsCalculator(Weapon testingWeapon) {
 		weaponToTest = testingWeapon;
 		String defaultHomeFolder = System.getProperty("user.home");
@@ -58,6 +77,11 @@ public class MetricsCalculator {
 		}
 	}
 	
+	// The caller is responsible for closing the writer when it's done, which also flushes whatever is left in its buffer.
+	public MetricsFileWriter openFileWriter(String filename, boolean append) throws IOException {
+		return new MetricsFileWriter(new File(outputFolder, filename), append);
+	}
+	
 	public void changeWeapon(Weapon newWeaponToCalculate) {
 		weaponToTest = newWeaponToCalculate;
 	}
@@ -71,177 +95,145 @@ public class MetricsCalculator {
 				4. What is the best combination of mods and overclocks?
 		*/
 		
-		// Start by resetting all mods and overclocks to be unselected
-		String currentCombination = weaponToTest.getCombination();
-		weaponToTest.setSelectedModAtTier(1, -1, false);
-		weaponToTest.setSelectedModAtTier(2, -1, false);
-		weaponToTest.setSelectedModAtTier(3, -1, false);
-		weaponToTest.setSelectedModAtTier(4, -1, false);
-		weaponToTest.setSelectedModAtTier(5, -1, false);
-		weaponToTest.setSelectedOverclock(-1, false);
-		
 		// Clear out old data and write the header line.
 		String filename = weaponToTest.getDwarfClass() + "_" + weaponToTest.getSimpleName() + ".csv";
-		ArrayList<String> csvLinesToWrite = new ArrayList<String>();
 		
-		String[] headers = new String[] {"Mods/OC", 
-				"Ideal Burst DPS", "Burst DPS (+WP)", "Burst DPS (+Acc)", "Burst DPS (+AW)", "Burst DPS (+WP, +Acc)", "Burst DPS (+WP, +AW)", "Burst DPS (+Acc, +AW)", "Burst DPS (+WP, +Acc, +AW)", 
-				"Ideal Sustained DPS", "Sustained DPS (+WP)", "Sustained DPS (+Acc)", "Sustained DPS (+AW)", "Sustained DPS (+WP, +Acc)", "Sustained DPS (+WP, +AW)", "Sustained DPS (+Acc, +AW)", "Sustained DPS (+WP, +Acc, +AW)", 
-				"Ideal Additional Target DPS", "Max Num Targets", "Max Multi-Target Dmg", "Ammo Efficiency", "Avg Damage Wasted by Armor",
-				"General Accuracy", "Weakpoint Accuracy", "Firing Duration", "Avg TTK", "Avg Overkill", "Breakpoints", "Utility", "Avg Time to Ignite/Freeze", 
-				"Damage per Magazine/Explosion", "Time to Fire Magazine"};
-		String headerLine = String.join(", ", headers) + ",\n";
-		// Set append=False so that it clears existing lines
-		writeFile(headerLine, filename, false);
-		
-		// One String for the combination, and then 16 DPS and 13 other metrics
-		String format = "%s, %f, %f, %f, %f, %f, %f, %f, %f, %f, %f, %f, %f, %f, %f, %f, %f, %f, %d, %f, %f, %f, %f, %f, %f, %f, %f, %d, %f, %f, %f, %f,\n";
-		
-		int[] tier1 = weaponToTest.getModsAtTier(1, false);
-		int[] tier2 = weaponToTest.getModsAtTier(2, false);
-		int[] tier3 = weaponToTest.getModsAtTier(3, false);
-		int[] tier4 = weaponToTest.getModsAtTier(4, false);
-		int[] tier5 = weaponToTest.getModsAtTier(5, false);
-		int[] overclocks = weaponToTest.getOverclocks(false);
+		String headerLine = "Mods/OC, " + String.join(", ", metricColumnNames) + ",\n";
 		
-		// The overclocks are the outermost loop because they should change last, and tier 1 is the innermost loop since it should change first.
-		for (int oc: overclocks) {
-			weaponToTest.setSelectedOverclock(oc, false);
+		// Set append=False so that it clears existing lines
+		try (MetricsFileWriter writer = openFileWriter(filename, false)) {
+			writer.append(headerLine);
 			
-			for (int t5: tier5) {
-				weaponToTest.setSelectedModAtTier(5, t5, false);
-				
-				for (int t4: tier4) {
-					weaponToTest.setSelectedModAtTier(4, t4, false);
-					
-					for (int t3: tier3) {
-						weaponToTest.setSelectedModAtTier(3, t3, false);
-						
-						for (int t2: tier2) {
-							weaponToTest.setSelectedModAtTier(2, t2, false);
-							
-							for (int t1: tier1) {
-								weaponToTest.setSelectedModAtTier(1, t1, false);
-								
-								csvLinesToWrite.add(String.format(format, weaponToTest.getCombination(),
-									weaponToTest.calculateSingleTargetDPS(true, false, false, false), weaponToTest.calculateSingleTargetDPS(true, true, false, false), 
-									weaponToTest.calculateSingleTargetDPS(true, false, true, false), weaponToTest.calculateSingleTargetDPS(true, false, false, true), 
-									weaponToTest.calculateSingleTargetDPS(true, true, true, false), weaponToTest.calculateSingleTargetDPS(true, true, false, true), 
-									weaponToTest.calculateSingleTargetDPS(true, false, true, true), weaponToTest.calculateSingleTargetDPS(true, true, true, true), 
-									weaponToTest.calculateSingleTargetDPS(false, false, false, false), weaponToTest.calculateSingleTargetDPS(false, true, false, false), 
-									weaponToTest.calculateSingleTargetDPS(false, false, true, false), weaponToTest.calculateSingleTargetDPS(false, false, false, true), 
-									weaponToTest.calculateSingleTargetDPS(false, true, true, false), weaponToTest.calculateSingleTargetDPS(false, true, false, true), 
-									weaponToTest.calculateSingleTargetDPS(false, false, true, true), weaponToTest.calculateSingleTargetDPS(false, true, true, true), 
-									weaponToTest.calculateAdditionalTargetDPS(), weaponToTest.calculateMaxNumTargets(), weaponToTest.calculateMaxMultiTargetDamage(), 
-									weaponToTest.ammoEfficiency(), weaponToTest.damageWastedByArmor(), weaponToTest.getGeneralAccuracy(), weaponToTest.getWeakpointAccuracy(),
-									weaponToTest.calculateFiringDuration(), weaponToTest.averageTimeToKill(), weaponToTest.averageOverkill(), weaponToTest.breakpoints(), 
-									weaponToTest.utilityScore(), weaponToTest.averageTimeToCauterize(), weaponToTest.damagePerMagazine(), weaponToTest.timeToFireMagazine()
-								));
-								
-							}
-						}
-					}
-				}
-			}
+			// Every row is "combination, 16 DPS, 15 other metrics," and gets written as soon as its chunk of the sweep is done.
+			streamSweep(writer, null, 1, "", "", ", ", ",\n");
 		}
+		catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+	
+	// Uses the batch size from DatabaseConstants.statsRowsPerInsert
+	public void dumpMetricsToMySQL(MetricsFileWriter writer) throws IOException {
+		dumpMetricsToMySQL(writer, DatabaseConstants.statsRowsPerInsert);
+	}
+	
+	/*
+		Streams the INSERT statements straight into the writer, so that exporting all 19 weapons never holds more than one chunk of rows in memory. Each statement holds up to
+		rowsPerInsert builds as "INSERT INTO `build_metrics` VALUES(...),\n(...),\n(...);\n" so that MySQL only has to parse and commit once per batch instead of once per build.
+		With rowsPerInsert = 1 the file comes out exactly the same as the old one-INSERT-per-build dump.
+	*/
+	public void dumpMetricsToMySQL(MetricsFileWriter writer, int rowsPerInsert) throws IOException {
+		String statementStart = "INSERT INTO `" + DatabaseConstants.statsTableName + "` VALUES";
+		// Everything in front of the combination is the same for every row of this Weapon
+		String rowStart = "(NULL, " + weaponToTest.getDwarfClassID() + ", " + weaponToTest.getWeaponID() + ", '" + weaponToTest.getSimpleName() + "', ";
+		// After the combination come the 16 DPS and 15 other metrics, and then the patch ID ends the row
+		String rowEnd = ", " + DatabaseConstants.patchNumberID + ")";
 		
-		// Set append=True so that it appends the lines after the header line
-		writeFile(csvLinesToWrite, filename, true);
-		
-		// Finally, set the Weapon back to the mods/oc combination that it started at before the test.
-		weaponToTest.buildFromCombination(currentCombination);
+		streamSweep(writer, statementStart, Math.max(rowsPerInsert, 1), rowStart, "'", ", ", rowEnd);
 	}
 	
-	public ArrayList<String> dumpMetricsToMySQL() {
-		ArrayList<String> toReturn = new ArrayList<String>();
+	/*
+		Writes one line per build for MySQL's LOAD DATA INFILE, with the columns in the same order as BuildMetricsTable.getInsertColumnList(). Tab-separated values don't
+		need any quoting since none of the names or combinations can contain a tab, and the server can load them without parsing any SQL at all.
+	*/
+	public void dumpMetricsToTSV(MetricsFileWriter writer) throws IOException {
+		String rowStart = weaponToTest.getDwarfClassID() + "\t" + weaponToTest.getWeaponID() + "\t" + weaponToTest.getSimpleName() + "\t";
+		String rowEnd = "\t" + DatabaseConstants.patchNumberID + "\n";
 		
-		// Grab the current combination for the weapon to restore after this is done
-		String currentCombination = weaponToTest.getCombination();
-		int dwarfClassID = weaponToTest.getDwarfClassID();
-		int weaponID = weaponToTest.getWeaponID();
-		String simpleName = weaponToTest.getSimpleName();
+		streamSweep(writer, null, 1, rowStart, "", "\t", rowEnd);
+	}
+	
+	/*
+		Evaluates every build in chunks on the ParallelBuildSweep, and writes each row as: rowStart, the combination wrapped in combinationQuote, then separator followed
+		by each of the 31 metrics, then rowEnd. The doubles come out exactly the same as "%f" did in String.format(), and the two integer metrics the same as "%d".
 		
-		int[] tier1 = weaponToTest.getModsAtTier(1, false);
-		int[] tier2 = weaponToTest.getModsAtTier(2, false);
-		int[] tier3 = weaponToTest.getModsAtTier(3, false);
-		int[] tier4 = weaponToTest.getModsAtTier(4, false);
-		int[] tier5 = weaponToTest.getModsAtTier(5, false);
-		int[] overclocks = weaponToTest.getOverclocks(false);
+		If statementStart isn't null, the rows get grouped into SQL statements of up to rowsPerStatement rows each: statementStart goes in front of the first row,
+		",\n" between rows, and ";\n" after the last one. Statements can span across chunks, since the only thing that matters is how many rows have been written.
 		
-		String format = "INSERT INTO `%s` VALUES(NULL, %d, %d, '%s', '%s', "  			// Identifying this row
-				+ "%f, %f, %f, %f, %f, %f, %f, %f, %f, %f, %f, %f, %f, %f, %f, %f, "  	// 16 primary target DPS calculations
-				+ "%f, %d, %f, %f, %f, %f, %f, %f, %f, %f, %d, %f, %f, %f, %f, %d);\n";  	// 15 other metrics and patch ID
+		The same chunk arrays get reused for the whole sweep, so memory stays flat no matter how many builds there are.
+	*/
+	private void streamSweep(MetricsFileWriter writer, String statementStart, int rowsPerStatement, String rowStart, String combinationQuote, String separator, 
+							 String rowEnd) throws IOException {
+		ParallelBuildSweep sweep = new ParallelBuildSweep(weaponToTest, false);
+		int numBuilds = sweep.getNumBuilds();
+		int chunkSize = Math.min(numBuilds, buildsPerExportChunk);
+		int[] buildCodes = new int[chunkSize];
+		double[][] metrics = new double[chunkSize][];
 		
-		// The overclocks are the outermost loop because they should change last, and tier 1 is the innermost loop since it should change first.
-		for (int oc: overclocks) {
-			weaponToTest.setSelectedOverclock(oc, false);
+		int rowsInStatement = 0;
+		int chunkEnd, i;
+		for (int chunkStart = 0; chunkStart < numBuilds; chunkStart += chunkSize) {
+			chunkEnd = Math.min(chunkStart + chunkSize, numBuilds);
+			sweep.evaluateBuilds(chunkStart, chunkEnd, buildCodes, metrics);
 			
-			for (int t5: tier5) {
-				weaponToTest.setSelectedModAtTier(5, t5, false);
+			for (i = 0; i < chunkEnd - chunkStart; i++) {
+				if (statementStart != null && rowsInStatement == 0) {
+					writer.append(statementStart);
+				}
 				
-				for (int t4: tier4) {
-					weaponToTest.setSelectedModAtTier(4, t4, false);
-					
-					for (int t3: tier3) {
-						weaponToTest.setSelectedModAtTier(3, t3, false);
-						
-						for (int t2: tier2) {
-							weaponToTest.setSelectedModAtTier(2, t2, false);
-							
-							for (int t1: tier1) {
-								weaponToTest.setSelectedModAtTier(1, t1, false);
-								
-								toReturn.add(String.format(format, 
-									// Identifying this row
-									DatabaseConstants.statsTableName, dwarfClassID, weaponID, simpleName, weaponToTest.getCombination(),
-									// 8 Burst DPS
-									weaponToTest.calculateSingleTargetDPS(true, false, false, false), weaponToTest.calculateSingleTargetDPS(true, true, false, false), 
-									weaponToTest.calculateSingleTargetDPS(true, false, true, false), weaponToTest.calculateSingleTargetDPS(true, false, false, true), 
-									weaponToTest.calculateSingleTargetDPS(true, true, true, false), weaponToTest.calculateSingleTargetDPS(true, true, false, true), 
-									weaponToTest.calculateSingleTargetDPS(true, false, true, true), weaponToTest.calculateSingleTargetDPS(true, true, true, true), 
-									// 8 Sustained DPS
-									weaponToTest.calculateSingleTargetDPS(false, false, false, false), weaponToTest.calculateSingleTargetDPS(false, true, false, false), 
-									weaponToTest.calculateSingleTargetDPS(false, false, true, false), weaponToTest.calculateSingleTargetDPS(false, false, false, true), 
-									weaponToTest.calculateSingleTargetDPS(false, true, true, false), weaponToTest.calculateSingleTargetDPS(false, true, false, true), 
-									weaponToTest.calculateSingleTargetDPS(false, false, true, true), weaponToTest.calculateSingleTargetDPS(false, true, true, true), 
-									// 15 Other metrics and patch ID
-									weaponToTest.calculateAdditionalTargetDPS(), weaponToTest.calculateMaxNumTargets(), weaponToTest.calculateMaxMultiTargetDamage(), weaponToTest.ammoEfficiency(), weaponToTest.damageWastedByArmor(),
-									weaponToTest.getGeneralAccuracy(), weaponToTest.getWeakpointAccuracy(), weaponToTest.calculateFiringDuration(), weaponToTest.averageTimeToKill(), 
-									weaponToTest.averageOverkill(), weaponToTest.breakpoints(), weaponToTest.utilityScore(), weaponToTest.averageTimeToCauterize(), 
-									weaponToTest.damagePerMagazine(), weaponToTest.timeToFireMagazine(), DatabaseConstants.patchNumberID
-								));
-							}
-						}
+				writer.append(rowStart);
+				writer.append(combinationQuote).append(BuildCode.toCombination(buildCodes[i])).append(combinationQuote);
+				
+				appendMetrics(writer, metrics[i], separator);
+				writer.append(rowEnd);
+				
+				if (statementStart != null) {
+					rowsInStatement++;
+					if (rowsInStatement == rowsPerStatement || chunkStart + i == numBuilds - 1) {
+						writer.append(";\n");
+						rowsInStatement = 0;
+					}
+					else {
+						writer.append(",\n");
 					}
 				}
 			}
 		}
-		
-		// Return the weapon to the combination it had before
-		weaponToTest.buildFromCombination(currentCombination);
-		
-		return toReturn;
+	}
+	
+	// Writes separator followed by each of the 31 metrics. Shared with DifficultyScenarioSweep so that every export prints the numbers the same way.
+	static void appendMetrics(MetricsFileWriter writer, double[] row, String separator) throws IOException {
+		for (int j = 0; j < BuildEvaluator.numMetrics; j++) {
+			writer.append(separator);
+			if (j == BuildEvaluator.maxNumTargetsIndex || j == BuildEvaluator.breakpointsIndex) {
+				writer.appendInt((int) row[j]);
+			}
+			else {
+				writer.appendDouble(row[j]);
+			}
+		}
+	}
+	
+	// Damage Wasted by Armor, Fastest TTK, Lowest Overkill, Breakpoints, and Cauterize should all be lowest-possible values
+	private static final HashSet<Integer> indexesThatShouldUseLessThan = new HashSet<Integer>(Arrays.asList(new Integer[] {6, 10, 11, 12, 14}));
+	public static boolean lowerValueIsBetter(int metricIndex) {
+		return indexesThatShouldUseLessThan.contains(metricIndex);
 	}
 	
 	public String getBestMetricCombination(int metricIndex, boolean subset) {
+		return getBestMetricCombination(metricIndex, subset, null);
+	}
+	
+	// How many builds getBestMetricCombination() has to cover for this Weapon, so that progress across several Weapons can be added up before any of them start.
+	public long countBuilds(boolean subset) {
+		long toReturn = 1;
+		for (int tier = 1; tier <= 5; tier++) {
+			toReturn *= weaponToTest.getModsAtTier(tier, subset).length;
+		}
+		return toReturn * weaponToTest.getOverclocks(subset).length;
+	}
+	
+	/*
+		The monitor can be null. If it cancels the search partway through, this returns null instead of a combination, because the best build found so far is
+		probably not the real answer.
+	*/
+	public String getBestMetricCombination(int metricIndex, boolean subset, BuildSearchMonitor monitor) {
 		// Currently there are 15 metrics on display in the GUI (with the first 2 technically representing 8 different varieties of DPS each)
 		if (metricIndex < 0 || metricIndex > 14) {
 			return "------";
 		}
 		
-		// Damage Wasted by Armor, Fastest TTK, Lowest Overkill, Breakpoints, and Cauterize should all be lowest-possible values
-		Integer[] indexesThatShouldUseLessThan = new Integer[] {6, 10, 11, 12, 14};
-		boolean comparatorShouldBeLessThan = new HashSet<Integer>(Arrays.asList(indexesThatShouldUseLessThan)).contains(metricIndex);
-		
-		String bestCombination = "------";
-		double bestValue, currentValue;
-		// To the best of my knowledge, none of these values goes above 200k, so setting the starting "best" value at 1 million should automatically make the first combination tried the new best
-		if (comparatorShouldBeLessThan) {
-			bestValue = 1000000;
-		}
-		else {
-			bestValue = -1000000;
-		}
+		boolean comparatorShouldBeLessThan = lowerValueIsBetter(metricIndex);
 		
 		int[] tier1 = weaponToTest.getModsAtTier(1, subset);
 		int[] tier2 = weaponToTest.getModsAtTier(2, subset);
@@ -250,127 +242,78 @@ public class MetricsCalculator {
 		int[] tier5 = weaponToTest.getModsAtTier(5, subset);
 		int[] overclocks = weaponToTest.getOverclocks(subset);
 		
-		// Set these boolean values once instead of evaluating tier 1 about 3000 times
-		boolean onlyOneTier1 = tier1.length == 1;
-		boolean onlyOneTier2 = tier2.length == 1;
-		boolean onlyOneTier3 = tier3.length == 1;
-		boolean onlyOneTier4 = tier4.length == 1;
-		boolean onlyOneTier5 = tier5.length == 1;
-		boolean onlyOneOC = overclocks.length == 1;
-		
 		/*
-			This is important: because the current Weapon ALREADY has the wanted partial combination pre-selected when the menu for "Best Metric" gets called,
-			DO NOT, I repeat, DO NOT set the mod or overclock again, because that just un-sets it.
+			Because the current Weapon ALREADY has the wanted partial combination pre-selected when the menu for "Best Metric" gets called, the subset arrays above
+			only contain that one choice for the tiers the user has locked in. Every build gets evaluated on the BuildEvaluator's private copy of the Weapon,
+			so none of this un-sets anything on the Weapon in the GUI.
 		*/
+		BuildEvaluator evaluator = new BuildEvaluator(weaponToTest);
+		// Burst and Sustained DPS follow the Weapon's checkboxes, so this has to be looked up from the Weapon instead of just adding an offset.
+		int vectorIndex = weaponToTest.getMetricVectorIndex(metricIndex);
 		
+		int bestBuildCode = exhaustiveSearch(evaluator, vectorIndex, comparatorShouldBeLessThan, tier1, tier2, tier3, tier4, tier5, overclocks, monitor);
+		if (monitor != null && monitor.isCancelled()) {
+			return null;
+		}
+		
+		if (bestBuildCode < 0) {
+			return "------";
+		}
+		else {
+			return BuildCode.toCombination(bestBuildCode);
+		}
+	}
+	
+	/*
+		This is the original brute-force search: every single build gets evaluated. The metrics are all calculated by each Weapon's own code, so there's no formula to
+		bound what the rest of a partial build could add, and any shortcut that skips builds based on a guess can (and did) pick a different build than this does.
+		Builds that have already been evaluated come out of MetricsCache, which is what keeps repeated searches fast instead.
+	*/
+	private int exhaustiveSearch(BuildEvaluator evaluator, int vectorIndex, boolean comparatorShouldBeLessThan, int[] tier1, int[] tier2, int[] tier3, int[] tier4, int[] tier5, int[] overclocks, 
+								 BuildSearchMonitor monitor) {
+		// -1 is never a valid BuildCode, so it stands in for "no build found" until the very end.
+		int bestBuildCode = -1;
+		double bestValue, currentValue;
+		// To the best of my knowledge, none of these values goes above 200k, so setting the starting "best" value at 1 million should automatically make the first combination tried the new best
+		if (comparatorShouldBeLessThan) {
+			bestValue = 1000000;
+		}
+		else {
+			bestValue = -1000000;
+		}
+		
+		int currentBuild;
+		long totalBuilds = (long) overclocks.length * tier5.length * tier4.length * tier3.length * tier2.length * tier1.length;
+		long buildsCovered = 0;
 		// The overclocks are the outermost loop because they should change last, and tier 1 is the innermost loop since it should change first.
 		for (int oc: overclocks) {
-			if (!onlyOneOC) {
-				weaponToTest.setSelectedOverclock(oc, false);
-			}
-			
 			for (int t5: tier5) {
-				if (!onlyOneTier5) {
-					weaponToTest.setSelectedModAtTier(5, t5, false);
-				}
-				
 				for (int t4: tier4) {
-					if (!onlyOneTier4) {
-						weaponToTest.setSelectedModAtTier(4, t4, false);
-					}
-					
 					for (int t3: tier3) {
-						if (!onlyOneTier3) {
-							weaponToTest.setSelectedModAtTier(3, t3, false);
-						}
-						
 						for (int t2: tier2) {
-							if (!onlyOneTier2) {
-								weaponToTest.setSelectedModAtTier(2, t2, false);
+							if (monitor != null) {
+								if (monitor.isCancelled()) {
+									return -1;
+								}
+								monitor.reportProgress(buildsCovered, totalBuilds);
 							}
 							
 							for (int t1: tier1) {
-								if (!onlyOneTier1) {
-									weaponToTest.setSelectedModAtTier(1, t1, false);
-								}
-								
-								switch (metricIndex) {
-									case 0: {
-										currentValue = weaponToTest.calculateSingleTargetDPS(true);
-										break;
-									}
-									case 1: {
-										currentValue = weaponToTest.calculateSingleTargetDPS(false);
-										break;
-									}
-									case 2: {
-										currentValue = weaponToTest.calculateAdditionalTargetDPS();
-										break;
-									}
-									case 3: {
-										currentValue = weaponToTest.calculateMaxNumTargets();
-										break;
-									}
-									case 4: {
-										currentValue = weaponToTest.calculateMaxMultiTargetDamage();
-										break;
-									}
-									case 5: {
-										currentValue = weaponToTest.ammoEfficiency();
-										break;
-									}
-									case 6: {
-										currentValue = weaponToTest.damageWastedByArmor();
-										break;
-									}
-									case 7: {
-										currentValue = weaponToTest.getGeneralAccuracy();
-										break;
-									}
-									case 8: {
-										currentValue = weaponToTest.getWeakpointAccuracy();
-										break;
-									}
-									case 9: {
-										currentValue = weaponToTest.calculateFiringDuration();
-										break;
-									}
-									case 10: {
-										currentValue = weaponToTest.averageTimeToKill();
-										break;
-									}
-									case 11: {
-										currentValue = weaponToTest.averageOverkill();
-										break;
-									}
-									case 12: {
-										currentValue = weaponToTest.breakpoints();
-										break;
-									}
-									case 13: {
-										currentValue = weaponToTest.utilityScore();
-										break;
-									}
-									case 14: {
-										currentValue = weaponToTest.averageTimeToCauterize();
-										break;
-									}
-									default: {
-										currentValue = 0;
-										break;
-									}
-								}
+								currentBuild = BuildCode.encode(t1, t2, t3, t4, t5, oc);
+								// If this build has already been calculated (by an export, or an earlier Best Combination) it comes straight out of MetricsCache
+								currentValue = evaluator.evaluateMetric(currentBuild, vectorIndex);
+								buildsCovered++;
 								
 								if (comparatorShouldBeLessThan) {
 									// Adding the >= 0 check just for Cauterize, but it should be safe for all the other metrics too...
 									if (currentValue >= 0 && currentValue < bestValue) {
-										bestCombination = weaponToTest.getCombination();
+										bestBuildCode = currentBuild;
 										bestValue = currentValue;
 									}
 								}
 								else {
 									if (currentValue > bestValue) {
-										bestCombination = weaponToTest.getCombination();
+										bestBuildCode = currentBuild;
 										bestValue = currentValue;
 									}
 								}
@@ -381,6 +324,112 @@ public class MetricsCalculator {
 			}
 		}
 		
-		return bestCombination;
+		if (monitor != null) {
+			monitor.reportProgress(buildsCovered, totalBuilds);
+		}
+		return bestBuildCode;
+	}
+	
+	/*
+		Finds the best combination for every Weapon in the array at the same time, one task per Weapon on a thread pool, and only returns once all of them are done.
+		The searches don't depend on each other, so the whole thing takes about as long as the slowest Weapon instead of the sum of all of them (given enough cores).
+		
+		Each task only ever reads its own Weapon, but nothing stops the caller from changing those Weapons while the tasks are running, so pass in copies from
+		cloneForCalculations() if the originals are on display. The monitor (which can be null) sees the builds covered across all of the Weapons added together, and gets
+		called from several threads at once. Entries in the returned array are null for any Weapon whose search got cancelled or failed.
+	*/
+	public static String[] getBestMetricCombinations(final Weapon[] weaponsToSearch, final int metricIndex, final boolean subset, final BuildSearchMonitor monitor) {
+		final int numWeapons = weaponsToSearch.length;
+		String[] toReturn = new String[numWeapons];
+		if (numWeapons == 0) {
+			return toReturn;
+		}
+		
+		/*
+			Any Weapon that isn't pinned to a difficulty reads the one selected in the GUI every time it calculates something, and the user can change that while the
+			search is running. Searching copies that are pinned to whatever each Weapon is using right now keeps every build of a search scored at the same difficulty.
+		*/
+		final Weapon[] pinnedWeapons = new Weapon[numWeapons];
+		for (int i = 0; i < numWeapons; i++) {
+			pinnedWeapons[i] = weaponsToSearch[i].cloneForCalculations();
+			pinnedWeapons[i].setEnemyContext(weaponsToSearch[i].getEnemyContext());
+		}
+		
+		long total = 0;
+		for (int i = 0; i < numWeapons; i++) {
+			total += new MetricsCalculator(pinnedWeapons[i]).countBuilds(subset);
+		}
+		final long totalBuilds = total;
+		final AtomicLongArray buildsCoveredPerWeapon = new AtomicLongArray(numWeapons);
+		
+		List<Callable<String>> tasks = new ArrayList<Callable<String>>();
+		for (int i = 0; i < numWeapons; i++) {
+			final int weaponIndex = i;
+			// Each task reports its own progress here, and then the sum across all of the Weapons gets passed along to the real monitor.
+			final BuildSearchMonitor taskMonitor = new BuildSearchMonitor() {
+				@Override
+				public void reportProgress(long buildsCovered, long weaponTotal) {
+					buildsCoveredPerWeapon.set(weaponIndex, buildsCovered);
+					if (monitor != null) {
+						long sum = 0;
+						for (int j = 0; j < numWeapons; j++) {
+							sum += buildsCoveredPerWeapon.get(j);
+						}
+						monitor.reportProgress(sum, totalBuilds);
+					}
+				}
+				@Override
+				public boolean isCancelled() {
+					return monitor != null && monitor.isCancelled();
+				}
+			};
+			
+			tasks.add(new Callable<String>() {
+				@Override
+				public String call() {
+					return new MetricsCalculator(pinnedWeapons[weaponIndex]).getBestMetricCombination(metricIndex, subset, taskMonitor);
+				}
+			});
+		}
+		
+		int numThreads = Math.max(1, Math.min(numWeapons, Runtime.getRuntime().availableProcessors()));
+		ExecutorService pool = Executors.newFixedThreadPool(numThreads);
+		try {
+			// invokeAll() is the barrier: it doesn't return until every task has either finished or stopped because of the monitor.
+			List<Future<String>> results = pool.invokeAll(tasks);
+			for (int i = 0; i < numWeapons; i++) {
+				try {
+					toReturn[i] = results.get(i).get();
+				}
+				catch (ExecutionException e) {
+					e.printStackTrace();
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+		finally {
+			pool.shutdown();
+		}
+		
+		return toReturn;
+	}
+	
+	/*
+		These two do a single pass over every build with BuildRankingSearch. To get both the top builds for several metrics and a Pareto front at the same time, use
+		BuildRankingSearch directly instead so that the builds only get visited once.
+	*/
+	public String[] getTopMetricCombinations(int metricIndex, int numBuilds, boolean subset) {
+		BuildRankingSearch search = new BuildRankingSearch(weaponToTest, subset);
+		search.requestTopBuilds(metricIndex, numBuilds);
+		search.search();
+		return search.getTopCombinations(metricIndex);
+	}
+	public String[] getParetoOptimalCombinations(int[] metricIndexes, boolean subset) {
+		BuildRankingSearch search = new BuildRankingSearch(weaponToTest, subset);
+		search.requestParetoFront(metricIndexes);
+		search.search();
+		return search.getParetoCombinations();
 	}
 }
@@ -0,0 +1,250 @@
+package dataGenerator;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/*
+	The exporters used to build every line with String.format(), collect all of them in an ArrayList, and then write the whole list out at the end. For the MySQL dump
+	that meant holding every INSERT for all 19 weapons in memory at once. This writer streams instead: each line gets formatted straight into one large byte buffer,
+	and the buffer gets written to a FileChannel every time it fills up. Memory use is just the buffer, no matter how many rows go through it.
+	
+	appendDouble() produces exactly the same text as "%f" in String.format(): the shortest decimal representation of the double (the same digits that Double.toString()
+	uses), rounded HALF_UP to 6 decimal places. The only difference is that this always uses '.' as the decimal separator instead of following the default Locale,
+	which is what the CSV and SQL files need anyway.
+*/
+public class MetricsFileWriter implements Closeable {
+	
+	/****************************************************************************************
+	* Class Variables
+	****************************************************************************************/
+	
+	// 1 MB holds roughly 3000 rows of the CSV export, so the FileChannel only gets written to a few times per Weapon.
+	private static final int defaultBufferSize = 1 << 20;
+	private static final int numDecimalPlaces = 6;
+	
+	private FileChannel channel;
+	private byte[] buffer;
+	private ByteBuffer wrappedBuffer;
+	private int position;
+	
+	// Scratch space for appendDouble(), big enough for every digit a double can have in front of the decimal point plus the 6 after it
+	private byte[] digits;
+	
+	/****************************************************************************************
+	* Constructors
+	****************************************************************************************/
+	
+	public MetricsFileWriter(File out, boolean append) throws IOException {
+		this(out, append, defaultBufferSize);
+	}
+	
+	public MetricsFileWriter(File out, boolean append, int bufferSize) throws IOException {
+		if (append) {
+			channel = FileChannel.open(out.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		}
+		else {
+			channel = FileChannel.open(out.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+		}
+		
+		// Every single append needs room for at least one whole number, so don't let the buffer get smaller than that.
+		buffer = new byte[Math.max(bufferSize, 1024)];
+		wrappedBuffer = ByteBuffer.wrap(buffer);
+		position = 0;
+		digits = new byte[350];
+	}
+	
+	/****************************************************************************************
+	* Other Methods
+	****************************************************************************************/
+	
+	// Characters above 127 get encoded as UTF-8, to match what FileWriter did with the default charset.
+	public MetricsFileWriter append(String text) throws IOException {
+		int length = text.length();
+		char c;
+		for (int i = 0; i < length; i++) {
+			c = text.charAt(i);
+			if (c < 0x80) {
+				if (position == buffer.length) {
+					flushBuffer();
+				}
+				buffer[position++] = (byte) c;
+			}
+			else {
+				appendNonAscii(c);
+			}
+		}
+		return this;
+	}
+	
+	public MetricsFileWriter append(char c) throws IOException {
+		if (c < 0x80) {
+			if (position == buffer.length) {
+				flushBuffer();
+			}
+			buffer[position++] = (byte) c;
+		}
+		else {
+			appendNonAscii(c);
+		}
+		return this;
+	}
+	
+	// Surrogate pairs don't show up anywhere in this program's text, so each char just gets encoded on its own.
+	private void appendNonAscii(char c) throws IOException {
+		ensureRoom(3);
+		if (c < 0x800) {
+			buffer[position++] = (byte) (0xC0 | (c >> 6));
+			buffer[position++] = (byte) (0x80 | (c & 0x3F));
+		}
+		else {
+			buffer[position++] = (byte) (0xE0 | (c >> 12));
+			buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+			buffer[position++] = (byte) (0x80 | (c & 0x3F));
+		}
+	}
+	
+	// Same output as "%d"
+	public MetricsFileWriter appendInt(int value) throws IOException {
+		ensureRoom(11);
+		
+		long remaining = value;
+		if (remaining < 0) {
+			buffer[position++] = '-';
+			remaining = -remaining;
+		}
+		if (remaining == 0) {
+			buffer[position++] = '0';
+			return this;
+		}
+		
+		int numDigits = 0;
+		while (remaining > 0) {
+			digits[numDigits++] = (byte) ('0' + (remaining % 10));
+			remaining /= 10;
+		}
+		while (numDigits > 0) {
+			buffer[position++] = digits[--numDigits];
+		}
+		return this;
+	}
+	
+	// Same output as "%f"
+	public MetricsFileWriter appendDouble(double value) throws IOException {
+		if (Double.isNaN(value)) {
+			return append("NaN");
+		}
+		if (Double.isInfinite(value)) {
+			return append(value > 0 ? "Infinity" : "-Infinity");
+		}
+		
+		/*
+			Double.toString() gives the shortest digits that uniquely identify the double, either as "123.456" or as "1.23456E-5" / "1.23456E10". Those digits
+			get copied into digits[] with the decimal point removed, and pointIndex records how many of them belong in front of the decimal point.
+		*/
+		String shortest = Double.toString(value);
+		int length = shortest.length();
+		int exponentIndex = shortest.indexOf('E');
+		int mantissaEnd = (exponentIndex < 0) ? length : exponentIndex;
+		int exponent = 0;
+		if (exponentIndex >= 0) {
+			exponent = Integer.parseInt(shortest.substring(exponentIndex + 1));
+		}
+		
+		int start = (shortest.charAt(0) == '-') ? 1 : 0;
+		int numDigits = 0;
+		int pointIndex = -1;
+		char c;
+		for (int i = start; i < mantissaEnd; i++) {
+			c = shortest.charAt(i);
+			if (c == '.') {
+				pointIndex = numDigits;
+			}
+			else {
+				digits[numDigits++] = (byte) (c - '0');
+			}
+		}
+		pointIndex += exponent;
+		
+		// Pad with leading zeros until there's at least one digit in front of the decimal point, and trailing zeros until there are at least 7 after it.
+		if (pointIndex < 1) {
+			int shiftBy = 1 - pointIndex;
+			for (int i = numDigits - 1; i >= 0; i--) {
+				digits[i + shiftBy] = digits[i];
+			}
+			for (int i = 0; i < shiftBy; i++) {
+				digits[i] = 0;
+			}
+			numDigits += shiftBy;
+			pointIndex = 1;
+		}
+		while (numDigits < pointIndex + numDecimalPlaces + 1) {
+			digits[numDigits++] = 0;
+		}
+		
+		// HALF_UP: only the first digit past the 6th decimal place matters, because the digits are already the shortest exact representation.
+		int lastKept = pointIndex + numDecimalPlaces - 1;
+		boolean carry = digits[lastKept + 1] >= 5;
+		for (int i = lastKept; carry && i >= 0; i--) {
+			if (digits[i] == 9) {
+				digits[i] = 0;
+			}
+			else {
+				digits[i]++;
+				carry = false;
+			}
+		}
+		
+		ensureRoom(pointIndex + numDecimalPlaces + 3);
+		// "%f" keeps the minus sign even if the number rounds to 0, and prints it for -0.0 too.
+		if (Double.compare(value, 0.0) < 0) {
+			buffer[position++] = '-';
+		}
+		// The only way to carry past the first digit is if every digit was a 9, like 9.9999996 -> 10.000000
+		if (carry) {
+			buffer[position++] = '1';
+		}
+		
+		for (int i = 0; i < pointIndex; i++) {
+			buffer[position++] = (byte) ('0' + digits[i]);
+		}
+		buffer[position++] = '.';
+		for (int i = pointIndex; i <= lastKept; i++) {
+			buffer[position++] = (byte) ('0' + digits[i]);
+		}
+		return this;
+	}
+	
+	private void ensureRoom(int numBytes) throws IOException {
+		if (position + numBytes > buffer.length) {
+			flushBuffer();
+		}
+	}
+	
+	private void flushBuffer() throws IOException {
+		wrappedBuffer.clear();
+		wrappedBuffer.limit(position);
+		while (wrappedBuffer.hasRemaining()) {
+			channel.write(wrappedBuffer);
+		}
+		position = 0;
+	}
+	
+	public void flush() throws IOException {
+		flushBuffer();
+		channel.force(false);
+	}
+	
+	@Override
+	public void close() throws IOException {
+		try {
+			flushBuffer();
+		}
+		finally {
+			channel.close();
+		}
+	}
+}
@@ -0,0 +1,147 @@
+package dataGenerator;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import weapons.Weapon;
+
+/*
+	This class splits every combination of Mods and Overclocks for a Weapon into chunks that get evaluated in parallel on the common ForkJoinPool.
+	
+	Every build gets a flat index that follows the same order as the old nested for loops in MetricsCalculator: the Overclock changes last and Tier 1 changes first.
+	Because each task writes its results straight into the slot for that index in a preallocated array, the rows come out in exactly the same order as they used to
+	no matter which thread finished first.
+	
+	The actual math gets done by a BuildEvaluator, so the Weapon that was passed in never has its selection changed and can safely stay attached to the GUI while the sweep runs.
+*/
+public class ParallelBuildSweep {
+	
+	/****************************************************************************************
+	* Class Variables
+	****************************************************************************************/
+	
+	// Evaluating a single build can take anywhere from ~0.1ms to a few ms, so this is small enough to keep all the cores busy without drowning in task overhead.
+	private static final int buildsPerTask = 8;
+	
+	private BuildEvaluator evaluator;
+	private int[] tier1, tier2, tier3, tier4, tier5, overclocks;
+	private int numBuilds;
+	
+	/****************************************************************************************
+	* Constructors
+	****************************************************************************************/
+	
+	public ParallelBuildSweep(Weapon toSweep, boolean subset) {
+		this(toSweep, subset, new BuildEvaluator(toSweep));
+	}
+	
+	// Every build gets evaluated at this Hazard Level and player count, instead of the one the Difficulty Scaling menu is set to.
+	public ParallelBuildSweep(Weapon toSweep, boolean subset, int hazardLevel, int playerCount) {
+		this(toSweep, subset, new BuildEvaluator(toSweep, hazardLevel, playerCount));
+	}
+	
+	private ParallelBuildSweep(Weapon toSweep, boolean subset, BuildEvaluator toUse) {
+		evaluator = toUse;
+		
+		tier1 = toSweep.getModsAtTier(1, subset);
+		tier2 = toSweep.getModsAtTier(2, subset);
+		tier3 = toSweep.getModsAtTier(3, subset);
+		tier4 = toSweep.getModsAtTier(4, subset);
+		tier5 = toSweep.getModsAtTier(5, subset);
+		overclocks = toSweep.getOverclocks(subset);
+		
+		numBuilds = tier1.length * tier2.length * tier3.length * tier4.length * tier5.length * overclocks.length;
+	}
+	
+	/****************************************************************************************
+	* Setters and Getters
+	****************************************************************************************/
+	
+	public int getNumBuilds() {
+		return numBuilds;
+	}
+	
+	public BuildEvaluator getEvaluator() {
+		return evaluator;
+	}
+	
+	public int getBuildCodeAtIndex(int index) {
+		int t1 = tier1[index % tier1.length];
+		index /= tier1.length;
+		int t2 = tier2[index % tier2.length];
+		index /= tier2.length;
+		int t3 = tier3[index % tier3.length];
+		index /= tier3.length;
+		int t4 = tier4[index % tier4.length];
+		index /= tier4.length;
+		int t5 = tier5[index % tier5.length];
+		index /= tier5.length;
+		
+		return BuildCode.encode(t1, t2, t3, t4, t5, overclocks[index]);
+	}
+	
+	/****************************************************************************************
+	* Other Methods
+	****************************************************************************************/
+	
+	/*
+		Both arrays need to be at least getNumBuilds() long. After this method returns, buildCodes[i] holds the packed BuildCode for build i and
+		metrics[i] holds its 31 metrics in the same order as the columns of the CSV export.
+	*/
+	public void evaluateAllBuilds(int[] buildCodes, double[][] metrics) {
+		evaluateBuilds(0, numBuilds, buildCodes, metrics);
+	}
+	
+	/*
+		Same as evaluateAllBuilds(), but only for builds [start, end), so that the exporters can stream the sweep in chunks instead of holding every row at once.
+		Build i goes into buildCodes[i - start] and metrics[i - start]. Any rows of metrics that are already allocated get overwritten instead of replaced, so calling
+		this over and over with the same arrays doesn't allocate anything new.
+	*/
+	public void evaluateBuilds(int start, int end, int[] buildCodes, double[][] metrics) {
+		ForkJoinPool.commonPool().invoke(createTask(start, end, buildCodes, metrics));
+	}
+	
+	// The same work as evaluateBuilds(), but not started yet, so that DifficultyScenarioSweep can run several sweeps' chunks inside one invokeAll().
+	RecursiveAction createTask(int start, int end, int[] buildCodes, double[][] metrics) {
+		return new SweepTask(buildCodes, metrics, start, start, end);
+	}
+	
+	private class SweepTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		
+		private int[] buildCodes;
+		private double[][] metrics;
+		private int firstIndex, start, end;
+		
+		public SweepTask(int[] b, double[][] m, int f, int s, int e) {
+			buildCodes = b;
+			metrics = m;
+			firstIndex = f;
+			start = s;
+			end = e;
+		}
+		
+		@Override
+		protected void compute() {
+			if (end - start > buildsPerTask) {
+				int middle = (start + end) >>> 1;
+				invokeAll(new SweepTask(buildCodes, metrics, firstIndex, start, middle), new SweepTask(buildCodes, metrics, firstIndex, middle, end));
+				return;
+			}
+			
+			int buildCode;
+			double[] row;
+			for (int i = start; i < end; i++) {
+				buildCode = getBuildCodeAtIndex(i);
+				row = metrics[i - firstIndex];
+				if (row == null) {
+					row = new double[BuildEvaluator.numMetrics];
+					metrics[i - firstIndex] = row;
+				}
+				evaluator.evaluate(buildCode, row);
+				
+				buildCodes[i - firstIndex] = buildCode;
+			}
+		}
+	}
+}
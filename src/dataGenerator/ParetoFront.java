@@ -0,0 +1,120 @@
+package dataGenerator;
+
+/*
+	Holds every build that isn't dominated by another build across a group of metrics. One build dominates another if it's at least as good in every metric and
+	strictly better in at least one. All scores are "higher is better" by the time they get here; BuildRankingSearch flips the sign for metrics where less is better.
+	
+	The scores are stored in one flat double[] (numMetrics values per build) next to an int[] of BuildCodes, and both grow by doubling when they fill up. The front
+	is usually a few dozen builds at most, so checking each new build against all of them is cheap.
+	
+	If two builds have the exact same scores in every metric, only the first one offered is kept.
+*/
+public class ParetoFront {
+	
+	/****************************************************************************************
+	* Class Variables
+	****************************************************************************************/
+	
+	private int numMetrics;
+	private int size;
+	private double[] scores;
+	private int[] buildCodes;
+	
+	/****************************************************************************************
+	* Constructors
+	****************************************************************************************/
+	
+	public ParetoFront(int numberOfMetrics) {
+		numMetrics = numberOfMetrics;
+		size = 0;
+		scores = new double[16 * numMetrics];
+		buildCodes = new int[16];
+	}
+	
+	/****************************************************************************************
+	* Setters and Getters
+	****************************************************************************************/
+	
+	public int size() {
+		return size;
+	}
+	public int getNumMetrics() {
+		return numMetrics;
+	}
+	
+	// In the order that they were added to the front
+	public int[] getBuildCodes() {
+		int[] toReturn = new int[size];
+		System.arraycopy(buildCodes, 0, toReturn, 0, size);
+		return toReturn;
+	}
+	public double getScore(int frontIndex, int metric) {
+		return scores[frontIndex * numMetrics + metric];
+	}
+	
+	/****************************************************************************************
+	* Other Methods
+	****************************************************************************************/
+	
+	// Only the first numMetrics values of newScores are read. Returns true if the build joined the front.
+	public boolean offer(double[] newScores, int buildCode) {
+		int i;
+		for (i = 0; i < size; i++) {
+			if (dominatesOrEquals(i, newScores)) {
+				return false;
+			}
+		}
+		
+		// Remove everything that the new build dominates, sliding the rest down so that the front stays in the order the builds were added.
+		int kept = 0;
+		for (i = 0; i < size; i++) {
+			if (!isDominatedBy(i, newScores)) {
+				if (kept != i) {
+					System.arraycopy(scores, i * numMetrics, scores, kept * numMetrics, numMetrics);
+					buildCodes[kept] = buildCodes[i];
+				}
+				kept++;
+			}
+		}
+		size = kept;
+		
+		if (size == buildCodes.length) {
+			double[] newScoresArray = new double[2 * scores.length];
+			System.arraycopy(scores, 0, newScoresArray, 0, scores.length);
+			scores = newScoresArray;
+			
+			int[] newCodesArray = new int[2 * buildCodes.length];
+			System.arraycopy(buildCodes, 0, newCodesArray, 0, buildCodes.length);
+			buildCodes = newCodesArray;
+		}
+		
+		System.arraycopy(newScores, 0, scores, size * numMetrics, numMetrics);
+		buildCodes[size] = buildCode;
+		size++;
+		return true;
+	}
+	
+	private boolean dominatesOrEquals(int frontIndex, double[] other) {
+		int offset = frontIndex * numMetrics;
+		for (int m = 0; m < numMetrics; m++) {
+			if (scores[offset + m] < other[m]) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	private boolean isDominatedBy(int frontIndex, double[] other) {
+		int offset = frontIndex * numMetrics;
+		boolean strictlyBetterSomewhere = false;
+		for (int m = 0; m < numMetrics; m++) {
+			if (other[m] < scores[offset + m]) {
+				return false;
+			}
+			if (other[m] > scores[offset + m]) {
+				strictlyBetterSomewhere = true;
+			}
+		}
+		return strictlyBetterSomewhere;
+	}
+}
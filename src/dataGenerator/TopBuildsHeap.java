@@ -0,0 +1,157 @@
+package dataGenerator;
+
+/*
+	Keeps the K best builds out of everything offered to it, without ever holding more than K of them. It's a min-heap stored in three parallel primitive arrays, so the
+	root is always the worst build that's still being kept: a new build only has to be compared against the root to know if it makes the cut, and most of them don't.
+	
+	"Best" means the highest score. When two scores are equal the build with the lower order (the one the nested for loops would have reached first) wins, which matches
+	the tie-breaking of getBestMetricCombination().
+*/
+public class TopBuildsHeap {
+	
+	/****************************************************************************************
+	* Class Variables
+	****************************************************************************************/
+	
+	private int capacity;
+	private int size;
+	private double[] scores;
+	private int[] buildCodes;
+	private int[] orders;
+	
+	/****************************************************************************************
+	* Constructors
+	****************************************************************************************/
+	
+	public TopBuildsHeap(int maxNumBuilds) {
+		capacity = Math.max(maxNumBuilds, 1);
+		size = 0;
+		scores = new double[capacity];
+		buildCodes = new int[capacity];
+		orders = new int[capacity];
+	}
+	
+	/****************************************************************************************
+	* Setters and Getters
+	****************************************************************************************/
+	
+	public int getCapacity() {
+		return capacity;
+	}
+	public int size() {
+		return size;
+	}
+	
+	/****************************************************************************************
+	* Other Methods
+	****************************************************************************************/
+	
+	// Returns true if the build was kept.
+	public boolean offer(double score, int buildCode, int order) {
+		if (size < capacity) {
+			scores[size] = score;
+			buildCodes[size] = buildCode;
+			orders[size] = order;
+			siftUp(size);
+			size++;
+			return true;
+		}
+		
+		if (!isBetter(score, order, scores[0], orders[0])) {
+			return false;
+		}
+		
+		scores[0] = score;
+		buildCodes[0] = buildCode;
+		orders[0] = order;
+		siftDown(0);
+		return true;
+	}
+	
+	/*
+		Returns the kept BuildCodes from best to worst. The heap itself isn't changed, so this can be called as many times as needed.
+		If scoresOutput isn't null, it gets filled with the matching scores.
+	*/
+	public int[] getBuildCodesBestFirst(double[] scoresOutput) {
+		int[] sortedPositions = new int[size];
+		for (int i = 0; i < size; i++) {
+			sortedPositions[i] = i;
+		}
+		
+		// K is expected to be small (10 or so), so a simple insertion sort is faster than copying into objects to use Arrays.sort()
+		int j, current;
+		for (int i = 1; i < size; i++) {
+			current = sortedPositions[i];
+			j = i - 1;
+			while (j >= 0 && isBetter(scores[current], orders[current], scores[sortedPositions[j]], orders[sortedPositions[j]])) {
+				sortedPositions[j + 1] = sortedPositions[j];
+				j--;
+			}
+			sortedPositions[j + 1] = current;
+		}
+		
+		int[] toReturn = new int[size];
+		for (int i = 0; i < size; i++) {
+			toReturn[i] = buildCodes[sortedPositions[i]];
+			if (scoresOutput != null) {
+				scoresOutput[i] = scores[sortedPositions[i]];
+			}
+		}
+		return toReturn;
+	}
+	
+	private static boolean isBetter(double scoreA, int orderA, double scoreB, int orderB) {
+		return scoreA > scoreB || (scoreA == scoreB && orderA < orderB);
+	}
+	
+	private void siftUp(int position) {
+		int parent;
+		while (position > 0) {
+			parent = (position - 1) >>> 1;
+			// Min-heap: the worse build goes towards the root
+			if (isBetter(scores[parent], orders[parent], scores[position], orders[position])) {
+				swap(position, parent);
+				position = parent;
+			}
+			else {
+				break;
+			}
+		}
+	}
+	
+	private void siftDown(int position) {
+		int left, right, worst;
+		while (true) {
+			left = 2 * position + 1;
+			right = left + 1;
+			worst = position;
+			
+			if (left < size && isBetter(scores[worst], orders[worst], scores[left], orders[left])) {
+				worst = left;
+			}
+			if (right < size && isBetter(scores[worst], orders[worst], scores[right], orders[right])) {
+				worst = right;
+			}
+			
+			if (worst == position) {
+				break;
+			}
+			swap(position, worst);
+			position = worst;
+		}
+	}
+	
+	private void swap(int a, int b) {
+		double tempScore = scores[a];
+		scores[a] = scores[b];
+		scores[b] = tempScore;
+		
+		int temp = buildCodes[a];
+		buildCodes[a] = buildCodes[b];
+		buildCodes[b] = temp;
+		
+		temp = orders[a];
+		orders[a] = orders[b];
+		orders[b] = temp;
+	}
+}
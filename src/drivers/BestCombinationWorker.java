@@ -0,0 +1,197 @@
+package drivers;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
+
+import dataGenerator.BuildSearchMonitor;
+import dataGenerator.MetricsCalculator;
+import guiPieces.SearchProgressDialog;
+import guiPieces.View;
+import modelPieces.EnemyInformation;
+import weapons.Weapon;
+
+/*
+	Best Combination used to run inside actionPerformed(), which meant the whole window froze until every Weapon was done (a minute or more with "all models" checked).
+	This runs the same searches on a background thread instead, and keeps a SearchProgressDialog up to date with how many builds have been covered out of the total.
+	When there's more than one Weapon, MetricsCalculator.getBestMetricCombinations() searches all of them at the same time, one task per Weapon.
+	
+	Each Weapon gets copied with cloneForCalculations() on the Event Dispatch Thread before the search starts, so the background thread never reads a Weapon that the
+	GUI might be changing at the same time. The copies also get pinned to the difficulty that was selected when the search started, since the progress dialog doesn't
+	stop anyone from changing the Hazard Level or player count in the meantime. The results only get equipped on the real Weapons in done(), which Swing always calls
+	on the Event Dispatch Thread. If the search is cancelled, none of the Weapons get changed.
+	
+	Cancelling makes isDone() true and calls done() straight away, but the search threads only notice at their next check, so they can keep going for a little while
+	afterwards. GuiController uses isRunning() instead to only allow one search at a time, and that (along with the "Cancelling..." dialog) only goes away once
+	doInBackground() has actually returned, which MetricsCalculator.getBestMetricCombinations() doesn't do until every one of its threads has stopped.
+*/
+public class BestCombinationWorker extends SwingWorker<String[], String> implements BuildSearchMonitor {
+	
+	/****************************************************************************************
+	* Class Variables
+	****************************************************************************************/
+	
+	private View gui;
+	private SearchProgressDialog dialog;
+	private Weapon[] weaponsToChange;
+	private Weapon[] copies;
+	private int metricIndex;
+	private boolean subset;
+	
+	private int lastPercentReported;
+	
+	private volatile boolean running;
+	// Whichever of doInBackground() and done() sets this first is responsible for calling finish(). It's only done() if the search got cancelled before it ever started.
+	private AtomicBoolean backgroundStarted;
+	
+	/****************************************************************************************
+	* Constructors
+	****************************************************************************************/
+	
+	// Has to be constructed on the Event Dispatch Thread, since it copies the Weapons and builds the dialog.
+	public BestCombinationWorker(View inputGui, Weapon[] weapons, int metric, boolean onlySubset) {
+		gui = inputGui;
+		weaponsToChange = weapons;
+		metricIndex = metric;
+		subset = onlySubset;
+		
+		copies = new Weapon[weapons.length];
+		for (int i = 0; i < weapons.length; i++) {
+			copies[i] = weapons[i].cloneForCalculations();
+			copies[i].setEnemyContext(EnemyInformation.getContext());
+		}
+		lastPercentReported = 0;
+		running = false;
+		backgroundStarted = new AtomicBoolean(false);
+		
+		dialog = new SearchProgressDialog(gui, "Finding the best combination");
+		dialog.addCancelListener(new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				dialog.showCancelling();
+				cancel(false);
+			}
+		});
+		addPropertyChangeListener(new PropertyChangeListener() {
+			@Override
+			public void propertyChange(PropertyChangeEvent evt) {
+				if ("progress".equals(evt.getPropertyName())) {
+					dialog.setPercentComplete((Integer) evt.getNewValue());
+				}
+			}
+		});
+	}
+	
+	/****************************************************************************************
+	* Setters and Getters
+	****************************************************************************************/
+	
+	// True from start() until every search thread has stopped, even if the search was cancelled a while ago.
+	public boolean isRunning() {
+		return running;
+	}
+	
+	/****************************************************************************************
+	* Other Methods
+	****************************************************************************************/
+	
+	// Shows the dialog and the thinking cursor, then starts the background thread.
+	public void start() {
+		running = true;
+		gui.activateThinkingCursor();
+		dialog.setVisible(true);
+		execute();
+	}
+	
+	@Override
+	protected String[] doInBackground() {
+		if (!backgroundStarted.compareAndSet(false, true)) {
+			return null;
+		}
+		
+		try {
+			if (copies.length == 1) {
+				publish(copies[0].getFullName());
+			}
+			else {
+				publish("All " + copies.length + " weapons");
+			}
+			
+			return MetricsCalculator.getBestMetricCombinations(copies, metricIndex, subset, this);
+		}
+		finally {
+			// Every search thread has stopped by the time getBestMetricCombinations() returns, whether it finished or got cancelled.
+			SwingUtilities.invokeLater(new Runnable() {
+				@Override
+				public void run() {
+					finish();
+				}
+			});
+		}
+	}
+	
+	@Override
+	protected void process(List<String> chunks) {
+		dialog.setStatus(chunks.get(chunks.size() - 1));
+	}
+	
+	// Gets called by every Weapon's search thread at once, hence the synchronized. setProgress() takes care of getting the value over to the dialog.
+	@Override
+	public synchronized void reportProgress(long buildsCovered, long totalBuilds) {
+		if (totalBuilds < 1) {
+			return;
+		}
+		
+		int percent = (int) (100 * buildsCovered / totalBuilds);
+		percent = Math.max(0, Math.min(100, percent));
+		// Two threads can report out of order, so the bar only ever moves forwards
+		if (percent > lastPercentReported) {
+			lastPercentReported = percent;
+			setProgress(percent);
+		}
+	}
+	
+	@Override
+	protected void done() {
+		if (isCancelled() && backgroundStarted.compareAndSet(false, true)) {
+			// doInBackground() never ran, so nothing else is going to clean up.
+			finish();
+			return;
+		}
+		
+		try {
+			// Every search is finished by now, so all of the Weapons get their new builds at the same time.
+			String[] results = get();
+			for (int i = 0; i < weaponsToChange.length; i++) {
+				// A null result means that Weapon's search was cancelled partway through
+				if (results[i] != null) {
+					weaponsToChange[i].buildFromCombination(results[i]);
+				}
+			}
+		}
+		catch (CancellationException e) {
+			// The user pressed Cancel, so leave every Weapon the way it was.
+		}
+		catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+		catch (ExecutionException e) {
+			e.printStackTrace();
+		}
+	}
+	
+	// Only ever called once, on the Event Dispatch Thread, after the search threads have all stopped.
+	private void finish() {
+		dialog.dispose();
+		gui.deactivateThinkingCursor();
+		running = false;
+	}
+}
@@ -0,0 +1,333 @@
+package drivers;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import dataGenerator.BuildMetricsTable;
+import dataGenerator.DatabaseConstants;
+import dataGenerator.DifficultyScenarioSweep;
+import dataGenerator.MetricsCalculator;
+import dataGenerator.MetricsFileWriter;
+import modelPieces.EnemyContext;
+import weapons.Weapon;
+import weapons.driller.CryoCannon;
+import weapons.driller.EPC_ChargeShot;
+import weapons.driller.EPC_RegularShot;
+import weapons.driller.Flamethrower;
+import weapons.driller.Subata;
+import weapons.engineer.BreachCutter;
+import weapons.engineer.BreachCutter_Projectile;
+import weapons.engineer.GrenadeLauncher;
+import weapons.engineer.SMG;
+import weapons.engineer.Shotgun;
+import weapons.gunner.Autocannon;
+import weapons.gunner.BurstPistol;
+import weapons.gunner.Minigun;
+import weapons.gunner.Revolver;
+import weapons.scout.AssaultRifle;
+import weapons.scout.Boomstick;
+import weapons.scout.Classic_FocusShot;
+import weapons.scout.Classic_Hipfire;
+import weapons.scout.Zhukov;
+
+/*
+	GuiController builds the whole Swing window before anything can be exported, which doesn't work at all on a machine without a display. This runs the same
+	MetricsCalculator exports and Best Combination searches straight from the command line, and never constructs anything from guiPieces.
+	
+	Usage: java -Djava.awt.headless=true -cp <classpath> drivers.CommandLineRunner [options]
+		-weapons all | name,name,...   Weapons to use, matched against their short names or class names (default: all)
+		-hazard 1,2,...                 Hazard Levels to run (default: 4)
+		-players 1,2,...                Player counts to run (default: 4)
+		-format csv | mysql | tsv | best | difficulties
+		-metrics all | 0,1,...          For -format best: which of the 15 GUI metrics to search (default: all)
+		-top K                          For -format best: list the K best builds instead of just the best one
+		-output folder                  Where to write the files (default: the current folder)
+	
+	"-format difficulties" ignores -hazard and -players, and writes every build at all 20 difficulties into one file with DifficultyScenarioSweep.
+	
+	For the other formats, every Hazard Level x player count pair is its own scenario. When there's more than one, each scenario's files go into their own "haz#_#p"
+	subfolder, so several copies of this program can be started at once (one per scenario) without overwriting each other's files.
+*/
+public class CommandLineRunner {
+	
+	/****************************************************************************************
+	* Class Variables
+	****************************************************************************************/
+	
+	private static final String[] metricNames = new String[] {
+		"Burst DPS", "Sustained DPS", "Additional Target DPS", "Num Targets Hit", "Multi-Target Damage", "Ammo Efficiency", "Damage Wasted by Armor", "General Accuracy",
+		"Weakpoint Accuracy", "Firing Duration", "Avg Time To Kill", "Avg Overkill", "Breakpoints", "Utility", "Avg Time to Ignite/Freeze"
+	};
+	
+	private Weapon[] weapons;
+	private int[] hazardLevels;
+	private int[] playerCounts;
+	private String format;
+	private int[] metrics;
+	private int numTopBuilds;
+	private File outputFolder;
+	
+	/****************************************************************************************
+	* Constructors
+	****************************************************************************************/
+	
+	public static void main(String[] args) {
+		CommandLineRunner runner = new CommandLineRunner();
+		if (!runner.parseArguments(args)) {
+			printUsage();
+			System.exit(1);
+		}
+		
+		if (!runner.run()) {
+			System.exit(1);
+		}
+	}
+	
+	public CommandLineRunner() {
+		weapons = createAllWeapons();
+		hazardLevels = new int[] {4};
+		playerCounts = new int[] {4};
+		format = null;
+		metrics = new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14};
+		numTopBuilds = 1;
+		outputFolder = new File(System.getProperty("user.dir"));
+	}
+	
+	/****************************************************************************************
+	* Other Methods
+	****************************************************************************************/
+	
+	// Same Weapons, in the same order, as GuiController.main()
+	private static Weapon[] createAllWeapons() {
+		return new Weapon[] {
+			new Flamethrower(), new CryoCannon(), new Subata(), new EPC_RegularShot(), new EPC_ChargeShot(),
+			new Shotgun(), new SMG(), new GrenadeLauncher(), new BreachCutter(), new BreachCutter_Projectile(),
+			new Minigun(), new Autocannon(), new Revolver(), new BurstPistol(),
+			new AssaultRifle(), new Classic_Hipfire(), new Classic_FocusShot(), new Boomstick(), new Zhukov()
+		};
+	}
+	
+	private static void printUsage() {
+		System.out.println("Usage: drivers.CommandLineRunner -format csv|mysql|tsv|best|difficulties [-weapons all|name,...] [-hazard 1,...] [-players 1,...] "
+						   + "[-metrics all|0,...] [-top K] [-output folder]");
+		System.out.println("Metrics for -format best:");
+		for (int i = 0; i < metricNames.length; i++) {
+			System.out.println("    " + i + ": " + metricNames[i]);
+		}
+	}
+	
+	// Returns false if the arguments don't make sense, after printing why.
+	public boolean parseArguments(String[] args) {
+		String flag;
+		for (int i = 0; i < args.length; i++) {
+			flag = args[i];
+			if (i + 1 >= args.length) {
+				System.out.println("Missing a value after " + flag);
+				return false;
+			}
+			i++;
+			
+			try {
+				if (flag.equals("-weapons")) {
+					if (!selectWeapons(args[i])) {
+						return false;
+					}
+				}
+				else if (flag.equals("-hazard")) {
+					hazardLevels = parseIntegerList(args[i], 1, 5);
+				}
+				else if (flag.equals("-players")) {
+					playerCounts = parseIntegerList(args[i], 1, 4);
+				}
+				else if (flag.equals("-format")) {
+					format = args[i].toLowerCase();
+				}
+				else if (flag.equals("-metrics")) {
+					if (!args[i].equalsIgnoreCase("all")) {
+						metrics = parseIntegerList(args[i], 0, metricNames.length - 1);
+					}
+				}
+				else if (flag.equals("-top")) {
+					numTopBuilds = Integer.parseInt(args[i]);
+				}
+				else if (flag.equals("-output")) {
+					outputFolder = new File(args[i]);
+				}
+				else {
+					System.out.println("Unknown option " + flag);
+					return false;
+				}
+			}
+			catch (NumberFormatException e) {
+				System.out.println(e.getMessage());
+				return false;
+			}
+		}
+		
+		if (format == null) {
+			System.out.println("No -format given");
+			return false;
+		}
+		if (!format.equals("csv") && !format.equals("mysql") && !format.equals("tsv") && !format.equals("best") && !format.equals("difficulties")) {
+			System.out.println("Unknown format " + format);
+			return false;
+		}
+		if (hazardLevels == null || playerCounts == null || metrics == null || numTopBuilds < 1) {
+			return false;
+		}
+		return true;
+	}
+	
+	private boolean selectWeapons(String list) {
+		if (list.equalsIgnoreCase("all")) {
+			return true;
+		}
+		
+		Weapon[] allWeapons = weapons;
+		ArrayList<Weapon> selected = new ArrayList<Weapon>();
+		String[] names = list.split(",");
+		boolean found;
+		for (String name: names) {
+			name = name.trim();
+			found = false;
+			for (Weapon w: allWeapons) {
+				if (w.getSimpleName().equalsIgnoreCase(name) || w.getClass().getSimpleName().equalsIgnoreCase(name)) {
+					selected.add(w);
+					found = true;
+				}
+			}
+			if (!found) {
+				System.out.println("No weapon named " + name);
+				return false;
+			}
+		}
+		
+		weapons = selected.toArray(new Weapon[selected.size()]);
+		return true;
+	}
+	
+	// Returns null if any of the numbers is outside of [min, max]
+	private static int[] parseIntegerList(String list, int min, int max) {
+		String[] values = list.split(",");
+		int[] toReturn = new int[values.length];
+		for (int i = 0; i < values.length; i++) {
+			toReturn[i] = Integer.parseInt(values[i].trim());
+			if (toReturn[i] < min || toReturn[i] > max) {
+				System.out.println(toReturn[i] + " is outside of [" + min + ", " + max + "]");
+				return null;
+			}
+		}
+		return toReturn;
+	}
+	
+	public boolean run() {
+		if (format.equals("difficulties")) {
+			if (!outputFolder.isDirectory() && !outputFolder.mkdirs()) {
+				System.out.println("Could not create the folder " + outputFolder.getAbsolutePath());
+				return false;
+			}
+			
+			MetricsCalculator calculator = new MetricsCalculator(weapons[0]);
+			calculator.setOutputFolder(outputFolder);
+			try (MetricsFileWriter writer = calculator.openFileWriter("all_difficulties_metrics.csv", false)) {
+				DifficultyScenarioSweep.exportToCSV(writer, weapons);
+			}
+			catch (IOException e) {
+				e.printStackTrace();
+				return false;
+			}
+			return true;
+		}
+		
+		boolean useSubfolders = hazardLevels.length * playerCounts.length > 1;
+		File scenarioFolder;
+		EnemyContext scenario;
+		for (int h = 0; h < hazardLevels.length; h++) {
+			for (int p = 0; p < playerCounts.length; p++) {
+				// Every Weapon gets pinned to this scenario's difficulty the same way that DifficultyScenarioSweep does it, instead of changing the program-wide setting.
+				scenario = EnemyContext.forDifficulty(hazardLevels[h], playerCounts[p]);
+				for (Weapon w: weapons) {
+					w.setEnemyContext(scenario);
+				}
+				
+				scenarioFolder = outputFolder;
+				if (useSubfolders) {
+					scenarioFolder = new File(outputFolder, "haz" + hazardLevels[h] + "_" + playerCounts[p] + "p");
+				}
+				if (!scenarioFolder.isDirectory() && !scenarioFolder.mkdirs()) {
+					System.out.println("Could not create the folder " + scenarioFolder.getAbsolutePath());
+					return false;
+				}
+				
+				try {
+					runScenario(scenarioFolder, hazardLevels[h], playerCounts[p]);
+				}
+				catch (IOException e) {
+					e.printStackTrace();
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+	
+	private void runScenario(File folder, int hazardLevel, int playerCount) throws IOException {
+		MetricsCalculator calculator = new MetricsCalculator(weapons[0]);
+		calculator.setOutputFolder(folder);
+		
+		if (format.equals("csv")) {
+			for (Weapon w: weapons) {
+				calculator.changeWeapon(w);
+				calculator.exportMetricsToCSV();
+			}
+		}
+		else if (format.equals("mysql")) {
+			try (MetricsFileWriter writer = calculator.openFileWriter(DatabaseConstants.statsTableName + ".sql", false)) {
+				BuildMetricsTable.writeCreateTable(writer);
+				for (Weapon w: weapons) {
+					calculator.changeWeapon(w);
+					calculator.dumpMetricsToMySQL(writer);
+				}
+			}
+		}
+		else if (format.equals("tsv")) {
+			try (MetricsFileWriter writer = calculator.openFileWriter(DatabaseConstants.statsBulkLoadFileName, false)) {
+				for (Weapon w: weapons) {
+					calculator.changeWeapon(w);
+					calculator.dumpMetricsToTSV(writer);
+				}
+			}
+			try (MetricsFileWriter writer = calculator.openFileWriter(DatabaseConstants.statsTableName + "_bulk_load.sql", false)) {
+				BuildMetricsTable.writeLoadDataScript(writer, new File(calculator.getOutputFolder(), DatabaseConstants.statsBulkLoadFileName));
+			}
+		}
+		else {
+			// One line per result: "hazard, players, weapon, metric, rank, combination" so that several scenarios' output can just be concatenated.
+			// The plain Best Combination searches for each metric run on every Weapon at the same time.
+			String[][] bestPerMetric = new String[metrics.length][];
+			if (numTopBuilds == 1) {
+				for (int m = 0; m < metrics.length; m++) {
+					bestPerMetric[m] = MetricsCalculator.getBestMetricCombinations(weapons, metrics[m], false, null);
+				}
+			}
+			
+			String[] combinations;
+			for (int w = 0; w < weapons.length; w++) {
+				calculator.changeWeapon(weapons[w]);
+				for (int m = 0; m < metrics.length; m++) {
+					if (numTopBuilds > 1) {
+						combinations = calculator.getTopMetricCombinations(metrics[m], numTopBuilds, false);
+					}
+					else {
+						combinations = new String[] {bestPerMetric[m][w]};
+					}
+					
+					for (int i = 0; i < combinations.length; i++) {
+						System.out.println(hazardLevel + ", " + playerCount + ", " + weapons[w].getSimpleName() + ", " + metricNames[metrics[m]] + ", " + (i + 1) + ", " + combinations[i]);
+					}
+				}
+			}
+		}
+	}
+}
@@ -21,8 +21,11 @@ import javax.swing.JTextField;
 
 import buildComparators.CompareAccuracyGraphs;
 import buildComparators.CompareMetrics;
+import dataGenerator.BuildMetricsTable;
 import dataGenerator.DatabaseConstants;
+import dataGenerator.DifficultyScenarioSweep;
 import dataGenerator.MetricsCalculator;
+import dataGenerator.MetricsFileWriter;
 import guiPieces.HoverText;
 import guiPieces.View;
 import modelPieces.EnemyInformation;
@@ -66,6 +69,7 @@ public class GuiController implements ActionListener {
 	private CompareMetrics metricsComparator;
 	private CompareAccuracyGraphs accuracyComparator;
 	private JFileChooser folderChooser;
+	private BestCombinationWorker bestCombinationWorker;
 	
 	public static void main(String[] args) {
 		Weapon[] drillerWeapons = new Weapon[] {new Flamethrower(), new CryoCannon(), new Subata(), new EPC_RegularShot(), new EPC_ChargeShot()};
@@ -116,90 +120,97 @@ public class GuiController implements ActionListener {
 	}
 	
 	private void createMetricsMysqlFile() {
-		ArrayList<String> mysqlCommands = new ArrayList<String>();
-		mysqlCommands.add(String.format("USE `%s`;\n\n", DatabaseConstants.databaseName));
-		mysqlCommands.add(String.format("DROP TABLE IF EXISTS `%s`;\n\n", DatabaseConstants.statsTableName));
-		mysqlCommands.add(String.format("CREATE TABLE `%s` (\n", DatabaseConstants.statsTableName));
-		mysqlCommands.add("    `id` BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,\n");
-		mysqlCommands.add("    `character_id` BIGINT UNSIGNED NOT NULL,\n");
-		mysqlCommands.add("    `gun_id` BIGINT UNSIGNED NOT NULL,\n");
-		mysqlCommands.add("    `weapon_short_name` VARCHAR(20) NOT NULL,\n");
-		mysqlCommands.add("    `build_combination` VARCHAR(6) NOT NULL,\n");
-		
-		// Burst DPS
-		mysqlCommands.add("    `ideal_burst_dps` DOUBLE NOT NULL,\n");
-		mysqlCommands.add("    `burst_dps_wp` DOUBLE NOT NULL,\n");
-		mysqlCommands.add("    `burst_dps_acc` DOUBLE NOT NULL,\n");
-		mysqlCommands.add("    `burst_dps_aw` DOUBLE NOT NULL,\n");
-		mysqlCommands.add("    `burst_dps_wp_acc` DOUBLE NOT NULL,\n");
-		mysqlCommands.add("    `burst_dps_wp_aw` DOUBLE NOT NULL,\n");
-		mysqlCommands.add("    `burst_dps_acc_aw` DOUBLE NOT NULL,\n");
-		mysqlCommands.add("    `burst_dps_wp_acc_aw` DOUBLE NOT NULL,\n");
-		
-		// Sustained DPS
-		mysqlCommands.add("    `ideal_sustained_dps` DOUBLE NOT NULL,\n");
-		mysqlCommands.add("    `sustained_dps_wp` DOUBLE NOT NULL,\n");
-		mysqlCommands.add("    `sustained_dps_acc` DOUBLE NOT NULL,\n");
-		mysqlCommands.add("    `sustained_dps_aw` DOUBLE NOT NULL,\n");
-		mysqlCommands.add("    `sustained_dps_wp_acc` DOUBLE NOT NULL,\n");
-		mysqlCommands.add("    `sustained_dps_wp_aw` DOUBLE NOT NULL,\n");
-		mysqlCommands.add("    `sustained_dps_acc_aw` DOUBLE NOT NULL,\n");
-		mysqlCommands.add("    `sustained_dps_wp_acc_aw` DOUBLE NOT NULL,\n");
-		
-		// GUI row 2
-		mysqlCommands.add("    `ideal_additional_target_dps` DOUBLE NOT NULL,\n");
-		mysqlCommands.add("    `max_num_targets_per_shot` INT NOT NULL,\n");
-		mysqlCommands.add("    `max_multi_target_damage` DOUBLE NOT NULL,\n");
-		mysqlCommands.add("    `ammo_efficiency` DOUBLE NOT NULL,\n");
-		mysqlCommands.add("    `damage_wasted_by_armor` DOUBLE NOT NULL,\n");
-		
-		// GUI row 3
-		mysqlCommands.add("    `general_accuracy` DOUBLE NOT NULL,\n");
-		mysqlCommands.add("    `weakpoint_accuracy` DOUBLE NOT NULL,\n");
-		mysqlCommands.add("    `firing_duration` DOUBLE NOT NULL,\n");
-		mysqlCommands.add("    `average_time_to_kill` DOUBLE NOT NULL,\n");
-		
-		// GUI row 4
-		mysqlCommands.add("    `average_overkill` DOUBLE NOT NULL,\n");
-		mysqlCommands.add("    `breakpoints` INT NOT NULL,\n");
-		mysqlCommands.add("    `utility` DOUBLE NOT NULL,\n");
-		mysqlCommands.add("    `average_time_to_ignite_or_freeze` DOUBLE NOT NULL,\n");
-		
-		// Metrics not on GUI 
-		mysqlCommands.add("    `damage_per_magazine` DOUBLE NOT NULL,\n");
-		mysqlCommands.add("    `time_to_fire_magazine` DOUBLE NOT NULL,\n");
-		
-		mysqlCommands.add("    `patch_id` BIGINT UNSIGNED NOT NULL,\n\n");
-		mysqlCommands.add("    PRIMARY KEY (`id`),\n\n");
-		mysqlCommands.add("    FOREIGN KEY (`character_id`)\n");
-		mysqlCommands.add("        REFERENCES characters(`id`),\n\n");
-		mysqlCommands.add("    FOREIGN KEY (`gun_id`)\n");
-		mysqlCommands.add("        REFERENCES guns(`id`),\n\n");
-		mysqlCommands.add("    FOREIGN KEY (`patch_id`)\n");
-		mysqlCommands.add("        REFERENCES patches(`id`)\n");
-		mysqlCommands.add(");\n\n");
+		// Every INSERT gets streamed straight into the file as soon as it's calculated, instead of holding all 19 weapons' worth of them in memory until the end.
+		// Each INSERT holds DatabaseConstants.statsRowsPerInsert builds.
+		// Set append=False so that it clears out the old file
+		try (MetricsFileWriter writer = calculator.openFileWriter(DatabaseConstants.statsTableName + ".sql", false)) {
+			BuildMetricsTable.writeCreateTable(writer);
+			
+			int i;
+			for (i = 0; i < drillerWeapons.length; i++) {
+				calculator.changeWeapon(drillerWeapons[i]);
+				calculator.dumpMetricsToMySQL(writer);
+			}
+			for (i = 0; i < engineerWeapons.length; i++) {
+				calculator.changeWeapon(engineerWeapons[i]);
+				calculator.dumpMetricsToMySQL(writer);
+			}
+			for (i = 0; i < gunnerWeapons.length; i++) {
+				calculator.changeWeapon(gunnerWeapons[i]);
+				calculator.dumpMetricsToMySQL(writer);
+			}
+			for (i = 0; i < scoutWeapons.length; i++) {
+				calculator.changeWeapon(scoutWeapons[i]);
+				calculator.dumpMetricsToMySQL(writer);
+			}
+		}
+		catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+	
+	// Every build of every weapon at all 20 Hazard Level and player count combinations, in one file. The GUI's own Difficulty Scaling setting doesn't change.
+	private void createAllDifficultiesCSVFile() {
+		Weapon[] allWeapons = new Weapon[drillerWeapons.length + engineerWeapons.length + gunnerWeapons.length + scoutWeapons.length];
+		int i = 0;
+		for (Weapon w: drillerWeapons) {
+			allWeapons[i++] = w;
+		}
+		for (Weapon w: engineerWeapons) {
+			allWeapons[i++] = w;
+		}
+		for (Weapon w: gunnerWeapons) {
+			allWeapons[i++] = w;
+		}
+		for (Weapon w: scoutWeapons) {
+			allWeapons[i++] = w;
+		}
 		
-		int i;
-		for (i = 0; i < drillerWeapons.length; i++) {
-			calculator.changeWeapon(drillerWeapons[i]);
-			mysqlCommands.addAll(calculator.dumpMetricsToMySQL());
+		try (MetricsFileWriter writer = calculator.openFileWriter("all_difficulties_metrics.csv", false)) {
+			DifficultyScenarioSweep.exportToCSV(writer, allWeapons);
 		}
-		for (i = 0; i < engineerWeapons.length; i++) {
-			calculator.changeWeapon(engineerWeapons[i]);
-			mysqlCommands.addAll(calculator.dumpMetricsToMySQL());
+		catch (IOException e) {
+			e.printStackTrace();
 		}
-		for (i = 0; i < gunnerWeapons.length; i++) {
-			calculator.changeWeapon(gunnerWeapons[i]);
-			mysqlCommands.addAll(calculator.dumpMetricsToMySQL());
+	}
+	
+	/*
+		The fastest way to get a few million rows into MySQL is to skip SQL entirely: this writes every build's metrics to a tab-separated file, and a short .sql script
+		next to it that re-creates the table and then loads the file with LOAD DATA LOCAL INFILE. Both use the same table definition as createMetricsMysqlFile().
+		The script loads the .tsv file by its full path, so it can be run from any folder (for example "mysql --local-infile=1 < build_metrics_bulk_load.sql") as long
+		as the files don't get moved afterwards.
+	*/
+	private void createMetricsBulkLoadFiles() {
+		try (MetricsFileWriter writer = calculator.openFileWriter(DatabaseConstants.statsBulkLoadFileName, false)) {
+			int i;
+			for (i = 0; i < drillerWeapons.length; i++) {
+				calculator.changeWeapon(drillerWeapons[i]);
+				calculator.dumpMetricsToTSV(writer);
+			}
+			for (i = 0; i < engineerWeapons.length; i++) {
+				calculator.changeWeapon(engineerWeapons[i]);
+				calculator.dumpMetricsToTSV(writer);
+			}
+			for (i = 0; i < gunnerWeapons.length; i++) {
+				calculator.changeWeapon(gunnerWeapons[i]);
+				calculator.dumpMetricsToTSV(writer);
+			}
+			for (i = 0; i < scoutWeapons.length; i++) {
+				calculator.changeWeapon(scoutWeapons[i]);
+				calculator.dumpMetricsToTSV(writer);
+			}
 		}
-		for (i = 0; i < scoutWeapons.length; i++) {
-			calculator.changeWeapon(scoutWeapons[i]);
-			mysqlCommands.addAll(calculator.dumpMetricsToMySQL());
+		catch (IOException e) {
+			e.printStackTrace();
+			return;
 		}
 		
-		// Open the MySQL file once, then dump the accumulated ArrayList of lines all at once to minimize I/O time
-		// Set append=False so that it clears out the old file
-		calculator.writeFile(mysqlCommands, DatabaseConstants.statsTableName + ".sql", false);
+		try (MetricsFileWriter writer = calculator.openFileWriter(DatabaseConstants.statsTableName + "_bulk_load.sql", false)) {
+			BuildMetricsTable.writeLoadDataScript(writer, new File(calculator.getOutputFolder(), DatabaseConstants.statsBulkLoadFileName));
+		}
+		catch (IOException e) {
+			e.printStackTrace();
+		}
 	}
 	
 	private void createModsOCsMysqlFiles(boolean exportAll) {
@@ -372,8 +383,10 @@ public class GuiController implements ActionListener {
 		int i;
 		for (i = 0; i < 15; i++) {
 			if (e == gui.getOverallBestCombination(i)) {
-				
-				gui.activateThinkingCursor();
+				// Only one search at a time; the progress dialog for the one that's already running (or still cancelling) is still up.
+				if (bestCombinationWorker != null && bestCombinationWorker.isRunning()) {
+					return;
+				}
 				
 				/*
 					Because BCA metrics can be applied to all models, I chose to add 3 checkboxes into the menu that lets users select which of the 8 varieties of DPS they want
@@ -382,66 +395,50 @@ public class GuiController implements ActionListener {
 				*/
 				boolean[] bcaDPSCheckboxValues = gui.getDPSCheckboxValues();
 				
+				Weapon[] weaponsToSearch;
 				if (gui.calculateBestMetricAllModelsEnabled()) {
 					// When this checkbox is selected, then all models in the GUI should run this metric in sequence.
-					int j;
-					for (j = 0; j < drillerWeapons.length; j++) {
-						drillerWeapons[j].setWeakpointDPS(bcaDPSCheckboxValues[0], false);
-						drillerWeapons[j].setAccuracyDPS(bcaDPSCheckboxValues[1], false);
-						drillerWeapons[j].setArmorWastingDPS(bcaDPSCheckboxValues[2], false);
-						
-						calculator.changeWeapon(drillerWeapons[j]);
-						drillerWeapons[j].buildFromCombination(calculator.getBestMetricCombination(i, false));
+					weaponsToSearch = new Weapon[drillerWeapons.length + engineerWeapons.length + gunnerWeapons.length + scoutWeapons.length];
+					int j = 0;
+					for (Weapon w: drillerWeapons) {
+						weaponsToSearch[j++] = w;
 					}
-					for (j = 0; j < engineerWeapons.length; j++) {
-						engineerWeapons[j].setWeakpointDPS(bcaDPSCheckboxValues[0], false);
-						engineerWeapons[j].setAccuracyDPS(bcaDPSCheckboxValues[1], false);
-						engineerWeapons[j].setArmorWastingDPS(bcaDPSCheckboxValues[2], false);
-						
-						calculator.changeWeapon(engineerWeapons[j]);
-						engineerWeapons[j].buildFromCombination(calculator.getBestMetricCombination(i, false));
+					for (Weapon w: engineerWeapons) {
+						weaponsToSearch[j++] = w;
 					}
-					for (j = 0; j < gunnerWeapons.length; j++) {
-						gunnerWeapons[j].setWeakpointDPS(bcaDPSCheckboxValues[0], false);
-						gunnerWeapons[j].setAccuracyDPS(bcaDPSCheckboxValues[1], false);
-						gunnerWeapons[j].setArmorWastingDPS(bcaDPSCheckboxValues[2], false);
-						
-						calculator.changeWeapon(gunnerWeapons[j]);
-						gunnerWeapons[j].buildFromCombination(calculator.getBestMetricCombination(i, false));
+					for (Weapon w: gunnerWeapons) {
+						weaponsToSearch[j++] = w;
 					}
-					for (j = 0; j < scoutWeapons.length; j++) {
-						scoutWeapons[j].setWeakpointDPS(bcaDPSCheckboxValues[0], false);
-						scoutWeapons[j].setAccuracyDPS(bcaDPSCheckboxValues[1], false);
-						scoutWeapons[j].setArmorWastingDPS(bcaDPSCheckboxValues[2], false);
-						
-						calculator.changeWeapon(scoutWeapons[j]);
-						scoutWeapons[j].buildFromCombination(calculator.getBestMetricCombination(i, false));
+					for (Weapon w: scoutWeapons) {
+						weaponsToSearch[j++] = w;
 					}
-					
-					// Remember to change back to the weapon showing on the tab when they clicked this action
-					calculator.changeWeapon(currentlySelectedWeapon);
 				}
 				else {
-					currentlySelectedWeapon.setWeakpointDPS(bcaDPSCheckboxValues[0], false);
-					currentlySelectedWeapon.setAccuracyDPS(bcaDPSCheckboxValues[1], false);
-					currentlySelectedWeapon.setArmorWastingDPS(bcaDPSCheckboxValues[2], false);
-					
-					currentlySelectedWeapon.buildFromCombination(calculator.getBestMetricCombination(i, false));
+					weaponsToSearch = new Weapon[] {currentlySelectedWeapon};
+				}
+				
+				for (Weapon w: weaponsToSearch) {
+					w.setWeakpointDPS(bcaDPSCheckboxValues[0], false);
+					w.setAccuracyDPS(bcaDPSCheckboxValues[1], false);
+					w.setArmorWastingDPS(bcaDPSCheckboxValues[2], false);
 				}
 				
-				gui.deactivateThinkingCursor();
+				// The search runs in the background and equips the results when it's done, so the window stays responsive and the search can be cancelled.
+				bestCombinationWorker = new BestCombinationWorker(gui, weaponsToSearch, i, false);
+				bestCombinationWorker.start();
 				
 				// Empty return so that this method doesn't have to finish this for loop or evaluate the if/else block below afterwards
 				return;
 			}
 			else if (e == gui.getSubsetBestCombination(i)) {
-				gui.activateThinkingCursor();
+				if (bestCombinationWorker != null && bestCombinationWorker.isRunning()) {
+					return;
+				}
 				
 				// Because Best Combinations (Subset) only runs for the weapon shown on GUI at the moment, I have chosen not to add the 3 checkboxes for DPS metrics in the menu itself.
 				// If a user wants to know the subset combination for those metrics, they can toggle the buttons on the GUI and re-run BCS.
-				currentlySelectedWeapon.buildFromCombination(calculator.getBestMetricCombination(i, true));
-				
-				gui.deactivateThinkingCursor();
+				bestCombinationWorker = new BestCombinationWorker(gui, new Weapon[] {currentlySelectedWeapon}, i, true);
+				bestCombinationWorker.start();
 				
 				// Empty return so that this method doesn't have to finish this for loop or evaluate the if/else block below afterwards
 				return;
@@ -512,12 +509,24 @@ public class GuiController implements ActionListener {
 			}
 			gui.deactivateThinkingCursor();
 		}
+		else if (e == gui.getExportAllDifficulties()) {
+			chooseFolder();
+			gui.activateThinkingCursor();
+			createAllDifficultiesCSVFile();
+			gui.deactivateThinkingCursor();
+		}
 		else if (e == gui.getExportMetricsMySQL()) {
 			chooseFolder();
 			gui.activateThinkingCursor();
 			createMetricsMysqlFile();
 			gui.deactivateThinkingCursor();
 		}
+		else if (e == gui.getExportMetricsBulkLoad()) {
+			chooseFolder();
+			gui.activateThinkingCursor();
+			createMetricsBulkLoadFiles();
+			gui.deactivateThinkingCursor();
+		}
 		else if (e == gui.getExportModsOCsMySQL()) {
 			chooseFolder();
 			gui.activateThinkingCursor();
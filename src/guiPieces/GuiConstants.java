@@ -58,7 +58,8 @@ public class GuiConstants {
 	// This number determines the width of the edges of ModButton and OverclockButton objects
 	public static int edgeWidth = 4;
 	
-	public static int numDecimalPlaces = 4;
+	// Final so that it gets inlined as a constant: the Weapons use it in their Mod descriptions, and reading it shouldn't load the fonts when there's no GUI.
+	public static final int numDecimalPlaces = 4;
 	
 	// Black border gets used on all 4 panes of the WeaponTab, orange border is used on HoverText and AoEVisualizerButton
 	public static Border blackLine = BorderFactory.createLineBorder(Color.black);
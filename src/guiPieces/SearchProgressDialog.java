@@ -0,0 +1,64 @@
+package guiPieces;
+
+import java.awt.BorderLayout;
+import java.awt.event.ActionListener;
+
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JFrame;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JProgressBar;
+
+/*
+	A small non-modal window that shows how far along a Best Combination search is, with a button to stop it. It doesn't know anything about the search itself;
+	GuiController's worker updates it and listens to the Cancel button. Every method here has to be called on the Event Dispatch Thread.
+*/
+public class SearchProgressDialog extends JDialog {
+	
+	private static final long serialVersionUID = 1L;
+	
+	private JLabel status;
+	private JProgressBar progressBar;
+	private JButton cancelButton;
+	
+	public SearchProgressDialog(JFrame owner, String title) {
+		super(owner, title, false);
+		setDefaultCloseOperation(JDialog.DO_NOTHING_ON_CLOSE);
+		
+		JPanel contents = new JPanel(new BorderLayout(0, 8));
+		contents.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+		
+		status = new JLabel("Starting...");
+		contents.add(status, BorderLayout.NORTH);
+		
+		progressBar = new JProgressBar(0, 100);
+		progressBar.setStringPainted(true);
+		contents.add(progressBar, BorderLayout.CENTER);
+		
+		cancelButton = new JButton("Cancel");
+		JPanel buttonRow = new JPanel();
+		buttonRow.add(cancelButton);
+		contents.add(buttonRow, BorderLayout.SOUTH);
+		
+		setContentPane(contents);
+		setSize(420, 140);
+		setLocationRelativeTo(owner);
+	}
+	
+	public void setStatus(String text) {
+		status.setText(text);
+	}
+	public void setPercentComplete(int percent) {
+		progressBar.setValue(percent);
+	}
+	
+	public void addCancelListener(ActionListener listener) {
+		cancelButton.addActionListener(listener);
+	}
+	public void showCancelling() {
+		cancelButton.setEnabled(false);
+		status.setText("Cancelling...");
+	}
+}
@@ -38,7 +38,7 @@ public class View extends JFrame implements Observer {
 	private ButtonGroup dsHazGroup, dsPCGroup;
 	private JRadioButton dsHaz1, dsHaz2, dsHaz3, dsHaz4, dsHaz5, dsPC1, dsPC2, dsPC3, dsPC4;
 	private JMenu exportMenu;
-	private JMenuItem exportCurrent, exportAll, exportMetricsToMySQL, exportModsOCsToMySQL, exportChangedModsOCsToMySQL;
+	private JMenuItem exportCurrent, exportAll, exportMetricsToMySQL, exportMetricsBulkLoad, exportAllDifficulties, exportModsOCsToMySQL, exportChangedModsOCsToMySQL;
 	private JMenu compareMenu;
 	private JMenuItem buildMetricsComparison, buildAccuracyGraphsComparison;
 	private JMenuItem[] loadCombinationToColumns;
@@ -275,8 +275,12 @@ public class View extends JFrame implements Observer {
 		exportMenu.add(exportCurrent);
 		exportAll = new JMenuItem("Export all weapons' metrics to CSV");
 		exportMenu.add(exportAll);
+		exportAllDifficulties = new JMenuItem("Export all weapons' metrics at every difficulty to CSV");
+		exportMenu.add(exportAllDifficulties);
 		exportMetricsToMySQL = new JMenuItem("Export all weapons' metrics to MySQL");
 		exportMenu.add(exportMetricsToMySQL);
+		exportMetricsBulkLoad = new JMenuItem("Export all weapons' metrics to MySQL bulk-load files");
+		exportMenu.add(exportMetricsBulkLoad);
 		exportModsOCsToMySQL = new JMenuItem("Export all mods & OCs to MySQL");
 		exportMenu.add(exportModsOCsToMySQL);
 		exportChangedModsOCsToMySQL = new JMenuItem("Export changed mods & OCs to MySQL");
@@ -376,9 +380,15 @@ public class View extends JFrame implements Observer {
 	public JMenuItem getExportAll() {
 		return exportAll;
 	}
+	public JMenuItem getExportAllDifficulties() {
+		return exportAllDifficulties;
+	}
 	public JMenuItem getExportMetricsMySQL() {
 		return exportMetricsToMySQL;
 	}
+	public JMenuItem getExportMetricsBulkLoad() {
+		return exportMetricsBulkLoad;
+	}
 	public JMenuItem getExportModsOCsMySQL() {
 		return exportModsOCsToMySQL;
 	}
@@ -456,7 +466,9 @@ public class View extends JFrame implements Observer {
 		
 		exportCurrent.addActionListener(parent);
 		exportAll.addActionListener(parent);
+		exportAllDifficulties.addActionListener(parent);
 		exportMetricsToMySQL.addActionListener(parent);
+		exportMetricsBulkLoad.addActionListener(parent);
 		exportModsOCsToMySQL.addActionListener(parent);
 		exportChangedModsOCsToMySQL.addActionListener(parent);
 		
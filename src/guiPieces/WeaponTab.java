@@ -13,6 +13,7 @@ import javax.swing.JPanel;
 import javax.swing.SwingConstants;
 import javax.swing.border.EmptyBorder;
 
+import dataGenerator.MetricsCache;
 import guiPieces.accuracyEstimator.AccuracyEstimatorSettingsButton;
 import guiPieces.accuracyEstimator.AccuracyVisualizerButton;
 import guiPieces.customButtons.AoEVisualizerButton;
@@ -304,6 +305,13 @@ public class WeaponTab extends JPanel {
 		double originalSustainedDPS = myWeapon.getBaselineSustainedDPS();
 		double[] originalStats = myWeapon.getBaselineStats();
 		
+		/*
+			Most of these metrics come out of MetricsCache, so flipping back and forth between two builds doesn't redo all of the math every time. The four metrics with
+			an explanation popup (Armor Wasting, Overkill, Breakpoints, and Utility) still get calculated directly, because the popups read the per-creature arrays that
+			only get filled in when those methods actually run on myWeapon.
+		*/
+		MetricsCache cache = MetricsCache.getSharedCache();
+		
 		/******************************************
 			Row 1
 		******************************************/
@@ -314,7 +322,7 @@ public class WeaponTab extends JPanel {
 			toReturn.add(header);
 		}
 		
-		double burstDPS = myWeapon.calculateSingleTargetDPS(true);
+		double burstDPS = cache.getMetric(myWeapon, myWeapon.getMetricVectorIndex(0));
 		roundedNumber = leftPadSpaces + MathUtils.round(burstDPS, GuiConstants.numDecimalPlaces);
 		value = new JLabel(roundedNumber);
 		value.setFont(GuiConstants.customFontBold);
@@ -330,7 +338,7 @@ public class WeaponTab extends JPanel {
 		}
 		toReturn.add(value);
 		
-		double sustainedDPS = myWeapon.calculateSingleTargetDPS(false);
+		double sustainedDPS = cache.getMetric(myWeapon, myWeapon.getMetricVectorIndex(1));
 		roundedNumber = leftPadSpaces + MathUtils.round(sustainedDPS, GuiConstants.numDecimalPlaces);
 		value = new JLabel(roundedNumber);
 		value.setFont(GuiConstants.customFontBold);
@@ -361,7 +369,7 @@ public class WeaponTab extends JPanel {
 			toReturn.add(header);
 		}
 		
-		double additionalTargetDPS = myWeapon.calculateAdditionalTargetDPS();
+		double additionalTargetDPS = cache.getMetric(myWeapon, 16);
 		roundedNumber = leftPadSpaces + MathUtils.round(additionalTargetDPS, GuiConstants.numDecimalPlaces);
 		value = new JLabel(roundedNumber);
 		value.setFont(GuiConstants.customFontBold);
@@ -377,7 +385,7 @@ public class WeaponTab extends JPanel {
 		}
 		toReturn.add(value);
 		
-		int maxNumTargets = myWeapon.calculateMaxNumTargets();
+		int maxNumTargets = (int) cache.getMetric(myWeapon, 17);
 		int originalNumTargets = (int) originalStats[1];
 		if (myWeapon.currentlyDealsSplashDamage()) {
 			AoEVisualizerButton valButton = new AoEVisualizerButton(this, leftPadSpaces + maxNumTargets, myWeapon);
@@ -409,7 +417,7 @@ public class WeaponTab extends JPanel {
 			toReturn.add(value);
 		}
 		
-		double maxMultiDmg = myWeapon.calculateMaxMultiTargetDamage();
+		double maxMultiDmg = cache.getMetric(myWeapon, 18);
 		roundedNumber = leftPadSpaces + MathUtils.round(maxMultiDmg, GuiConstants.numDecimalPlaces);
 		value = new JLabel(roundedNumber);
 		value.setFont(GuiConstants.customFontBold);
@@ -425,7 +433,7 @@ public class WeaponTab extends JPanel {
 		}
 		toReturn.add(value);
 		
-		double ammoEfficiency = myWeapon.ammoEfficiency();
+		double ammoEfficiency = cache.getMetric(myWeapon, 19);
 		roundedNumber = leftPadSpaces + MathUtils.round(ammoEfficiency, GuiConstants.numDecimalPlaces);
 		value = new JLabel(roundedNumber);
 		value.setFont(GuiConstants.customFontBold);
@@ -467,7 +475,7 @@ public class WeaponTab extends JPanel {
 		/******************************************
 			Row 3
 		******************************************/
-		double generalAccuracy = myWeapon.getGeneralAccuracy();
+		double generalAccuracy = cache.getMetric(myWeapon, 21);
 		for (i = 2*headers.length/4; i < 3*headers.length/4; i++) {
 			// Special case: add the current AccEstimator distance on the Gen/WP Acc labels
 			if (generalAccuracy >= 0.0 && (i == 2*headers.length/4 + 1 || i == 2*headers.length/4 + 2)) {
@@ -514,7 +522,7 @@ public class WeaponTab extends JPanel {
 			toReturn.add(accSlideButton);
 		}
 		
-		double weakpointAccuracy = myWeapon.getWeakpointAccuracy();
+		double weakpointAccuracy = cache.getMetric(myWeapon, 22);
 		if (weakpointAccuracy < 0) {
 			value = new JLabel(leftPadSpaces + "Manually Aimed");
 			value.setFont(GuiConstants.customFontBold);
@@ -537,7 +545,7 @@ public class WeaponTab extends JPanel {
 		}
 		toReturn.add(value);
 		
-		double firingDuration = myWeapon.calculateFiringDuration();
+		double firingDuration = cache.getMetric(myWeapon, 23);
 		roundedNumber = leftPadSpaces + MathUtils.round(firingDuration, GuiConstants.numDecimalPlaces);
 		value = new JLabel(roundedNumber);
 		value.setFont(GuiConstants.customFontBold);
@@ -553,7 +561,7 @@ public class WeaponTab extends JPanel {
 		}
 		toReturn.add(value);
 		
-		double timeToKill = myWeapon.averageTimeToKill();
+		double timeToKill = cache.getMetric(myWeapon, 24);
 		roundedNumber = leftPadSpaces + MathUtils.round(timeToKill, GuiConstants.numDecimalPlaces);
 		value = new JLabel(roundedNumber);
 		value.setFont(GuiConstants.customFontBold);
@@ -633,7 +641,7 @@ public class WeaponTab extends JPanel {
 		}
 		toReturn.add(utilButton);
 		
-		double avgTimeToIgniteOrFreeze = myWeapon.averageTimeToCauterize();
+		double avgTimeToIgniteOrFreeze = cache.getMetric(myWeapon, 28);
 		if (avgTimeToIgniteOrFreeze < 0.0) {
 			value = new JLabel(leftPadSpaces + "N/A");
 			value.setFont(GuiConstants.customFontBold);
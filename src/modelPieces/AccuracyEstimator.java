@@ -38,6 +38,23 @@ public class AccuracyEstimator {
 	private double recoilPitch, recoilYaw, mass, springStiffness;
 	private double naturalFrequency, initialVelocity, recoilGoal, recoilPerShotEndTime;
 	
+	/*
+		Both calculateCircularAccuracy() and the Visualizer ask for the Spread and Recoil at one time after another, always going forwards. Replaying the whole magazine from 
+		t = 0 for every one of those made the accuracy O(magSize^2), which was really noticeable on the Minigun. Instead, the Spread right before each bullet gets worked out
+		once, and the Timeline remembers which bullets had been fired (and which ones were still recoiling) as of the last time it was asked about. Asking about a later time
+		only has to move forwards from there, and asking about an earlier time just starts back over from the first bullet.
+		
+		For practicality purposes, I have to model it as if the exact moment the bullet gets fired its Total Spread stays the same, and then gets added a very short time afterwards.
+	*/
+	private static final double spreadPerShotAddTime = 0.01;
+	// Spread right before each bullet gets fired, or null if it has to be replayed from the first bullet every time (see calculateSpreadTimeline())
+	private double[] spreadBeforeBullet;
+	private boolean spreadTimelineIsValid;
+	private double timelineTime;
+	// The last bullet fired at or before timelineTime (-1 if none have been), and the first bullet whose recoil might not have worn off yet.
+	private int timelineLastBullet;
+	private int timelineFirstRecoilingBullet;
+	
 	public AccuracyEstimator() {
 		// With these two values, recoil should be reduced to 0% in exactly 0.5 seconds.
 		delayBeforePlayerReaction = 0.15;  // seconds
@@ -74,6 +91,8 @@ public class AccuracyEstimator {
 	
 	public void setDwarfIsMoving(boolean newValue) {
 		dwarfIsMoving = newValue;
+		// The minimum Spread depends on this, so the Spread before each bullet has to be re-done.
+		spreadTimelineIsValid = false;
 	}
 	public boolean getDwarfIsMoving() {
 		return dwarfIsMoving;
@@ -115,18 +134,109 @@ public class AccuracyEstimator {
 		}
 	}
 	
+	// Has to be called whenever the timestamps, Spread, or Recoil change.
+	private void resetTimeline() {
+		spreadTimelineIsValid = false;
+		timelineTime = Double.NEGATIVE_INFINITY;
+		timelineLastBullet = -1;
+		timelineFirstRecoilingBullet = 0;
+	}
+	
+	private void moveTimelineTo(double t) {
+		if (!(t >= timelineTime)) {
+			timelineLastBullet = -1;
+			timelineFirstRecoilingBullet = 0;
+		}
+		timelineTime = t;
+		
+		while (timelineLastBullet + 1 < bulletFiredTimestamps.length && bulletFiredTimestamps[timelineLastBullet + 1] <= t) {
+			timelineLastBullet++;
+		}
+		// Once a bullet's recoil has worn off at time t, it's worn off for every time after t too.
+		while (timelineFirstRecoilingBullet <= timelineLastBullet && t > bulletFiredTimestamps[timelineFirstRecoilingBullet] + recoilPerShotEndTime) {
+			timelineFirstRecoilingBullet++;
+		}
+	}
+	
+	private double getMinimumSpread() {
+		if (dwarfIsMoving) {
+			return spreadPenaltyWhileMoving;
+		}
+		else {
+			return 0.0;
+		}
+	}
+	
+	/*
+		Every bullet before the last one fired by time t has had its Spread Per Shot added and then recovered all the way up to the next bullet, no matter what t is. So the
+		Spread right before each bullet can be added up one bullet at a time, with exactly the same math that getTotalSpreadAtTime() used to repeat for every t.
+		
+		That's only true if every bullet is more than spreadPerShotAddTime after the one before it, though (otherwise whether or not the Spread Per Shot has been added yet 
+		depends on t). For a RoF that high, this leaves spreadBeforeBullet null and getTotalSpreadAtTime() replays the magazine the old way.
+	*/
+	private void calculateSpreadTimeline() {
+		spreadTimelineIsValid = true;
+		spreadBeforeBullet = null;
+		
+		int numBullets = bulletFiredTimestamps.length;
+		for (int i = 0; i < numBullets - 1; i++) {
+			if (!(bulletFiredTimestamps[i + 1] > bulletFiredTimestamps[i] + spreadPerShotAddTime)) {
+				return;
+			}
+		}
+		
+		double minimumSpread = getMinimumSpread();
+		double[] timeline = new double[numBullets];
+		double currentSpread = minimumSpread;
+		for (int i = 0; i < numBullets; i++) {
+			timeline[i] = currentSpread;
+			
+			if (i < numBullets - 1) {
+				currentSpread = Math.min(currentSpread + spreadPerShot, maxBloom);
+				currentSpread = Math.max(currentSpread - (bulletFiredTimestamps[i + 1] - bulletFiredTimestamps[i]) * spreadRecoverySpeed, minimumSpread);
+			}
+		}
+		spreadBeforeBullet = timeline;
+	}
+	
 	private double getTotalSpreadAtTime(double t) {
 		// This method is modeled as if every bullet was fired at maximum possible RoF
+		if (!spreadTimelineIsValid) {
+			calculateSpreadTimeline();
+		}
 		
-		// For practicality purposes, I have to model it as if the exact moment the bullet gets fired its Total Spread stays the same, and then gets added a very short time afterwards.
-		double spreadPerShotAddTime = 0.01;
-		double minimumSpread;
-		if (dwarfIsMoving) {
-			minimumSpread = spreadPenaltyWhileMoving;
+		double currentSpread;
+		if (spreadBeforeBullet != null) {
+			moveTimelineTo(t);
+			double minimumSpread = getMinimumSpread();
+			
+			if (timelineLastBullet < 0) {
+				currentSpread = minimumSpread;
+			}
+			else {
+				// Only the most recent bullet's Spread depends on t
+				double bulletFiredTimestamp = bulletFiredTimestamps[timelineLastBullet];
+				currentSpread = spreadBeforeBullet[timelineLastBullet];
+				if (t > bulletFiredTimestamp + spreadPerShotAddTime) {
+					currentSpread = Math.min(currentSpread + spreadPerShot, maxBloom);
+				}
+				currentSpread = Math.max(currentSpread - (t - bulletFiredTimestamp) * spreadRecoverySpeed, minimumSpread);
+			}
 		}
 		else {
-			minimumSpread = 0.0;
+			currentSpread = replaySpreadAtTime(t);
 		}
+		
+		if (spreadTransformingCurve != null) {
+			return avgBaseSpread + spreadTransformingCurve.convertSpreadValue(currentSpread);
+		}
+		else {
+			return avgBaseSpread + currentSpread;
+		}
+	}
+	
+	private double replaySpreadAtTime(double t) {
+		double minimumSpread = getMinimumSpread();
 		double currentSpread = minimumSpread;
 		double bulletFiredTimestamp, nextTimestamp;
 		for (int i = 0; i < bulletFiredTimestamps.length; i++) {
@@ -156,27 +266,37 @@ public class AccuracyEstimator {
 			}
 		}
 		
-		if (spreadTransformingCurve != null) {
-			return avgBaseSpread + spreadTransformingCurve.convertSpreadValue(currentSpread);
-		}
-		else {
-			return avgBaseSpread + currentSpread;
-		}
+		return currentSpread;
 	}
 	
 	private double getRecoilPerShotOverTime(double t) {
 		return Math.pow(Math.E, -1.0 * naturalFrequency * t) * (initialVelocity * t);
 	}
 	
-	private double getTotalRecoilAtTime(double t, boolean playerReducingRecoil) {
+	// Adds up the recoil of every bullet from first to last that's still recoiling at time t, in the same order that the old loops over the whole magazine did.
+	private double sumRecoilOfBullets(double t, int first, int last) {
 		double total = 0.0;
 		double bulletFiredTimestamp;
+		for (int i = first; i <= last; i++) {
+			bulletFiredTimestamp = bulletFiredTimestamps[i];
+			if (bulletFiredTimestamp <= t && t <= bulletFiredTimestamp + recoilPerShotEndTime) {
+				total += getRecoilPerShotOverTime(t - bulletFiredTimestamp);
+			}
+		}
+		return total;
+	}
+	
+	private double getTotalRecoilAtTime(double t, boolean playerReducingRecoil) {
+		double total = 0.0;
 		
 		// Early exit condition: if the user disables "model recoil" just return 0 for all t
 		if (!modelRecoil) {
 			return 0;
 		}
 		
+		// Every bullet that could still be recoiling at time t is between these two
+		moveTimelineTo(t);
+		
 		if (playerReducingRecoil) {
 			// I'm choosing to model player-reduced recoil as if it goes to zero after 0.5 seconds. For weapons with RoF <=2, that means each burst of bullets become their own pocket of recoil, independent of each other.
 			if (rateOfFire > 2) {
@@ -185,12 +305,7 @@ public class AccuracyEstimator {
 					return 0;
 				}
 				
-				for (int i = 0; i < bulletFiredTimestamps.length; i++) {
-					bulletFiredTimestamp = bulletFiredTimestamps[i];
-					if (bulletFiredTimestamp <= t && t <= bulletFiredTimestamp + recoilPerShotEndTime) {
-						total += getRecoilPerShotOverTime(t - bulletFiredTimestamp);
-					}
-				}
+				total = sumRecoilOfBullets(t, timelineFirstRecoilingBullet, timelineLastBullet);
 				
 				double playerReductionMultiplier = 1.0;
 				if (t > delayBeforePlayerReaction) {
@@ -200,22 +315,18 @@ public class AccuracyEstimator {
 				return total * playerReductionMultiplier;
 			}
 			else {
-				// 1. Find the timestamp of the first bullet of the most recent burst
+				// 1. Find the timestamp of the first bullet of the most recent burst. The first burst that starts after t is the one after the last bullet fired.
 				int burstStartIndex = magSize - burstSize;  // Default to the last burst in the magazine 
-				for (int i = 1; i < magSize / burstSize; i++) {
-					if (bulletFiredTimestamps[i * burstSize] > t) {
-						burstStartIndex = (i - 1) * burstSize;
-						break;
-					}
+				int nextBurst = 1;
+				if (timelineLastBullet >= 0) {
+					nextBurst = timelineLastBullet / burstSize + 1;
+				}
+				if (nextBurst < magSize / burstSize) {
+					burstStartIndex = (nextBurst - 1) * burstSize;
 				}
 				
 				// 2. Add up the total recoil of that burst
-				for (int i = 0; i < burstSize; i++) {
-					bulletFiredTimestamp = bulletFiredTimestamps[burstStartIndex + i];
-					if (bulletFiredTimestamp <= t && t <= bulletFiredTimestamp + recoilPerShotEndTime) {
-						total += getRecoilPerShotOverTime(t - bulletFiredTimestamp);
-					}
-				}
+				total = sumRecoilOfBullets(t, burstStartIndex, burstStartIndex + burstSize - 1);
 				
 				// 3. Apply player reduction to that burst relative to t
 				double playerReductionMultiplier = 1.0;
@@ -227,14 +338,7 @@ public class AccuracyEstimator {
 			}
 		}
 		else {
-			for (int i = 0; i < bulletFiredTimestamps.length; i++) {
-				bulletFiredTimestamp = bulletFiredTimestamps[i];
-				if (bulletFiredTimestamp <= t && t <= bulletFiredTimestamp + recoilPerShotEndTime) {
-					total += getRecoilPerShotOverTime(t - bulletFiredTimestamp);
-				}
-			}
-			
-			return total;
+			return sumRecoilOfBullets(t, timelineFirstRecoilingBullet, timelineLastBullet);
 		}
 	}
 	
@@ -273,12 +377,9 @@ public class AccuracyEstimator {
 		springStiffness = sStiffness;
 		naturalFrequency = Math.sqrt(springStiffness / mass);
 		initialVelocity = Math.hypot(recoilPitch, recoilYaw);
-		if (initialVelocity > 0) {
-			recoilPerShotEndTime = -1.0 * MathUtils.lambertInverseWNumericalApproximation(-naturalFrequency * recoilGoal / initialVelocity) / naturalFrequency;
-		}
-		else {
-			recoilPerShotEndTime = 0.0;
-		}
+		// A shot whose recoil never climbs as high as recoilGoal gets treated the same as a shot with no recoil at all.
+		recoilPerShotEndTime = Math.max(0.0, RecoilRecovery.getTimeToRecover(recoilPitch, recoilYaw, mass, springStiffness, recoilGoal));
+		resetTimeline();
 		
 		/*
 			Step 4: Use Spread and Player-Reduced Recoil to calculate the size and offset of the crosshair relative to the static target for each bullet in the magazine
@@ -354,12 +455,9 @@ public class AccuracyEstimator {
 		springStiffness = sStiffness;
 		naturalFrequency = Math.sqrt(springStiffness / mass);
 		initialVelocity = Math.hypot(recoilPitch, recoilYaw);
-		if (initialVelocity > 0) {
-			recoilPerShotEndTime = -1.0 * MathUtils.lambertInverseWNumericalApproximation(-naturalFrequency * recoilGoal / initialVelocity) / naturalFrequency;
-		}
-		else {
-			recoilPerShotEndTime = 0.0;
-		}
+		// A shot whose recoil never climbs as high as recoilGoal gets treated the same as a shot with no recoil at all.
+		recoilPerShotEndTime = Math.max(0.0, RecoilRecovery.getTimeToRecover(recoilPitch, recoilYaw, mass, springStiffness, recoilGoal));
+		resetTimeline();
 		canBeVisualized = true;
 		
 		// Spread Units are like the FoV setting; it needs to be divided by 2 before it can be used in trigonometry correctly
@@ -377,22 +475,32 @@ public class AccuracyEstimator {
 			After Lunari pointed out that the old model didn't work in extreme values (like 1m distance away from targets), I basically scrapped the old model
 			and decided to brute-force it with a double for-loop. It's not pretty, it's not elegant, but by golly it's gonna be RIGHT. People are trusting me to 
 			model this stuff correctly, and this has been bugged for months with only Lunari questioning it. Makes me wonder what else I have wrong in here...
+			
+			It's still the exact same 100x100 grid, but it used to cost two probabilityInNormalDistribution() calls and a Math.hypot() for every one of the 10,000 cells.
+			The grid is separable, though: every cell in a column has the same horizontal probability and every cell in a row has the same vertical one. So each of those
+			only gets calculated once per column or row (~200 calls instead of 20,000), and Math.hypot() only gets called for cells whose distance is too close to the 
+			target's edge for the squared distance to be trusted (see isInsideTarget()). The cells get added up in the same order as before, so the tolerance against the
+			old numbers is zero: every result is bit-for-bit the same. The grid itself is still an approximation of the real integral, same as it always was.
 		*/
 		double w = crosshairWidthMeters * 2.0, h = crosshairHeightMeters * 2.0;
-		double horizontalProbability, verticalProbability, totalProbability;
-		double sumOfProbabilitiesInsideTarget = 0.0, sumOfAllProbabilities = 0.0;
 		double precision = 100.0;
+		double[][] columns = calculateGridLine(w, crosshairWidthMeters, precision);
+		double[][] rows = calculateGridLine(h, crosshairHeightMeters, precision);
+		double[] horizontalProbabilities = columns[0], horizontalDistances = columns[1], horizontalDistancesSquared = columns[2];
+		double[] verticalProbabilities = rows[0], verticalDistances = rows[1], verticalDistancesSquared = rows[2];
+		double targetRadiusSquared = targetRadius * targetRadius;
 		
-		double i, j;
-		for (i = 0.0; i < w; i += w / precision) {
-			horizontalProbability = MathUtils.probabilityInNormalDistribution(0, w, i);
+		double horizontalProbability, totalProbability;
+		double sumOfProbabilitiesInsideTarget = 0.0, sumOfAllProbabilities = 0.0;
+		int i, j;
+		for (i = 0; i < horizontalProbabilities.length; i++) {
+			horizontalProbability = horizontalProbabilities[i];
 			
-			for (j = 0.0; j < h; j += h / precision) {
-				verticalProbability = MathUtils.probabilityInNormalDistribution(0, h, j);
-				totalProbability = horizontalProbability * verticalProbability;
+			for (j = 0; j < verticalProbabilities.length; j++) {
+				totalProbability = horizontalProbability * verticalProbabilities[j];
 				
 				sumOfAllProbabilities += totalProbability;
-				if (Math.hypot(crosshairWidthMeters - i, crosshairHeightMeters - j) <= targetRadius) {
+				if (isInsideTarget(horizontalDistances[i], verticalDistances[j], horizontalDistancesSquared[i] + verticalDistancesSquared[j], targetRadius, targetRadiusSquared)) {
 					sumOfProbabilitiesInsideTarget += totalProbability;
 				}
 			}
@@ -401,6 +509,44 @@ public class AccuracyEstimator {
 		return (sumOfProbabilitiesInsideTarget / sumOfAllProbabilities) * 100.0;
 	}
 	
+	/*
+		Steps across [0, length) the same way the old double for-loop did (adding length / precision every time, rounding errors and all) so that there are exactly as many 
+		columns or rows as before, at exactly the same positions. Returns {probability, distance from the center, distance from the center squared} for each one.
+	*/
+	private static double[][] calculateGridLine(double length, double center, double precision) {
+		int numSteps = 0;
+		double x;
+		for (x = 0.0; x < length; x += length / precision) {
+			numSteps++;
+		}
+		
+		double[][] toReturn = new double[3][numSteps];
+		x = 0.0;
+		for (int i = 0; i < numSteps; i++) {
+			toReturn[0][i] = MathUtils.probabilityInNormalDistribution(0, length, x);
+			toReturn[1][i] = center - x;
+			toReturn[2][i] = toReturn[1][i] * toReturn[1][i];
+			x += length / precision;
+		}
+		return toReturn;
+	}
+	
+	/*
+		Same answer as Math.hypot(dx, dy) <= targetRadius. Math.hypot() is within 1 ulp of the real distance and the squared distance is within a few ulps of the real one,
+		so whenever the squared distance is more than a billionth away from the radius squared both of them agree, and hypot is only needed for the cells right on the edge.
+	*/
+	private static boolean isInsideTarget(double dx, double dy, double distanceSquared, double targetRadius, double targetRadiusSquared) {
+		if (distanceSquared < targetRadiusSquared * (1.0 - 1e-9)) {
+			return true;
+		}
+		else if (distanceSquared > targetRadiusSquared * (1.0 + 1e-9)) {
+			return false;
+		}
+		else {
+			return Math.hypot(dx, dy) <= targetRadius;
+		}
+	}
+	
 	public boolean visualizerIsReady() {
 		return canBeVisualized;
 	}
@@ -0,0 +1,76 @@
+package modelPieces;
+
+/*
+	Every argument that EnemyContext.percentageDamageWastedByArmor() takes, so that its answers can be remembered the same way that BreakpointInputs does for breakpoints.
+	Most mods don't change any of these numbers, so a lot of the builds of one Weapon end up walking the exact same armor plates.
+	
+	Doubles are compared bit-for-bit the same way Double.equals() does, so two sets of inputs only count as the same if the armor model couldn't tell them apart.
+*/
+final class ArmorWasteInputs {
+	
+	/****************************************************************************************
+	* Class Variables
+	****************************************************************************************/
+	
+	private final double directDamage;
+	private final int numPellets;
+	private final double areaDamage;
+	private final double armorBreaking;
+	private final double weakpointModifier;
+	private final double generalAccuracy;
+	private final double weakpointAccuracy;
+	private final boolean embeddedDetonators;
+	private final int hash;
+	
+	/****************************************************************************************
+	* Constructors
+	****************************************************************************************/
+	
+	ArmorWasteInputs(double directDamage, int numPellets, double areaDamage, double armorBreaking, double weakpointModifier, double generalAccuracy, double weakpointAccuracy, boolean embeddedDetonators) {
+		this.directDamage = directDamage;
+		this.numPellets = numPellets;
+		this.areaDamage = areaDamage;
+		this.armorBreaking = armorBreaking;
+		this.weakpointModifier = weakpointModifier;
+		this.generalAccuracy = generalAccuracy;
+		this.weakpointAccuracy = weakpointAccuracy;
+		this.embeddedDetonators = embeddedDetonators;
+		
+		int h = Double.hashCode(directDamage);
+		h = h * 31 + numPellets;
+		h = h * 31 + Double.hashCode(areaDamage);
+		h = h * 31 + Double.hashCode(armorBreaking);
+		h = h * 31 + Double.hashCode(weakpointModifier);
+		h = h * 31 + Double.hashCode(generalAccuracy);
+		h = h * 31 + Double.hashCode(weakpointAccuracy);
+		if (embeddedDetonators) {
+			h = h * 31 + 1;
+		}
+		hash = h;
+	}
+	
+	/****************************************************************************************
+	* Other Methods
+	****************************************************************************************/
+	
+	@Override
+	public boolean equals(Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof ArmorWasteInputs)) {
+			return false;
+		}
+		
+		ArmorWasteInputs o = (ArmorWasteInputs) other;
+		return hash == o.hash && numPellets == o.numPellets && embeddedDetonators == o.embeddedDetonators
+			&& Double.compare(directDamage, o.directDamage) == 0 && Double.compare(areaDamage, o.areaDamage) == 0 && Double.compare(armorBreaking, o.armorBreaking) == 0
+			&& Double.compare(weakpointModifier, o.weakpointModifier) == 0 && Double.compare(generalAccuracy, o.generalAccuracy) == 0
+			&& Double.compare(weakpointAccuracy, o.weakpointAccuracy) == 0;
+	}
+	
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+}
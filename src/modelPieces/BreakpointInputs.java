@@ -0,0 +1,84 @@
+package modelPieces;
+
+import java.util.Arrays;
+
+/*
+	Every argument that EnemyContext.calculateBreakpoints() takes, copied so that they can be used as a key for remembering its answers. A lot of builds of the same
+	Weapon end up passing in exactly the same damage numbers (most mods don't touch damage at all), so there's no reason to work out the same breakpoints over and over.
+	
+	The arrays get copied when the key is built because calculateBreakpoints() multiplies some of them in place for Frozen and IFG.
+	Doubles are compared bit-for-bit the same way Double.equals() does, so two sets of inputs only count as the same if calculateBreakpoints() couldn't tell them apart.
+*/
+final class BreakpointInputs {
+	
+	/****************************************************************************************
+	* Class Variables
+	****************************************************************************************/
+	
+	// directDamageByType, areaDamageByType, DoT_DPS, DoT_durations, and DoT_probabilities, in that order
+	private final double[][] arrays;
+	// weakpointModifier, armorBreaking, RoF, heatPerShot, and macteraModifier, in that order
+	private final double[] scalars;
+	// Bit 0 is frozen, bit 1 is IFG, bit 2 is Flying Nightmare, and bit 3 is Embedded Detonators
+	private final int flags;
+	private final int hash;
+	
+	/****************************************************************************************
+	* Constructors
+	****************************************************************************************/
+	
+	BreakpointInputs(double[] directDamageByType, double[] areaDamageByType, double[] DoT_DPS, double[] DoT_durations, double[] DoT_probabilities,
+					 double weakpointModifier, double armorBreaking, double RoF, double heatPerShot, double macteraModifier,
+					 boolean frozen, boolean IFG, boolean flyingNightmare, boolean embeddedDetonators) {
+		arrays = new double[][] {
+			directDamageByType.clone(),
+			areaDamageByType.clone(),
+			DoT_DPS.clone(),
+			DoT_durations.clone(),
+			DoT_probabilities.clone()
+		};
+		scalars = new double[] {weakpointModifier, armorBreaking, RoF, heatPerShot, macteraModifier};
+		
+		int f = 0;
+		if (frozen) {
+			f |= 1;
+		}
+		if (IFG) {
+			f |= 1 << 1;
+		}
+		if (flyingNightmare) {
+			f |= 1 << 2;
+		}
+		if (embeddedDetonators) {
+			f |= 1 << 3;
+		}
+		flags = f;
+		
+		// These get looked up in a hash table from every thread at once, so the hash only gets calculated the one time.
+		int h = Arrays.deepHashCode(arrays);
+		h = h * 31 + Arrays.hashCode(scalars);
+		hash = h * 31 + flags;
+	}
+	
+	/****************************************************************************************
+	* Other Methods
+	****************************************************************************************/
+	
+	@Override
+	public boolean equals(Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof BreakpointInputs)) {
+			return false;
+		}
+		
+		BreakpointInputs o = (BreakpointInputs) other;
+		return hash == o.hash && flags == o.flags && Arrays.equals(scalars, o.scalars) && Arrays.deepEquals(arrays, o.arrays);
+	}
+	
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+}
@@ -0,0 +1,243 @@
+package modelPieces;
+
+import utilities.MathUtils;
+
+/*
+	EnemyContext.calculateBreakpoints() used to count shots by simulating them one at a time: subtract the Direct and Area Damage, check whether 4 seconds of the active DoTs
+	would finish the creature off, subtract one shot's worth of DoT damage, round to 4 decimal places, repeat. For a weak weapon against a Praetorian or an Oppressor that's
+	hundreds of shots per creature per build, and every one of them used to build a BigDecimal in MathUtils.round().
+	
+	This class gets the exact same numbers with a lot less work. Between two "phase boundaries" (the shot where a DoT starts being applied, or where the armor breaks) every
+	shot does exactly the same thing to the creature's health, so instead of simulating every shot in a phase, it works out how many of them can't possibly be the last one
+	and skips straight over them. Only the shots right at the start of each phase and right before the creature dies get simulated the old way.
+	
+	Skipping shots only gives identical results because of the rounding: once the health has been rounded to 4 decimal places, every shot in a phase takes away exactly the
+	same whole number of 0.0001s, so n shots later the health is exactly (health - n * that amount). The only exception is when a shot's damage lands right on a rounding
+	tie (like x.xxxx5), where the tiny errors of double subtraction could round either way; in that case the phase just gets simulated shot-by-shot like before.
+	
+	One solver gets reused for every creature in a single call to calculateBreakpoints(), so it isn't safe to share between threads.
+*/
+class BreakpointSolver {
+	
+	/****************************************************************************************
+	* Class Variables
+	****************************************************************************************/
+	
+	// Burn, Electrocute, Neurotoxin, Persistent Plasma, Radiation -- always in this order, since it's the order the damage gets subtracted in.
+	private static final int numDoTs = 5;
+	
+	// Health only ever gets rounded to this many decimal places, so "units" below are 0.0001 of a health point.
+	private static final double unitsPerHealth = 10000.0;
+	// How close to a rounding tie (in units) a shot's damage can be before it's no longer safe to skip shots
+	private static final double tieTolerance = 0.001;
+	// How much health (in normal health points) has to be left over after a skipped shot before it's certain that the 4 second DoT check wouldn't have ended it.
+	private static final double killCheckTolerance = 0.001;
+	
+	// A DoT is applied to every shot whose number is at least this high. Zero or less means that it never gets applied.
+	private double[] activationShot;
+	private double[] fourSecondDamage;
+	private double[] damagePerShot;
+	
+	// Set by countSafeShots(): how many units of health every shot in the current phase takes away once it's been rounded
+	private long roundedShotDamage;
+	
+	/****************************************************************************************
+	* Constructors
+	****************************************************************************************/
+	
+	BreakpointSolver() {
+		activationShot = new double[numDoTs];
+		fourSecondDamage = new double[numDoTs];
+		damagePerShot = new double[numDoTs];
+	}
+	
+	/****************************************************************************************
+	* Setters and Getters
+	****************************************************************************************/
+	
+	// Has to be called for each DoT before shotsToKill(). fourSeconds and perShot must be calculated with the exact same expressions that the shot-by-shot loop used.
+	void setDoT(int index, double firstShotApplied, double fourSeconds, double perShot) {
+		activationShot[index] = firstShotApplied;
+		fourSecondDamage[index] = fourSeconds;
+		damagePerShot[index] = perShot;
+	}
+	
+	/****************************************************************************************
+	* Other Methods
+	****************************************************************************************/
+	
+	/*
+		Returns how many shots it takes to kill a creature with this much health. Every shot does Direct Damage and then Area Damage, followed by any DoTs that have
+		been applied. The Direct Damage is unbrokenDirectDamage until the armor is broken, and brokenDirectDamage afterwards. The armor counts as broken on every shot
+		number >= armorThreshold if breaksAtThreshold, or > armorThreshold otherwise. If unbrokenShotsMiss, shots before the armor is broken don't do anything at all
+		(used for the Heavy Armor that covers Brundles' weakpoints).
+	*/
+	int shotsToKill(double health, double unbrokenDirectDamage, double brokenDirectDamage, boolean unbrokenShotsMiss, double armorThreshold, boolean breaksAtThreshold, double areaDamage) {
+		int shotCounter = 0;
+		double remainingHealth = health;
+		// The starting health hasn't been rounded yet, so the first shot always gets simulated.
+		boolean healthIsRounded = false;
+		
+		boolean armorBroken;
+		double fourSecondsDoTDamage;
+		int i;
+		long shotsToSkip;
+		while (remainingHealth > 0) {
+			if (healthIsRounded) {
+				shotsToSkip = countSafeShots(shotCounter + 1, remainingHealth, unbrokenDirectDamage, brokenDirectDamage, unbrokenShotsMiss, armorThreshold, breaksAtThreshold, areaDamage);
+				if (shotsToSkip > 0) {
+					remainingHealth = (Math.round(remainingHealth * unitsPerHealth) - shotsToSkip * roundedShotDamage) / unitsPerHealth;
+					shotCounter += (int) shotsToSkip;
+				}
+			}
+			
+			// From here on, this is one shot exactly the way the old loops did it.
+			shotCounter++;
+			armorBroken = isArmorBroken(shotCounter, armorThreshold, breaksAtThreshold);
+			if (!armorBroken && unbrokenShotsMiss) {
+				continue;
+			}
+			
+			// First, subtract Direct Damage
+			if (armorBroken) {
+				remainingHealth -= brokenDirectDamage;
+			}
+			else {
+				remainingHealth -= unbrokenDirectDamage;
+			}
+			
+			// Second, subtract Area Damage
+			remainingHealth -= areaDamage;
+			
+			// Third, determine if 4 seconds of DoTs can do enough damage to kill the creature
+			fourSecondsDoTDamage = 0;
+			for (i = 0; i < numDoTs; i++) {
+				if (isDoTApplied(i, shotCounter)) {
+					fourSecondsDoTDamage += fourSecondDamage[i];
+				}
+			}
+			if (fourSecondsDoTDamage >= remainingHealth) {
+				break;
+			}
+			
+			// If not, subtract the damage dealt by DoTs until the next shot at max RoF
+			for (i = 0; i < numDoTs; i++) {
+				if (isDoTApplied(i, shotCounter)) {
+					remainingHealth -= damagePerShot[i];
+				}
+			}
+			
+			// This is just a catch-all statement for the rounding errors inherent to double division.
+			remainingHealth = MathUtils.roundHalfUp(remainingHealth, 4);
+			healthIsRounded = true;
+		}
+		
+		return shotCounter;
+	}
+	
+	private boolean isDoTApplied(int index, int shotNumber) {
+		return activationShot[index] > 0 && shotNumber >= activationShot[index];
+	}
+	private static boolean isArmorBroken(int shotNumber, double armorThreshold, boolean breaksAtThreshold) {
+		if (breaksAtThreshold) {
+			return shotNumber >= armorThreshold;
+		}
+		else {
+			return shotNumber > armorThreshold;
+		}
+	}
+	
+	// One bit per DoT, plus one for the armor. Two shots in the same phase always have the same value.
+	private int getPhase(int shotNumber, double armorThreshold, boolean breaksAtThreshold) {
+		int toReturn = 0;
+		for (int i = 0; i < numDoTs; i++) {
+			if (isDoTApplied(i, shotNumber)) {
+				toReturn |= 1 << i;
+			}
+		}
+		if (isArmorBroken(shotNumber, armorThreshold, breaksAtThreshold)) {
+			toReturn |= 1 << numDoTs;
+		}
+		return toReturn;
+	}
+	
+	/*
+		Counts how many shots, starting with shot number firstShot, can be skipped without changing the answer. A shot can only be skipped if it's in the same phase as
+		firstShot, it certainly doesn't pass the 4 second DoT check, and it certainly leaves the creature with health above zero. Returns 0 if it isn't worth it or isn't safe.
+	*/
+	private long countSafeShots(int firstShot, double roundedHealth, double unbrokenDirectDamage, double brokenDirectDamage, boolean unbrokenShotsMiss, double armorThreshold, boolean breaksAtThreshold, double areaDamage) {
+		boolean armorBroken = isArmorBroken(firstShot, armorThreshold, breaksAtThreshold);
+		if (!armorBroken && unbrokenShotsMiss) {
+			return 0;
+		}
+		
+		double directDamage = unbrokenDirectDamage;
+		if (armorBroken) {
+			directDamage = brokenDirectDamage;
+		}
+		
+		// Do the first shot of the phase the same way shotsToKill() would, but without rounding at the end
+		double afterDirectAndArea = roundedHealth - directDamage - areaDamage;
+		double fourSecondsDoTDamage = 0;
+		double afterDoTs = afterDirectAndArea;
+		for (int i = 0; i < numDoTs; i++) {
+			if (isDoTApplied(i, firstShot)) {
+				fourSecondsDoTDamage += fourSecondDamage[i];
+				afterDoTs -= damagePerShot[i];
+			}
+		}
+		
+		long startingUnits = Math.round(roundedHealth * unitsPerHealth);
+		double unitsAfterShot = afterDoTs * unitsPerHealth;
+		// Too close to a x.xxxx5 tie to know for sure which way every shot in the phase would get rounded
+		if (Math.abs(unitsAfterShot - Math.floor(unitsAfterShot) - 0.5) < tieTolerance) {
+			return 0;
+		}
+		roundedShotDamage = startingUnits - (long) Math.floor(unitsAfterShot + 0.5);
+		if (roundedShotDamage <= 0) {
+			return 0;
+		}
+		
+		// Every skipped shot has to leave the health more than killCheckTolerance above the 4 second DoT damage after Direct and Area Damage, and above zero after rounding.
+		double damageBeforeCheck = roundedHealth - afterDirectAndArea;
+		double shotDamage = roundedShotDamage / unitsPerHealth;
+		double shotsBeforeCheckFails = (roundedHealth - damageBeforeCheck - fourSecondsDoTDamage - killCheckTolerance) / shotDamage;
+		if (shotsBeforeCheckFails < 2) {
+			return 0;
+		}
+		long toReturn = Math.min((long) Math.floor(shotsBeforeCheckFails) - 1, (startingUnits - 1) / roundedShotDamage - 1);
+		
+		// Don't skip past the end of this phase
+		long phaseEnd = findNextPhaseStart(firstShot, armorThreshold, breaksAtThreshold);
+		toReturn = Math.min(toReturn, phaseEnd - firstShot);
+		if (toReturn < 2) {
+			return 0;
+		}
+		
+		// Every DoT and the armor can only ever switch on, so if the last skipped shot is in the same phase as the first one, so is every shot in between.
+		if (getPhase(firstShot + (int) toReturn - 1, armorThreshold, breaksAtThreshold) != getPhase(firstShot, armorThreshold, breaksAtThreshold)) {
+			return 0;
+		}
+		
+		return toReturn;
+	}
+	
+	// The smallest shot number after firstShot where a DoT starts or the armor breaks, or Integer.MAX_VALUE if nothing else changes.
+	private long findNextPhaseStart(int firstShot, double armorThreshold, boolean breaksAtThreshold) {
+		double toReturn = Integer.MAX_VALUE;
+		for (int i = 0; i < numDoTs; i++) {
+			if (activationShot[i] > firstShot) {
+				toReturn = Math.min(toReturn, Math.ceil(activationShot[i]));
+			}
+		}
+		if (!isArmorBroken(firstShot, armorThreshold, breaksAtThreshold)) {
+			if (breaksAtThreshold) {
+				toReturn = Math.min(toReturn, Math.ceil(armorThreshold));
+			}
+			else {
+				toReturn = Math.min(toReturn, Math.floor(armorThreshold) + 1);
+			}
+		}
+		return (long) toReturn;
+	}
+}
@@ -0,0 +1,1150 @@
+package modelPieces;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import enemies.Enemy;
+import utilities.MathUtils;
+
+/*
+	Everything about the modeled enemies that depends on Hazard Level and player count used to read two static ints out of EnemyInformation, which meant that only one
+	difficulty could ever be calculated at a time, and anything that wanted another one had to change the setting for the whole program. Instead, each of the 20
+	difficulties gets one of these, built once with every creature's health and armor already scaled for it. Nothing in here changes after it's been built, so the
+	same EnemyContext can be read by any number of threads at once, and different threads can use different difficulties side by side.
+	
+	Weapons get theirs from Weapon.getEnemyContext(). Unless a different one has been set on that Weapon, that's whichever context the Difficulty Scaling menu has
+	selected in EnemyInformation.
+*/
+public final class EnemyContext {
+	
+	/****************************************************************************************
+	* Class Variables
+	****************************************************************************************/
+	
+	// All 20 contexts, indexed by [Hazard Level - 1][player count - 1]
+	private static final EnemyContext[][] contexts = createAllContexts();
+	
+	private final int hazardLevel;
+	private final int playerCount;
+	private final double normalResistance;
+	private final double largeResistance;
+	private final double movespeedModifier;
+	
+	// The Enemy objects and the EnemyTable are shared between every context, but they're never modified after they've been constructed.
+	private final Enemy[] enemies;
+	private final EnemyTable table;
+	// These arrays are in the same order as enemies[]
+	// Either the normal or the large resistance, depending on which kind of scaling each creature uses
+	private final double[] difficultyResistance;
+	// Health with the Hazard Level and player count scaling already applied
+	private final double[] scaledHealth;
+	// Heavy Armor plates with healthbars always use the normal scaling, no matter what kind of creature they're on
+	private final double[] scaledArmorHealth;
+	
+	/*
+		The spawn rates only get checked once, when the context is built. If they don't add up to 1.0, every average below is -1.0 (the same as it always was when a
+		single call found them to be wrong), so that the mistake shows up in the numbers instead of silently skewing them.
+		
+		The averages that don't depend on the build get calculated up front too, because some of them are used inside every DPS calculation for every build. Each one is
+		added up in the same order as the loops that used to run on every call, so the values are identical to the last decimal place.
+	*/
+	private final boolean spawnRatesAreValid;
+	private final double weakpointHitProbability;
+	private final double weakpointDamageIncrease;
+	private final double exactHealthPool;
+	private final double guessedHealthPool;
+	private final double burnDuration;
+	private final double freezeDuration;
+	private final double lightArmorStrength;
+	private final double courage;
+	private final double difficultyScalingResistance;
+	private final double fearMovespeed;
+	private final double fearDuration;
+	
+	/*
+		Breakpoints only depend on the damage numbers that get passed in, and lots of builds pass in the exact same ones, so every answer gets remembered here. Each
+		context has its own table since the same damage kills creatures in a different number of shots at each difficulty. If a sweep over a lot of Weapons manages to fill
+		it up, it just starts over empty instead of growing forever.
+	*/
+	private static final int maxMemoizedBreakpoints = 16384;
+	private final ConcurrentHashMap<BreakpointInputs, int[]> memoizedBreakpoints;
+	
+	// Armor wasting gets remembered the same way. Only the Damage Wasted row gets stored, since the Spawn Probabilities row is the same for every set of inputs.
+	private static final int maxMemoizedArmorWaste = 16384;
+	private final ConcurrentHashMap<ArmorWasteInputs, double[]> memoizedArmorWaste;
+	private final AtomicLong armorWasteHits;
+	private final AtomicLong armorWasteMisses;
+	// How many creatures have breakable armor, and the exact spawn probabilities of just those creatures
+	private final int numArmoredEnemies;
+	private final double[] armoredSpawnProbability;
+	
+	/****************************************************************************************
+	* Constructors
+	****************************************************************************************/
+	
+	private EnemyContext(int hazLevel, int numPlayers) {
+		hazardLevel = hazLevel;
+		playerCount = numPlayers;
+		normalResistance = EnemyInformation.normalEnemyResistances[hazLevel - 1];
+		largeResistance = EnemyInformation.largeEnemyResistances[hazLevel - 1][numPlayers - 1];
+		movespeedModifier = EnemyInformation.movespeedDifficultyScaling[hazLevel - 1];
+		
+		enemies = EnemyInformation.enemiesModeled;
+		table = EnemyInformation.enemyTable;
+		int numEnemies = table.numEnemies;
+		difficultyResistance = new double[numEnemies];
+		scaledHealth = new double[numEnemies];
+		scaledArmorHealth = new double[numEnemies];
+		
+		for (int i = 0; i < numEnemies; i++) {
+			if (table.usesNormalScaling[i]) {
+				difficultyResistance[i] = normalResistance;
+			}
+			else {
+				difficultyResistance[i] = largeResistance;
+			}
+			scaledHealth[i] = table.baseHealth[i] * difficultyResistance[i];
+			scaledArmorHealth[i] = table.armorBaseHealth[i] * normalResistance;
+		}
+		
+		spawnRatesAreValid = verifySpawnRatesTotalIsOne();
+		weakpointHitProbability = calculateProbabilityBulletWillHitWeakpoint();
+		weakpointDamageIncrease = calculateAverageWeakpointDamageIncrease();
+		exactHealthPool = calculateAverageHealthPool(true);
+		guessedHealthPool = calculateAverageHealthPool(false);
+		burnDuration = calculateAverageBurnDuration();
+		freezeDuration = calculateAverageFreezeDuration();
+		lightArmorStrength = calculateAverageLightArmorStrength();
+		courage = calculateAverageCourage();
+		difficultyScalingResistance = calculateAverageDifficultyScalingResistance();
+		fearMovespeed = calculateAverageFearMovespeed();
+		fearDuration = averageFearDuration(0.0, 0.0);
+		
+		memoizedBreakpoints = new ConcurrentHashMap<BreakpointInputs, int[]>();
+		
+		memoizedArmorWaste = new ConcurrentHashMap<ArmorWasteInputs, double[]>();
+		armorWasteHits = new AtomicLong(0);
+		armorWasteMisses = new AtomicLong(0);
+		int armored = 0;
+		for (int i = 0; i < numEnemies; i++) {
+			if (table.hasBreakableArmor[i]) {
+				armored++;
+			}
+		}
+		numArmoredEnemies = armored;
+		armoredSpawnProbability = new double[numArmoredEnemies];
+		armored = 0;
+		for (int i = 0; i < numEnemies; i++) {
+			if (table.hasBreakableArmor[i]) {
+				armoredSpawnProbability[armored] = table.exactSpawnProbability[i];
+				armored++;
+			}
+		}
+	}
+	
+	private static EnemyContext[][] createAllContexts() {
+		EnemyContext[][] toReturn = new EnemyContext[EnemyInformation.numHazardLevels][EnemyInformation.maxPlayerCount];
+		for (int h = 0; h < toReturn.length; h++) {
+			for (int p = 0; p < toReturn[h].length; p++) {
+				toReturn[h][p] = new EnemyContext(h + 1, p + 1);
+			}
+		}
+		return toReturn;
+	}
+	
+	// Every call with the same Hazard Level and player count returns the same object.
+	public static EnemyContext forDifficulty(int hazardLevel, int playerCount) {
+		if (hazardLevel < 1 || hazardLevel > EnemyInformation.numHazardLevels || playerCount < 1 || playerCount > EnemyInformation.maxPlayerCount) {
+			throw new IllegalArgumentException("No difficulty with Hazard Level " + hazardLevel + " and " + playerCount + " players");
+		}
+		return contexts[hazardLevel - 1][playerCount - 1];
+	}
+	
+	/****************************************************************************************
+	* Setters and Getters
+	****************************************************************************************/
+	
+	public int getHazardLevel() {
+		return hazardLevel;
+	}
+	public int getPlayerCount() {
+		return playerCount;
+	}
+	
+	// The rest of these are all averages across every modeled creature, weighted by the exact spawn rates (except for the guessed health pool).
+	public double probabilityBulletWillHitWeakpoint() {
+		return weakpointHitProbability;
+	}
+	public double averageWeakpointDamageIncrease() {
+		return weakpointDamageIncrease;
+	}
+	public double averageHealthPool() {
+		return exactHealthPool;
+	}
+	public double averageHealthPool(boolean exact) {
+		if (exact) {
+			return exactHealthPool;
+		}
+		else {
+			return guessedHealthPool;
+		}
+	}
+	public double averageBurnDuration() {
+		return burnDuration;
+	}
+	public double averageFreezeDuration() {
+		return freezeDuration;
+	}
+	public double averageLightArmorStrength() {
+		return lightArmorStrength;
+	}
+	public double averageCourage() {
+		return courage;
+	}
+	public double averageDifficultyScalingResistance() {
+		return difficultyScalingResistance;
+	}
+	
+	// Only tools/modelPieces/BreakpointReferenceCheck needs these, since everything in here reads the arrays directly.
+	double getScaledHealth(int index) {
+		return scaledHealth[index];
+	}
+	double getScaledArmorHealth(int index) {
+		return scaledArmorHealth[index];
+	}
+	
+	// How many creatures percentageDamageWastedByArmor() writes a value for, which is how long both rows of its output have to be.
+	public int getNumArmoredEnemies() {
+		return numArmoredEnemies;
+	}
+	// How many calls to percentageDamageWastedByArmor() found their answer already calculated, and how many had to calculate it.
+	public long getArmorWasteCacheHits() {
+		return armorWasteHits.get();
+	}
+	public long getArmorWasteCacheMisses() {
+		return armorWasteMisses.get();
+	}
+	
+	/****************************************************************************************
+	* Other Methods
+	****************************************************************************************/
+	
+	/*
+		All of the loops below read their numbers out of the EnemyTable's arrays, and each one pulls the arrays it needs into locals first. That keeps every loop down to 
+		plain arithmetic over a few double[]s with no method calls in it, so the JIT can unroll it (and vectorize the ones without a branch in them).
+	*/
+	private boolean verifySpawnRatesTotalIsOne() {
+		double[] spawnProbability = table.exactSpawnProbability;
+		double sum = 0.0;
+		for (int i = 0; i < spawnProbability.length; i++) {
+			sum += spawnProbability[i];
+		}
+		
+		// Double addition is wonky; only compare the first 4 decimal places.
+		return MathUtils.equalToPlaces(sum, 1.0, 4);
+	}
+	
+	private double calculateProbabilityBulletWillHitWeakpoint() {
+		if (!spawnRatesAreValid) {
+			return -1.0;
+		}
+		
+		double[] spawnProbability = table.exactSpawnProbability;
+		double[] weakpointProbability = table.probabilityBulletHitsWeakpoint;
+		double toReturn = 0.0;
+		for (int i = 0; i < spawnProbability.length; i++) {
+			toReturn += spawnProbability[i] * weakpointProbability[i];
+		}
+		
+		return toReturn;
+	}
+	
+	private double calculateAverageWeakpointDamageIncrease() {
+		if (!spawnRatesAreValid) {
+			return -1.0;
+		}
+		
+		double[] spawnProbability = table.exactSpawnProbability;
+		double[] weakpointMultiplier = table.weakpointMultiplier;
+		double toReturn = 0.0;
+		for (int i = 0; i < spawnProbability.length; i++) {
+			toReturn += spawnProbability[i] * weakpointMultiplier[i];
+		}
+		
+		return toReturn;
+	}
+	
+	private double calculateAverageHealthPool(boolean exact) {
+		if (!spawnRatesAreValid) {
+			return -1.0;
+		}
+		
+		double[] spawnProbability = table.getSpawnProbabilities(exact);
+		double[] baseHealth = table.baseHealth;
+		double toReturn = 0.0;
+		for (int i = 0; i < spawnProbability.length; i++) {
+			toReturn += spawnProbability[i] * baseHealth[i] * difficultyResistance[i];
+		}
+		
+		return toReturn;
+	}
+	
+	private double calculateAverageFearMovespeed() {
+		double[] spawnProbability = table.exactSpawnProbability;
+		double[] fearMovespeed = table.maxMovespeedWhenFeared;
+		double toReturn = 0.0;
+		for (int i = 0; i < spawnProbability.length; i++) {
+			toReturn += spawnProbability[i] * fearMovespeed[i];
+		}
+		
+		return toReturn;
+	}
+	
+	public double averageTimeToIgnite(double burstOfHeat, double heatPerShot, double RoF, double heatPerSec) {
+		if (!spawnRatesAreValid) {
+			return -1.0;
+		}
+		
+		double[] spawnProbability = table.exactSpawnProbability;
+		double[] igniteTemps = table.igniteTemp;
+		double[] coolingRate = table.coolingRate;
+		double igniteTemp;
+		
+		double toReturn = 0.0;
+		for (int i = 0; i < spawnProbability.length; i++) {
+			igniteTemp = igniteTemps[i];
+			
+			// Early exit: if Heat/Shot >= 100, then all enemies get ignited instantly since the largest Ignite Temp modeled in this program is 100.
+			if (burstOfHeat >= igniteTemp || heatPerShot >= igniteTemp || burstOfHeat + heatPerShot >= igniteTemp) {
+				// Technically this adds (Exact Spawn Probability * 0.0), but to save some CPU cycles I'm just going to skip to the next enemy.
+				continue;
+			}
+			
+			toReturn += spawnProbability[i] * ((igniteTemp - burstOfHeat) / (heatPerShot * RoF + heatPerSec - coolingRate[i]));
+		}
+		
+		return toReturn;
+	}
+	private double calculateAverageBurnDuration() {
+		if (!spawnRatesAreValid) {
+			return -1.0;
+		}
+		
+		double[] spawnProbability = table.exactSpawnProbability;
+		double[] igniteTemp = table.igniteTemp;
+		double[] douseTemp = table.douseTemp;
+		double[] coolingRate = table.coolingRate;
+		double toReturn = 0.0;
+		for (int i = 0; i < spawnProbability.length; i++) {
+			toReturn += spawnProbability[i] * ((igniteTemp[i] - douseTemp[i]) / coolingRate[i]);
+		}
+		
+		return toReturn;
+	}
+	// This method is currently only used by Gunner/Minigun/Mod/5/Aggressive Venting in maxDamage() and Engineer/GrenadeLauncher/Mod/3/Incendiary Compound single-target DPS
+	public double percentageEnemiesIgnitedBySingleBurstOfHeat(double heatPerBurst) {
+		if (!spawnRatesAreValid) {
+			return -1.0;
+		}
+		
+		double[] spawnProbability = table.exactSpawnProbability;
+		double[] igniteTemp = table.igniteTemp;
+		double toReturn = 0.0;
+		for (int i = 0; i < spawnProbability.length; i++) {
+			if (igniteTemp[i] <= heatPerBurst) {
+				toReturn += spawnProbability[i];
+			}
+		}
+		
+		return MathUtils.roundHalfUp(toReturn, 4);
+	}
+	
+	/*
+		From what Elythnwaen and I have been able to figure out, creatures with positive temperatures lose Heat constantly. 
+		However, when creatures have negative temperatures, they all have 1-2 second "WarmingCooldown" windows before they 
+		start gaining Heat. Most of these Freeze temperatures are achieved in less than 2 seconds, so I'm choosing to model 
+		this as if the warming rate has no effect on the average Freeze time.
+		
+		Cold per shot should be a negative number to indicate that the enemy's temperature is being decreased
+	*/
+	public double averageTimeToFreeze(double burstOfCold, double coldPerShot, double RoF, double coldPerSec) {
+		if (!spawnRatesAreValid) {
+			return -1.0;
+		}
+		
+		double[] spawnProbability = table.exactSpawnProbability;
+		double[] freezeTemps = table.freezeTemp;
+		double freezeTemp;
+		
+		double toReturn = 0.0;
+		for (int i = 0; i < spawnProbability.length; i++) {
+			freezeTemp = freezeTemps[i];
+			
+			// Early exit: if Cold/Shot <= -490, then all enemies get frozen instantly since the largest Freeze Temp modeled in this program is -490 (Bulk Detonator).
+			if (burstOfCold <= freezeTemp || coldPerShot <= freezeTemp || burstOfCold + coldPerShot <= freezeTemp) {
+				// Technically this adds (Exact Spawn Probability * 0.0), but to save some CPU cycles I'm just going to skip to the next enemy.
+				continue;
+			}
+			
+			toReturn += spawnProbability[i] * ((freezeTemp - burstOfCold) / (coldPerShot * RoF + coldPerSec));
+		}
+		
+		return toReturn;
+	}
+	// Because the creatures have had a negative temperature for longer than 2 seconds (due to being Frozen already) I'm keeping warming rate in the refreeze method
+	public double averageTimeToRefreeze(double coldPerSecond) {
+		if (!spawnRatesAreValid) {
+			return -1.0;
+		}
+		
+		double[] spawnProbability = table.exactSpawnProbability;
+		double[] freezeTemp = table.freezeTemp;
+		double[] unfreezeTemp = table.unfreezeTemp;
+		double[] warmingRate = table.warmingRate;
+		double toReturn = 0.0;
+		for (int i = 0; i < spawnProbability.length; i++) {
+			toReturn += spawnProbability[i] * ((freezeTemp[i] - unfreezeTemp[i]) / (coldPerSecond + warmingRate[i]));
+		}
+		
+		return toReturn;
+	}
+	private double calculateAverageFreezeDuration() {
+		if (!spawnRatesAreValid) {
+			return -1.0;
+		}
+		
+		double[] spawnProbability = table.exactSpawnProbability;
+		double[] freezeTemp = table.freezeTemp;
+		double[] unfreezeTemp = table.unfreezeTemp;
+		double[] warmingRate = table.warmingRate;
+		double toReturn = 0.0;
+		for (int i = 0; i < spawnProbability.length; i++) {
+			// Because every Freeze temp is negative and is strictly less than the corresponding Unfreeze temp, subtracting Freeze from Unfreeze guarantees a positive number.
+			toReturn += spawnProbability[i] * ((unfreezeTemp[i] - freezeTemp[i]) / warmingRate[i]);
+		}
+		
+		return toReturn;
+	}
+	// This method is currently only used by Driller/CryoCannon/OC/Snowball in Utility
+	public double percentageEnemiesFrozenBySingleBurstOfCold(double coldPerBurst) {
+		if (!spawnRatesAreValid) {
+			return -1.0;
+		}
+		
+		double[] spawnProbability = table.exactSpawnProbability;
+		double[] freezeTemp = table.freezeTemp;
+		double toReturn = 0;
+		for (int i = 0; i < spawnProbability.length; i++) {
+			if (freezeTemp[i] >= coldPerBurst) {
+				toReturn += spawnProbability[i];
+			}
+		}
+		
+		return MathUtils.roundHalfUp(toReturn, 4);
+	}
+	
+	private double calculateAverageLightArmorStrength() {
+		double[] spawnProbability = table.exactSpawnProbability;
+		double[] armorStrength = table.armorStrength;
+		boolean[] hasLightArmor = table.hasLightArmor;
+		double totalLightArmorStrength = 0.0;
+		double totalSpawnPercentage = 0.0;
+		for (int i = 0; i < spawnProbability.length; i++) {
+			if (hasLightArmor[i]) {
+				totalLightArmorStrength += armorStrength[i] * spawnProbability[i];
+				totalSpawnPercentage += spawnProbability[i];
+			}
+		}
+		
+		return totalLightArmorStrength / totalSpawnPercentage;
+	}
+	
+	private double calculateAverageCourage() {
+		if (!spawnRatesAreValid) {
+			return -1.0;
+		}
+		
+		double[] spawnProbability = table.exactSpawnProbability;
+		double[] courage = table.courage;
+		double toReturn = 0.0;
+		for (int i = 0; i < spawnProbability.length; i++) {
+			toReturn += spawnProbability[i] * courage[i];
+		}
+		
+		return toReturn;
+	}
+	
+	/*
+		Although at this time this model is unconfirmed, I have some evidence to support this theory.
+		
+		The regular Fear status effect inflicted by weapons and grenades works like this: for every creature that has the Fear Factor attack applied to them,
+		the probability that they will have the Fear status effect inflicted is equal to Fear Factor * (1.0 - Courage). If it is inflicted, then ground-based 
+		enemies will move 8m away from the point of Fear at a rate of 1.5 * Max Movespeed * Difficulty Scaling * (1.0 - Movespeed Slow). As a result of this formula,
+		Slowing an enemy that is being Feared will increase the duration of the Fear status effect, and it will naturally be shorter at higher hazard levels.
+	*/
+	public double averageFearDuration() {
+		return fearDuration;
+	}
+	public double averageFearDuration(double enemySlowMultiplier, double slowDuration) {
+		double averageFearMovespeed = fearMovespeed;
+		double difficultyScalingMovespeedModifier = movespeedModifier;
+		
+		// This value gathered from internal property TSK_FleeFrom_C.distance
+		double fearDistanceGoal = 10.0;
+		// 1.5 multiplier comes from DeepPathfinderMovement.FleeSpeedBoostMultiplier
+		double compositeAverageEnemyMovespeed = 1.5 * averageFearMovespeed * difficultyScalingMovespeedModifier * (1.0 - enemySlowMultiplier);
+		
+		double rawDuration = fearDistanceGoal / compositeAverageEnemyMovespeed;
+		if (enemySlowMultiplier > 0 && rawDuration > slowDuration) {
+			// If the slow runs out before the average enemy has finished moving the distance goal, then the rest of the distance will be at normal speed.
+			double remainingDistance = fearDistanceGoal - slowDuration * compositeAverageEnemyMovespeed;
+			return slowDuration + remainingDistance / (averageFearMovespeed * difficultyScalingMovespeedModifier);
+		}
+		else {
+			return rawDuration;
+		}
+	}
+	
+	private double calculateAverageDifficultyScalingResistance() {
+		if (!spawnRatesAreValid) {
+			return -1.0;
+		}
+		
+		double[] spawnProbability = table.exactSpawnProbability;
+		double toReturn = 0.0;
+		for (int i = 0; i < spawnProbability.length; i++) {
+			toReturn += spawnProbability[i] * difficultyResistance[i];
+		}
+		
+		return toReturn;
+	}
+	
+	/*
+		This method is used to quickly show how many shots it would take for projectile-based weapons to kill the 23 modeled creatures under various conditions. It models 
+		Elemental resistances, DoTs, Light Armor resistance, Weakpoint bonus damage, Subata's T5.B +20% vs Mactera, IFGs, and Frozen.
+		
+		The first two arguments are arrays of how much damage is being done of the three types (direct, area, and DoT) split between the elements in this order:
+			1. Kinetic
+			2. Explosive
+			3. Fire
+			4. Frost
+			5. Electric
+			6. Poison
+			7. Radiation
+			
+		Next are 3 arrays that denote the DPS, average duration, and probability to proc of each of these DoTs:
+			1. Electrocute
+			2. Neurotoxin
+			3. Persistent Plasma
+			4. Radiation
+			
+		It should be noted that Direct Damage is never Poison or Radiation and DoTs are never Kinetic, Explosive, or Frost.
+		
+		This method does NOT model Heavy Armor plates except for Mactera Brundle because those Heavy Armor plates cover its weakpoint.
+		
+		If the weapon can do at least one DoT, this will look ahead to see if up to 4 seconds of DoT damage can kill a creature. If it can, then it will finish on that Breakpoint early instead of wasting superfluous ammo.
+	*/
+	public int[] calculateBreakpoints(double[] directDamageByType, double[] areaDamageByType, double[] DoT_DPS, double[] DoT_durations, double[] DoT_probabilities, 
+											 double weakpointModifier, double armorBreaking, double RoF, double heatPerShot, double macteraModifier, 
+											 boolean frozen, boolean IFG, boolean flyingNightmare, boolean embeddedDetonators) {
+		// The key has to copy the arrays before solveBreakpoints() gets a chance to multiply them for Frozen or IFG.
+		BreakpointInputs key = new BreakpointInputs(directDamageByType, areaDamageByType, DoT_DPS, DoT_durations, DoT_probabilities, weakpointModifier, armorBreaking, RoF, 
+													heatPerShot, macteraModifier, frozen, IFG, flyingNightmare, embeddedDetonators);
+		int[] breakpoints = memoizedBreakpoints.get(key);
+		if (breakpoints == null) {
+			// Two threads can both miss on the same key at the same time, but they'll calculate the same answer so it doesn't matter which one gets stored.
+			breakpoints = solveBreakpoints(directDamageByType, areaDamageByType, DoT_DPS, DoT_durations, DoT_probabilities, weakpointModifier, armorBreaking, RoF, 
+										   heatPerShot, macteraModifier, frozen, IFG, flyingNightmare, embeddedDetonators);
+			if (memoizedBreakpoints.size() >= maxMemoizedBreakpoints) {
+				memoizedBreakpoints.clear();
+			}
+			memoizedBreakpoints.put(key, breakpoints);
+		}
+		
+		// Weapons keep the array they get back, so they each need their own copy of it.
+		return breakpoints.clone();
+	}
+	
+	private int[] solveBreakpoints(double[] directDamageByType, double[] areaDamageByType, double[] DoT_DPS, double[] DoT_durations, double[] DoT_probabilities, 
+								   double weakpointModifier, double armorBreaking, double RoF, double heatPerShot, double macteraModifier, 
+								   boolean frozen, boolean IFG, boolean flyingNightmare, boolean embeddedDetonators) {
+		ArrayList<Integer> toReturn = new ArrayList<Integer>();
+		
+		// Frozen
+		double lightArmorReduction = UtilityInformation.LightArmor_DamageReduction;
+		if (frozen) {
+			// Removes Weakpoint Bonuses
+			weakpointModifier = -1.0;
+			
+			// Bypasses all Armor types
+			lightArmorReduction = 1.0;
+			
+			// Multiplies Direct Damage by x3 (except for Flying Nightmare)
+			if (!flyingNightmare) {
+				directDamageByType = MathUtils.vectorScalarMultiply(UtilityInformation.Frozen_Damage_Multiplier, directDamageByType);
+			}
+		}
+		
+		// Flying Nightmare is weird... it does the Direct Damage listed but it passes through enemies, ignores armor, and doesn't benefit from Weakpoints like the Breach Cutter.
+		if (flyingNightmare) {
+			weakpointModifier = -1.0;
+			lightArmorReduction = 1.0;
+		}
+		
+		// IFG
+		if (IFG) {
+			// Increases Direct and Area Damage taken by x1.3
+			directDamageByType = MathUtils.vectorScalarMultiply(UtilityInformation.IFG_Damage_Multiplier, directDamageByType);
+			areaDamageByType = MathUtils.vectorScalarMultiply(UtilityInformation.IFG_Damage_Multiplier, areaDamageByType);
+		}
+		
+		double creatureHP, creatureWeakpointModifier;
+		double rawDirectDamage, modifiedDirectDamage, rawAreaDamage, modifiedAreaDamage;
+		double numShotsToProcBurn, numShotsToProcElectrocute, numShotsToProcNeurotoxin, numShotsToProcPersistentPlasma, numShotsToProcRadiation;
+		double burnDPS, burnDuration, electrocuteDPS, plasmaDPS;
+		double explosiveTaken, fireTaken, frostTaken, electricTaken;
+		double lightArmorStrength, heavyArmorHP, numShotsToBreakArmor;
+		BreakpointSolver solver = new BreakpointSolver();
+		EnemyTable t = table;
+		for (int i = 0; i < t.numEnemies; i++) {
+			// If this enemy shouldn't be modeled in breakpoints, skip it.
+			if (!t.calculateBreakpoints[i]) {
+				continue;
+			}
+			
+			creatureHP = scaledHealth[i];
+			
+			explosiveTaken = t.explosiveDamageTaken[i];
+			fireTaken = t.fireDamageTaken[i];
+			frostTaken = t.frostDamageTaken[i];
+			electricTaken = t.electricDamageTaken[i];
+			
+			creatureWeakpointModifier = t.weakpointMultiplier[i];
+			if (weakpointModifier < 0) {
+				creatureWeakpointModifier = 1.0;
+			}
+			else {
+				creatureWeakpointModifier *= (1.0 + weakpointModifier);
+			}
+			
+			rawDirectDamage = MathUtils.sum(directDamageByType);
+			modifiedDirectDamage = directDamageByType[0] + directDamageByType[1] * explosiveTaken + directDamageByType[2] * fireTaken + directDamageByType[3] * frostTaken + directDamageByType[4] * electricTaken;
+			
+			rawAreaDamage = MathUtils.sum(areaDamageByType);
+			modifiedAreaDamage = areaDamageByType[0] + areaDamageByType[1] * explosiveTaken + areaDamageByType[2] * fireTaken + areaDamageByType[3] * frostTaken + areaDamageByType[4] * electricTaken;
+			
+			// Driller/Subata/Mod/5/B "Mactera Neurotoxin Coating" makes the Subata's damage do x1.2 more to Mactera-type enemies
+			if (t.macteraType[i]) {
+				modifiedDirectDamage *= (1.0 + macteraModifier);
+				modifiedAreaDamage *= (1.0 + macteraModifier);
+			}
+			
+			// Neurotoxin does Poison damage -- which no enemy resists -- and Radiation is not resisted by any creatures modeled by the program (but it is technically resisted by enemies in REZ biome)
+			burnDPS = DoTInformation.Burn_DPS * fireTaken;
+			electrocuteDPS = DoT_DPS[0] * electricTaken;
+			plasmaDPS = DoT_DPS[2] * fireTaken;
+			
+			numShotsToProcBurn = 0;
+			burnDuration = 0;
+			numShotsToProcElectrocute = 0;
+			numShotsToProcNeurotoxin = 0;
+			numShotsToProcPersistentPlasma = 0;
+			numShotsToProcRadiation = 0;
+			if (!frozen && heatPerShot > 0.0) {
+				if (heatPerShot >= t.igniteTemp[i]) {
+					numShotsToProcBurn = 1;
+					burnDuration = (heatPerShot - t.douseTemp[i]) / t.coolingRate[i];
+				}
+				else {
+					// This is technically an approximation and not precisely how it works in-game, but it's close enough for what I need.
+					numShotsToProcBurn = Math.floor((t.igniteTemp[i] * RoF) / (heatPerShot * RoF - t.coolingRate[i]));
+					burnDuration = (t.igniteTemp[i] - t.douseTemp[i]) / t.coolingRate[i];
+				}
+			}
+			if (DoT_probabilities[0] > 0.0) {
+				numShotsToProcElectrocute = Math.round(MathUtils.meanRolls(DoT_probabilities[0]));
+			}
+			if (DoT_probabilities[1] > 0.0) {
+				numShotsToProcNeurotoxin = Math.round(MathUtils.meanRolls(DoT_probabilities[1]));
+			}
+			if (DoT_probabilities[2] > 0.0) {
+				numShotsToProcPersistentPlasma = Math.round(MathUtils.meanRolls(DoT_probabilities[2]));
+			}
+			if (DoT_probabilities[3] > 0.0) {
+				numShotsToProcRadiation = Math.round(MathUtils.meanRolls(DoT_probabilities[3]));
+			}
+			
+			// Every shot-by-shot loop below applies the same DoTs in the same order, so the solver only needs to be told about them once per creature.
+			solver.setDoT(0, numShotsToProcBurn, Math.min(burnDuration, 4.0) * burnDPS, burnDPS / RoF);
+			solver.setDoT(1, numShotsToProcElectrocute, Math.min(DoT_durations[0], 4.0) * electrocuteDPS, electrocuteDPS / RoF);
+			solver.setDoT(2, numShotsToProcNeurotoxin, Math.min(DoT_durations[1], 4.0) * DoT_DPS[1], DoT_DPS[1] / RoF);
+			solver.setDoT(3, numShotsToProcPersistentPlasma, Math.min(DoT_durations[2], 4.0) * plasmaDPS, plasmaDPS / RoF);
+			solver.setDoT(4, numShotsToProcRadiation, Math.min(DoT_durations[3], 4.0) * DoT_DPS[3], DoT_DPS[3] / RoF);
+			
+			// Normal Damage
+			if (t.hasExposedBodySomewhere[i]) {
+				// There's no armor here, so it's always "broken"
+				toReturn.add(solver.shotsToKill(creatureHP, modifiedDirectDamage, modifiedDirectDamage, false, 0, false, modifiedAreaDamage));
+			}
+			
+			// Light Armor
+			if (t.hasLightArmor[i]) {
+				lightArmorStrength = t.armorStrength[i];
+				
+				if (embeddedDetonators) {
+					numShotsToBreakArmor = Math.ceil(MathUtils.meanRolls(EnemyInformation.lightArmorBreakProbabilityLookup(rawDirectDamage, armorBreaking, lightArmorStrength)));
+				}
+				else {
+					numShotsToBreakArmor = Math.ceil(MathUtils.meanRolls(EnemyInformation.lightArmorBreakProbabilityLookup(rawDirectDamage + rawAreaDamage, armorBreaking, lightArmorStrength)));
+				}
+				
+				// Armor Breaking above 100% breaks the plate on the shot that reaches the average number of hits; otherwise it's the shot after.
+				toReturn.add(solver.shotsToKill(creatureHP, modifiedDirectDamage * lightArmorReduction, modifiedDirectDamage, false, numShotsToBreakArmor, armorBreaking > 1.0, modifiedAreaDamage));
+			}
+			
+			// Weakpoint
+			if (t.hasWeakpoint[i]) {
+				if (t.weakpointIsCoveredByHeavyArmor[i]) {
+					heavyArmorHP = scaledArmorHealth[i];
+					
+					if (embeddedDetonators) {
+						numShotsToBreakArmor = heavyArmorHP / (rawDirectDamage * armorBreaking);
+					}
+					else {
+						numShotsToBreakArmor = heavyArmorHP / ((rawDirectDamage + rawAreaDamage) * armorBreaking);
+					}
+				}
+				else {
+					heavyArmorHP = 0;
+					numShotsToBreakArmor = 0;
+				}
+				
+				if (!frozen && heavyArmorHP > 0) {
+					// Shots that hit the Heavy Armor covering the weakpoint don't do any damage (not even the DoTs) until it breaks.
+					toReturn.add(solver.shotsToKill(creatureHP, 0, modifiedDirectDamage * creatureWeakpointModifier, true, numShotsToBreakArmor, armorBreaking > 1.0, modifiedAreaDamage));
+				}
+				else {
+					toReturn.add(solver.shotsToKill(creatureHP, 0, modifiedDirectDamage * creatureWeakpointModifier, false, 0, false, modifiedAreaDamage));
+				}
+			}
+		}
+				
+		return convertIntegers(toReturn);
+	}
+	
+	// Sourced from https://stackoverflow.com/a/718558
+	private static int[] convertIntegers(List<Integer> integers) {
+	    int[] ret = new int[integers.size()];
+	    Iterator<Integer> iterator = integers.iterator();
+	    for (int i = 0; i < ret.length; i++) {
+	        ret[i] = iterator.next().intValue();
+	    }
+	    return ret;
+	}
+	
+	/*
+		There's no succinct or clever way to write this method. It's going to be a beast, and iterate over several creatures individually. I apologize to anyone that has to
+		read over this method after it's done...
+		
+		Creatures with either Light or Heavy Armor:
+			Glyphid Grunt
+			Glyphid Grunt Guard
+			Glyphid Grunt Slasher
+			Glyphid Praetorian
+			Glyphid Webspitter
+			Glyphid Acidspitter
+			Glyphid Menace
+			Glyphid Warden
+			Q'ronar Shellback
+			Mactera Brundle
+			
+		For most enemies in the list, I'm going to model it as if every shot fired has Weakpoint Accuracy percent of the Direct Damage hit the Weakpoint, 
+		(General Accuracy - Weakpoint Accuracy) percent hit up to 6 armor plates simultaneously and have its damage reduced accordingly, and 
+		remove (100% - General Accuracy) % of Direct Damage to account for missed shots. Area Damage will be applied normally, thankfully. This "superimposition" of
+		Direct Damage is the only way I can think of to produce consistent, repeatable results from this type of mechanic. If I didn't use this method, it would be a 
+		lot of RNG rolls to model and that would produce different results even for the same build different times.
+		
+		There will be a couple exceptions to this pattern: Praetorian, Shellback, and Brundle. Praetorian will have General Accuracy percent of Direct Damage hit its mouth, and 
+		(100% - General Accuracy) percent of Direct Damage hit the Heavy Armor plates around the mouth. Shellbacks will have General Accuracy percentage of Direct Damage
+		hit its plates until they're broken. Brundles take no damage until their Heavy Armor is broken, and then they take 3x Weakpoint damage.
+		
+		I'm choosing to let Overkill damage be counted as damage dealt. Too complicated to keep track of while simultaneously doing Armor stuff.
+		
+		The answer gets written into output, which has to be a double[2][getNumArmoredEnemies()]: the first row is the Spawn Probabilities and the second row is the
+		percentage of damage wasted on each creature. Weapons pass in their damageWastedByArmorPerCreature so that nothing gets allocated for the answer, and since the 
+		plates only need to be walked once for each set of inputs, every call after the first with the same numbers is just two array copies.
+	*/
+	public void percentageDamageWastedByArmor(double[][] output, double directDamage, int numPellets, double areaDamage, double armorBreaking, double weakpointModifier, double generalAccuracy, double weakpointAccuracy) {
+		percentageDamageWastedByArmor(output, directDamage, numPellets, areaDamage, armorBreaking, weakpointModifier, generalAccuracy, weakpointAccuracy, false);
+	}
+	public void percentageDamageWastedByArmor(double[][] output, double directDamage, int numPellets, double areaDamage, double armorBreaking, double weakpointModifier, double generalAccuracy, double weakpointAccuracy, boolean embeddedDetonators) {
+		ArmorWasteInputs key = new ArmorWasteInputs(directDamage, numPellets, areaDamage, armorBreaking, weakpointModifier, generalAccuracy, weakpointAccuracy, embeddedDetonators);
+		double[] damageWasted = memoizedArmorWaste.get(key);
+		if (damageWasted == null) {
+			armorWasteMisses.incrementAndGet();
+			// Just like breakpoints, if two threads both miss on the same inputs they'll calculate the same answer, so it doesn't matter which one gets stored.
+			damageWasted = calculateDamageWastedByArmor(directDamage, numPellets, areaDamage, armorBreaking, weakpointModifier, generalAccuracy, weakpointAccuracy, embeddedDetonators);
+			if (memoizedArmorWaste.size() >= maxMemoizedArmorWaste) {
+				memoizedArmorWaste.clear();
+			}
+			memoizedArmorWaste.put(key, damageWasted);
+		}
+		else {
+			armorWasteHits.incrementAndGet();
+		}
+		
+		System.arraycopy(armoredSpawnProbability, 0, output[0], 0, numArmoredEnemies);
+		System.arraycopy(damageWasted, 0, output[1], 0, numArmoredEnemies);
+	}
+	
+	private double[] calculateDamageWastedByArmor(double directDamage, int numPellets, double areaDamage, double armorBreaking, double weakpointModifier, double generalAccuracy, double weakpointAccuracy, boolean embeddedDetonators) {
+		double[] toReturn = new double[numArmoredEnemies];
+		
+		int creatureIndex = 0, i, j;
+		double baseHealth, heavyArmorPlateHealth;
+		double damageDealtPerPellet, proportionOfDamageThatHitsArmor, proportionOfDamageThatHitsWeakpoint;
+		int avgNumHitsToBreakArmorStrengthPlate, numHitsOnArmorStrengthPlate;
+		double totalDamageSpent, actualDamageDealt;
+		Enemy alias;
+		for (i = 0; i < enemies.length; i++) {
+			alias = enemies[i];
+			
+			// Skip any enemy that either has no Armor or Unbreakable Armor
+			if (!alias.hasBreakableArmor()) {
+				continue;
+			}
+			
+			baseHealth = scaledHealth[i];
+			
+			if (alias.hasHeavyArmorHealth()) {
+				// All Heavy Armor plates with healthbars have their health scale with normal resistance.
+				heavyArmorPlateHealth = scaledArmorHealth[i];
+			}
+			else {
+				heavyArmorPlateHealth = 0;
+			}
+			
+			if (alias.getName().equals("Glyphid Praetorian")) {
+				proportionOfDamageThatHitsArmor = (100.0 - generalAccuracy) / 100.0;
+				double proportionOfDamageThatHitsMouth = generalAccuracy / 100.0;
+				
+				totalDamageSpent = 0;
+				actualDamageDealt = 0;
+				while (baseHealth > 0) {
+					// First, Direct Damage
+					for (j = 0; j < numPellets; j++) {
+						totalDamageSpent += directDamage;
+						damageDealtPerPellet = proportionOfDamageThatHitsMouth * directDamage;
+						if (heavyArmorPlateHealth > 0) {
+							if (armorBreaking > 1.0) {
+								if (directDamage * armorBreaking > heavyArmorPlateHealth) {
+									damageDealtPerPellet += proportionOfDamageThatHitsArmor * directDamage;
+									heavyArmorPlateHealth = 0;
+								}
+								else {
+									// Direct Damage insufficient to break the Heavy Armor Plate
+									heavyArmorPlateHealth -= directDamage * proportionOfDamageThatHitsArmor * armorBreaking;
+								}
+							}
+							else {
+								if (directDamage * proportionOfDamageThatHitsArmor * armorBreaking > heavyArmorPlateHealth) {
+									heavyArmorPlateHealth = 0;
+								}
+								else {
+									// Direct Damage insufficient to break the Heavy Armor Plate
+									heavyArmorPlateHealth -= directDamage * proportionOfDamageThatHitsArmor * armorBreaking;
+								}
+							}
+						}
+						else {
+							damageDealtPerPellet += proportionOfDamageThatHitsArmor * directDamage;
+						}
+						
+						actualDamageDealt += damageDealtPerPellet;
+						baseHealth -= damageDealtPerPellet;
+					}
+					
+					// Second, Area Damage
+					totalDamageSpent += areaDamage;
+					if (embeddedDetonators) {
+						if (heavyArmorPlateHealth == 0) {
+							actualDamageDealt += areaDamage;
+							baseHealth -= areaDamage;
+						}
+					}
+					else {
+						if (heavyArmorPlateHealth > 0) {
+							heavyArmorPlateHealth = Math.max(heavyArmorPlateHealth - areaDamage * armorBreaking, 0);
+						}
+						
+						actualDamageDealt += areaDamage;
+						baseHealth -= areaDamage;
+					}
+				}
+			}
+			else if (alias.getName().equals("Q'ronar Shellback")) {
+				totalDamageSpent = 0;
+				actualDamageDealt = 0;
+				while (baseHealth > 0) {
+					// First, Direct Damage
+					for (j = 0; j < numPellets; j++) {
+						totalDamageSpent += directDamage;
+						damageDealtPerPellet = 0;
+						if (heavyArmorPlateHealth > 0) {
+							if (armorBreaking > 1.0) {
+								if (directDamage * armorBreaking > heavyArmorPlateHealth) {
+									damageDealtPerPellet += directDamage;
+									heavyArmorPlateHealth = 0;
+								}
+								else {
+									// Direct Damage insufficient to break the Heavy Armor Plate
+									heavyArmorPlateHealth -= directDamage * armorBreaking;
+								}
+							}
+							else {
+								if (directDamage * armorBreaking > heavyArmorPlateHealth) {
+									heavyArmorPlateHealth = 0;
+								}
+								else {
+									// Direct Damage insufficient to break the Heavy Armor Plate
+									heavyArmorPlateHealth -= directDamage * armorBreaking;
+								}
+							}
+						}
+						else {
+							damageDealtPerPellet += directDamage;
+						}
+						
+						actualDamageDealt += damageDealtPerPellet;
+						baseHealth -= damageDealtPerPellet;
+					}
+					
+					// Second, Area Damage
+					totalDamageSpent += areaDamage;
+					if (embeddedDetonators) {
+						if (heavyArmorPlateHealth == 0) {
+							actualDamageDealt += areaDamage;
+							baseHealth -= areaDamage;
+						}
+					}
+					else {
+						if (heavyArmorPlateHealth > 0) {
+							heavyArmorPlateHealth = Math.max(heavyArmorPlateHealth - areaDamage * armorBreaking, 0);
+						}
+						
+						actualDamageDealt += areaDamage;
+						baseHealth -= areaDamage;
+					}
+				}
+			}
+			else if (alias.getName().equals("Mactera Brundle")) {
+				double theoreticalDamagePerPellet;
+				if (weakpointModifier < 0.0) {
+					theoreticalDamagePerPellet = directDamage;
+				}
+				else {
+					theoreticalDamagePerPellet = directDamage * (1.0 + weakpointModifier) * alias.getWeakpointMultiplier();
+				}
+				
+				totalDamageSpent = 0;
+				actualDamageDealt = 0;
+				while (baseHealth > 0) {
+					// First, Direct Damage
+					for (j = 0; j < numPellets; j++) {
+						totalDamageSpent += theoreticalDamagePerPellet;
+						damageDealtPerPellet = 0;
+						if (heavyArmorPlateHealth > 0) {
+							if (armorBreaking > 1.0) {
+								if (directDamage * armorBreaking > heavyArmorPlateHealth) {
+									damageDealtPerPellet += theoreticalDamagePerPellet;
+									heavyArmorPlateHealth = 0;
+								}
+								else {
+									// Direct Damage insufficient to break the Heavy Armor Plate
+									heavyArmorPlateHealth -= directDamage * armorBreaking;
+								}
+							}
+							else {
+								if (directDamage * armorBreaking > heavyArmorPlateHealth) {
+									heavyArmorPlateHealth = 0;
+								}
+								else {
+									// Direct Damage insufficient to break the Heavy Armor Plate
+									heavyArmorPlateHealth -= directDamage * armorBreaking;
+								}
+							}
+						}
+						else {
+							damageDealtPerPellet += theoreticalDamagePerPellet;
+						}
+						
+						actualDamageDealt += damageDealtPerPellet;
+						baseHealth -= damageDealtPerPellet;
+					}
+					
+					// Second, Area Damage
+					totalDamageSpent += areaDamage;
+					if (embeddedDetonators) {
+						if (heavyArmorPlateHealth == 0) {
+							actualDamageDealt += areaDamage;
+							baseHealth -= areaDamage;
+						}
+					}
+					else {
+						if (heavyArmorPlateHealth > 0) {
+							heavyArmorPlateHealth = Math.max(heavyArmorPlateHealth - areaDamage * armorBreaking, 0);
+						}
+						
+						actualDamageDealt += areaDamage;
+						baseHealth -= areaDamage;
+					}
+				}
+			}
+			else {
+				proportionOfDamageThatHitsArmor = (100.0 - weakpointAccuracy) / 100.0;
+				proportionOfDamageThatHitsWeakpoint = weakpointAccuracy / 100.0;
+				
+				if (alias.hasLightArmor() || alias.hasHeavyArmorStrength()) {
+					if (embeddedDetonators || (areaDamage > 0 && numPellets > 1)) {
+						// Boomstick special case -- I'm choosing to model it as if the Blastwave doesn't break Light Armor Plates for simplicity later in the method
+						avgNumHitsToBreakArmorStrengthPlate = (int) Math.ceil(MathUtils.meanRolls(EnemyInformation.lightArmorBreakProbabilityLookup(directDamage, armorBreaking, alias.getArmorStrength())));
+					}
+					else {
+						avgNumHitsToBreakArmorStrengthPlate = (int) Math.ceil(MathUtils.meanRolls(EnemyInformation.lightArmorBreakProbabilityLookup(directDamage + areaDamage, armorBreaking, alias.getArmorStrength())));
+					}
+				}
+				else {
+					avgNumHitsToBreakArmorStrengthPlate = 0;
+				}
+				numHitsOnArmorStrengthPlate = 0;
+				
+				totalDamageSpent = 0;
+				actualDamageDealt = 0;
+				while (baseHealth > 0) {
+					// First, Direct Damage
+					for (j = 0; j < numPellets; j++) {
+						if (weakpointModifier < 0) {
+							totalDamageSpent += directDamage;
+							damageDealtPerPellet = directDamage * proportionOfDamageThatHitsWeakpoint;
+						}
+						else {
+							totalDamageSpent += directDamage * proportionOfDamageThatHitsWeakpoint * (1.0 + weakpointModifier) * alias.getWeakpointMultiplier() + directDamage * proportionOfDamageThatHitsArmor;
+							damageDealtPerPellet = directDamage * proportionOfDamageThatHitsWeakpoint * (1.0 + weakpointModifier) * alias.getWeakpointMultiplier();
+						}
+						
+						// 1. Light Armor plates (always Armor Strength, mixes with Heavy Armor plates on Guards)
+						if (alias.hasLightArmor()) {
+							numHitsOnArmorStrengthPlate++;
+							if (numHitsOnArmorStrengthPlate > avgNumHitsToBreakArmorStrengthPlate || (armorBreaking > 1.0 && numHitsOnArmorStrengthPlate == avgNumHitsToBreakArmorStrengthPlate)) {
+								damageDealtPerPellet += directDamage * proportionOfDamageThatHitsArmor * alias.getNumArmorStrengthPlates() / (alias.getNumArmorStrengthPlates() + alias.getNumArmorHealthPlates());
+							}
+							else {
+								damageDealtPerPellet += directDamage * proportionOfDamageThatHitsArmor * UtilityInformation.LightArmor_DamageReduction * alias.getNumArmorStrengthPlates() / (alias.getNumArmorStrengthPlates() + alias.getNumArmorHealthPlates());
+							}
+						}
+						
+						// 2. Heavy Armor Plates with health (mixes with Light Armor plates on Guards)
+						if (alias.hasHeavyArmorHealth()) { 
+							if (heavyArmorPlateHealth > 0) {
+								if (armorBreaking > 1.0) {
+									if (directDamage * armorBreaking > heavyArmorPlateHealth) {
+										damageDealtPerPellet += directDamage * proportionOfDamageThatHitsArmor * alias.getNumArmorHealthPlates() / (alias.getNumArmorStrengthPlates() + alias.getNumArmorHealthPlates());
+										heavyArmorPlateHealth = 0;
+									}
+									else {
+										// Direct Damage insufficient to break the Heavy Armor Plate
+										heavyArmorPlateHealth -= directDamage * proportionOfDamageThatHitsArmor * armorBreaking;
+									}
+								}
+								else {
+									if (directDamage * proportionOfDamageThatHitsArmor * armorBreaking > heavyArmorPlateHealth) {
+										heavyArmorPlateHealth = 0;
+									}
+									else {
+										// Direct Damage insufficient to break the Heavy Armor Plate
+										heavyArmorPlateHealth -= directDamage * proportionOfDamageThatHitsArmor * armorBreaking;
+									}
+								}
+							}
+							else {
+								damageDealtPerPellet += proportionOfDamageThatHitsArmor * directDamage * alias.getNumArmorHealthPlates() / (alias.getNumArmorStrengthPlates() + alias.getNumArmorHealthPlates());
+							}
+						}
+						
+						// 3. Heavy Armor plates with Armor Strength (mutually exclusive with Light Armor plates)
+						if (alias.hasHeavyArmorStrength()) {
+							numHitsOnArmorStrengthPlate++;
+							if (numHitsOnArmorStrengthPlate > avgNumHitsToBreakArmorStrengthPlate || (armorBreaking > 1.0 && numHitsOnArmorStrengthPlate == avgNumHitsToBreakArmorStrengthPlate)) {
+								damageDealtPerPellet += directDamage * proportionOfDamageThatHitsArmor;
+							}
+						}
+						
+						actualDamageDealt += damageDealtPerPellet;
+						baseHealth -= damageDealtPerPellet;
+					}
+					
+					// Second, Area Damage
+					totalDamageSpent += areaDamage;
+					if (embeddedDetonators) {
+						// Case 1: Guards' front leg plates have HP and block Embedded Detonators' damage until they're broken
+						if (alias.hasHeavyArmorHealth()) {
+							if (heavyArmorPlateHealth == 0) {
+								actualDamageDealt += areaDamage;
+								baseHealth -= areaDamage;
+							}
+						}
+						// Case 2: Wardens and Menaces have Heavy Armor that uses Armor Strength
+						else if (alias.hasHeavyArmorStrength()) {
+							// Detonators aren't placed until after the Heavy Armor plate is broken
+							if (numHitsOnArmorStrengthPlate > avgNumHitsToBreakArmorStrengthPlate) {
+								actualDamageDealt += areaDamage;
+								baseHealth -= areaDamage;
+							}
+						}
+						// Case 3: Light Armor plates don't stop the embedded detonators from dealing damage
+						else if (alias.hasLightArmor()) {
+							actualDamageDealt += areaDamage;
+							baseHealth -= areaDamage;
+						}
+					}
+					else {
+						if (heavyArmorPlateHealth > 0) {
+							heavyArmorPlateHealth = Math.max(heavyArmorPlateHealth - areaDamage * armorBreaking, 0);
+						}
+						
+						actualDamageDealt += areaDamage;
+						baseHealth -= areaDamage;
+					}
+				}
+			}
+			
+			toReturn[creatureIndex] = 1.0 - actualDamageDealt / totalDamageSpent;
+			creatureIndex++;
+		}
+		
+		return toReturn;
+	}
+	
+	/*
+		This method intentionally ignores elemental resistances/weaknesses and weakpoint damage bonuses because I don't want to repeat the Breakpoints insanity.
+	*/
+	public double[][] overkillPerCreature(double totalDamagePerShot){
+		int numEnemies = enemies.length;
+		double[][] toReturn = new double[2][numEnemies];
+		toReturn[0] = new double[numEnemies];
+		toReturn[1] = new double[numEnemies];
+		
+		double creatureHP;
+		for (int i = 0; i < enemies.length; i++) {
+			creatureHP = scaledHealth[i];
+			
+			toReturn[0][i] = 1.0 / ((double) numEnemies);
+			toReturn[1][i] = ((Math.ceil(creatureHP / totalDamagePerShot) * totalDamagePerShot) / creatureHP - 1.0) * 100.0;
+		}
+		
+		return toReturn;
+	}
+}
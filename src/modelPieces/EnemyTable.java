@@ -0,0 +1,149 @@
+package modelPieces;
+
+import enemies.Enemy;
+
+/*
+	Every number that the averages and breakpoints read from the modeled creatures, copied out of the Enemy objects into one plain array per value. The Enemy subclasses
+	are still where these numbers get written down, but reading them back used to mean a virtual getter call (and sometimes a division or a branch) for every creature in
+	every loop, for every build. With each value sitting in its own double[] in the same order as EnemyInformation.enemiesModeled, those loops are just arithmetic over
+	arrays, which the JIT is a lot better at.
+	
+	None of these depend on Hazard Level or player count, so there's only the one table and every EnemyContext shares it. The arrays are never written to after the
+	constructor, so reading them from multiple threads is fine; they're only visible inside modelPieces so nothing else can change them either.
+*/
+final class EnemyTable {
+	
+	/****************************************************************************************
+	* Class Variables
+	****************************************************************************************/
+	
+	final int numEnemies;
+	
+	final double[] exactSpawnProbability;
+	final double[] guessedSpawnProbability;
+	
+	final double[] baseHealth;
+	final boolean[] usesNormalScaling;
+	// Zero for any creature that doesn't have Heavy Armor plates with healthbars
+	final double[] armorBaseHealth;
+	// Zero for any creature that doesn't have Light Armor or Heavy Armor that uses Armor Strength
+	final double[] armorStrength;
+	
+	// Both of these are zero for any creature without a weakpoint, which lets them be used in the weighted averages without checking hasWeakpoint first.
+	final double[] weakpointMultiplier;
+	final double[] probabilityBulletHitsWeakpoint;
+	
+	// 1.0 - resistance for each element, so these can be multiplied straight into the damage
+	final double[] explosiveDamageTaken;
+	final double[] fireDamageTaken;
+	final double[] frostDamageTaken;
+	final double[] electricDamageTaken;
+	
+	// These temperatures already have each creature's temperature change scale applied to them.
+	final double[] igniteTemp;
+	final double[] douseTemp;
+	final double[] coolingRate;
+	final double[] freezeTemp;
+	final double[] unfreezeTemp;
+	final double[] warmingRate;
+	
+	final double[] courage;
+	final double[] maxMovespeedWhenFeared;
+	
+	// The parts of breakpoints that are just yes-or-no for each creature
+	final boolean[] calculateBreakpoints;
+	final boolean[] macteraType;
+	final boolean[] hasExposedBodySomewhere;
+	final boolean[] hasWeakpoint;
+	final boolean[] hasLightArmor;
+	final boolean[] weakpointIsCoveredByHeavyArmor;
+	// Light Armor, Heavy Armor with Armor Strength, or Heavy Armor with a healthbar. These are the creatures that percentageDamageWastedByArmor() models.
+	final boolean[] hasBreakableArmor;
+	
+	/****************************************************************************************
+	* Constructors
+	****************************************************************************************/
+	
+	EnemyTable(Enemy[] enemies) {
+		numEnemies = enemies.length;
+		
+		exactSpawnProbability = new double[numEnemies];
+		guessedSpawnProbability = new double[numEnemies];
+		baseHealth = new double[numEnemies];
+		usesNormalScaling = new boolean[numEnemies];
+		armorBaseHealth = new double[numEnemies];
+		armorStrength = new double[numEnemies];
+		weakpointMultiplier = new double[numEnemies];
+		probabilityBulletHitsWeakpoint = new double[numEnemies];
+		explosiveDamageTaken = new double[numEnemies];
+		fireDamageTaken = new double[numEnemies];
+		frostDamageTaken = new double[numEnemies];
+		electricDamageTaken = new double[numEnemies];
+		igniteTemp = new double[numEnemies];
+		douseTemp = new double[numEnemies];
+		coolingRate = new double[numEnemies];
+		freezeTemp = new double[numEnemies];
+		unfreezeTemp = new double[numEnemies];
+		warmingRate = new double[numEnemies];
+		courage = new double[numEnemies];
+		maxMovespeedWhenFeared = new double[numEnemies];
+		calculateBreakpoints = new boolean[numEnemies];
+		macteraType = new boolean[numEnemies];
+		hasExposedBodySomewhere = new boolean[numEnemies];
+		hasWeakpoint = new boolean[numEnemies];
+		hasLightArmor = new boolean[numEnemies];
+		weakpointIsCoveredByHeavyArmor = new boolean[numEnemies];
+		hasBreakableArmor = new boolean[numEnemies];
+		
+		Enemy alias;
+		for (int i = 0; i < numEnemies; i++) {
+			alias = enemies[i];
+			
+			exactSpawnProbability[i] = alias.getSpawnProbability(true);
+			guessedSpawnProbability[i] = alias.getSpawnProbability(false);
+			baseHealth[i] = alias.getBaseHealth();
+			usesNormalScaling[i] = alias.usesNormalScaling();
+			armorBaseHealth[i] = alias.getArmorBaseHealth();
+			armorStrength[i] = alias.getArmorStrength();
+			weakpointMultiplier[i] = alias.getWeakpointMultiplier();
+			probabilityBulletHitsWeakpoint[i] = alias.getProbabilityBulletHitsWeakpoint();
+			
+			explosiveDamageTaken[i] = 1.0 - alias.getExplosiveResistance();
+			fireDamageTaken[i] = 1.0 - alias.getFireResistance();
+			frostDamageTaken[i] = 1.0 - alias.getFrostResistance();
+			electricDamageTaken[i] = 1.0 - alias.getElectricResistance();
+			
+			igniteTemp[i] = alias.getIgniteTemp();
+			douseTemp[i] = alias.getDouseTemp();
+			coolingRate[i] = alias.getCoolingRate();
+			freezeTemp[i] = alias.getFreezeTemp();
+			unfreezeTemp[i] = alias.getUnfreezeTemp();
+			warmingRate[i] = alias.getWarmingRate();
+			
+			courage[i] = alias.getCourage();
+			maxMovespeedWhenFeared[i] = alias.getMaxMovespeedWhenFeared();
+			
+			calculateBreakpoints[i] = alias.shouldHaveBreakpointsCalculated();
+			macteraType[i] = alias.isMacteraType();
+			hasExposedBodySomewhere[i] = alias.hasExposedBodySomewhere();
+			hasWeakpoint[i] = alias.hasWeakpoint();
+			hasLightArmor[i] = alias.hasLightArmor();
+			weakpointIsCoveredByHeavyArmor[i] = alias.weakpointIsCoveredByHeavyArmor();
+			hasBreakableArmor[i] = alias.hasBreakableArmor();
+		}
+	}
+	
+	/****************************************************************************************
+	* Other Methods
+	****************************************************************************************/
+	
+	// The spawn probabilities that the averages get weighted by: exact for everything except the guessed health pool
+	double[] getSpawnProbabilities(boolean exact) {
+		if (exact) {
+			return exactSpawnProbability;
+		}
+		else {
+			return guessedSpawnProbability;
+		}
+	}
+}
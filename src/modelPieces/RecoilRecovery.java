@@ -0,0 +1,108 @@
+package modelPieces;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import utilities.MathUtils;
+
+/*
+	Every shot's recoil is modeled as a critically damped spring: Recoil(t) = v * t * e^(-w * t), where v is the initial velocity (the length of the pitch and yaw vector)
+	and w is the spring's natural frequency, sqrt(stiffness / mass). It climbs up to its highest value of v / (e * w) at t = 1/w, and then falls back down towards zero.
+	
+	Both AccuracyEstimator (to know when a shot's recoil is small enough to ignore) and Weapon.calculateTimeToRecoverRecoil() (for the recommended RoF of Engineer/Shotgun
+	and Gunner/Revolver) need to know the time on the way back down where the recoil reaches some goal value. Setting Recoil(t) = goal and solving for t gives
+		
+		t = -W_-1(-w * goal / v) / w
+	
+	which is what this class calculates, with MathUtils.lambertWm1(). A Weapon only ever has a handful of different recoil values across all of its builds, and the
+	AccuracyEstimator gets run over and over for the same ones, so the answers get remembered the same way that EnemyContext remembers breakpoints.
+*/
+public class RecoilRecovery {
+	
+	/****************************************************************************************
+	* Class Variables
+	****************************************************************************************/
+	
+	// There are only a few hundred different combinations across every Weapon, so this should never actually fill up.
+	private static final int maxMemoizedTimes = 4096;
+	private static final ConcurrentHashMap<Inputs, Double> memoizedTimes = new ConcurrentHashMap<Inputs, Double>();
+	
+	/****************************************************************************************
+	* Other Methods
+	****************************************************************************************/
+	
+	/*
+		Returns the time (in seconds) after the shot at which the recoil falls back down to goalRecoilValue, or -1 if the recoil never climbs that high in the first place.
+		Returns 0 if there's no recoil at all.
+	*/
+	public static double getTimeToRecover(double recoilPitch, double recoilYaw, double mass, double springStiffness, double goalRecoilValue) {
+		Inputs key = new Inputs(recoilPitch, recoilYaw, mass, springStiffness, goalRecoilValue);
+		Double memoized = memoizedTimes.get(key);
+		if (memoized != null) {
+			return memoized;
+		}
+		
+		double toReturn = calculateTimeToRecover(recoilPitch, recoilYaw, mass, springStiffness, goalRecoilValue);
+		if (memoizedTimes.size() >= maxMemoizedTimes) {
+			memoizedTimes.clear();
+		}
+		memoizedTimes.put(key, toReturn);
+		return toReturn;
+	}
+	
+	private static double calculateTimeToRecover(double recoilPitch, double recoilYaw, double mass, double springStiffness, double goalRecoilValue) {
+		double v = Math.hypot(recoilPitch, recoilYaw);
+		if (v <= 0) {
+			return 0.0;
+		}
+		
+		double w = Math.sqrt(springStiffness / mass);
+		if (goalRecoilValue >= v / (Math.E * w)) {
+			return -1;
+		}
+		
+		return -1.0 * MathUtils.lambertWm1(-w * goalRecoilValue / v) / w;
+	}
+	
+	// Doubles are compared bit-for-bit the same way Double.equals() does, just like ArmorWasteInputs.
+	private static final class Inputs {
+		private final double recoilPitch;
+		private final double recoilYaw;
+		private final double mass;
+		private final double springStiffness;
+		private final double goalRecoilValue;
+		private final int hash;
+		
+		private Inputs(double recoilPitch, double recoilYaw, double mass, double springStiffness, double goalRecoilValue) {
+			this.recoilPitch = recoilPitch;
+			this.recoilYaw = recoilYaw;
+			this.mass = mass;
+			this.springStiffness = springStiffness;
+			this.goalRecoilValue = goalRecoilValue;
+			
+			int h = Double.hashCode(recoilPitch);
+			h = h * 31 + Double.hashCode(recoilYaw);
+			h = h * 31 + Double.hashCode(mass);
+			h = h * 31 + Double.hashCode(springStiffness);
+			hash = h * 31 + Double.hashCode(goalRecoilValue);
+		}
+		
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof Inputs)) {
+				return false;
+			}
+			
+			Inputs o = (Inputs) other;
+			return hash == o.hash && Double.compare(recoilPitch, o.recoilPitch) == 0 && Double.compare(recoilYaw, o.recoilYaw) == 0 && Double.compare(mass, o.mass) == 0
+				&& Double.compare(springStiffness, o.springStiffness) == 0 && Double.compare(goalRecoilValue, o.goalRecoilValue) == 0;
+		}
+		
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+}
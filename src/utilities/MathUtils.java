@@ -5,6 +5,7 @@ import java.math.RoundingMode;
 import java.util.ArrayList;
 
 public class MathUtils {
+	// This one is for numbers that get shown to the user. Anything that rounds inside of a calculation should use roundHalfUp() instead.
 	public static double round(double value, int places) {
 		if (places < 0) throw new IllegalArgumentException();
 		 
@@ -13,6 +14,58 @@ public class MathUtils {
 	    return bd.doubleValue();
 	}
 	
+	private static final double[] powersOfTen = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15};
+	// Past 2^52, doubles can't hold a fractional part anymore, so there's nothing left for the shortcut below to round.
+	private static final double largestScaledValue = 4503599627370496.0;
+	
+	/*
+		Returns exactly the same number as round(), without building a String and a BigDecimal every time. round() gets called inside of the breakpoint loops and
+		the AoE Glyphid counting for every build, so it was making more garbage than anything else in a full sweep.
+		
+		round() rounds the decimal that Double.toString() prints, which is never more than 1 ulp away from value itself. So as long as value * 10^places isn't within a 
+		few ulps of a x.5 tie, both of them round to the same whole number, and dividing it by 10^places gives the same double that BigDecimal.doubleValue() would have.
+		The rare values that are that close to a tie (and anything that's NaN, infinite, huge, or wants more than 15 places) still go through round() so that the result 
+		always matches.
+	*/
+	public static double roundHalfUp(double value, int places) {
+		if (places < 0) throw new IllegalArgumentException();
+		if (places >= powersOfTen.length || Double.isNaN(value) || Double.isInfinite(value)) {
+			return round(value, places);
+		}
+		
+		double scaled = Math.abs(value) * powersOfTen[places];
+		if (scaled >= largestScaledValue) {
+			return round(value, places);
+		}
+		
+		double whole = Math.floor(scaled);
+		double fraction = scaled - whole;
+		if (Math.abs(fraction - 0.5) <= 8.0 * Math.ulp(scaled)) {
+			return round(value, places);
+		}
+		
+		if (fraction > 0.5) {
+			whole += 1.0;
+		}
+		// BigDecimal doesn't have a -0.0, so neither does this
+		if (whole == 0.0) {
+			return 0.0;
+		}
+		
+		double toReturn = whole / powersOfTen[places];
+		if (value < 0) {
+			return -toReturn;
+		}
+		else {
+			return toReturn;
+		}
+	}
+	
+	// True if a and b are the same once they've both been rounded to this many decimal places. Used instead of == for sums that pick up tiny errors from double addition.
+	public static boolean equalToPlaces(double a, double b, int places) {
+		return roundHalfUp(a, places) == roundHalfUp(b, places);
+	}
+	
 	/*
 		Mean num bullets fired before proc = 1 / Probability
 		Median num bullets fired before proc = 1 - (1 / Log2[1 - Probability])
@@ -182,7 +235,7 @@ public class MathUtils {
 				toReturn *= Math.pow(primeNumbersLessThanThirtyThree[i], factors[i]);
 			}
 		}
-		return (int) round(toReturn, 2);
+		return (int) roundHalfUp(toReturn, 2);
 	}
 	
 	private static int[] primeFactorMultiply(ArrayList<Integer> numbers) {
@@ -293,272 +346,63 @@ public class MathUtils {
 		return firstThird + secondThird - finalThird;
 	}
 	
-	public static double lambertInverseWNumericalApproximation(double z) {
-		// Taylor Series approximation calculated for me by WolframAlpha, using input: Series[Re[ProductLog[-1, z]], {z, Center, 4}]
-		// This should be a fair approximation for any z value between [-0.1, -0.001] and have an output of around [-9, -3.5]
-		double zed, A, B, C, D, E, F;
-		
-		if (z > -0.006922) {
-			/*
-				Centered around -0.004341
-				Re((-7.44753 - 266.09 (z + 0.004341) - 29911.2 (z + 0.004341)^2 - 4.5586410^6 (z + 0.004341)^3 - 7.8407810^8 (z + 0.004341)^4 - 1.440510^11 (z + 0.004341)^5
-			*/
-			zed = z + 0.004341;
-			A = -7.44753;
-			B = -266.09 * zed;
-			C = -29911.2 * Math.pow(zed, 2);
-			D = -4.55864 * Math.pow(10, 6) * Math.pow(zed, 3);
-			E = -7.84078 * Math.pow(10, 8) * Math.pow(zed, 4);
-			F = -1.4405 * Math.pow(10, 11) * Math.pow(zed, 5);
-		}
-		else if (z > -0.012084) {
-			/*
-				Centered around -0.009503
-				Re((-6.53302 - 124.248 (z + 0.009503) - 6323.79 (z + 0.009503)^2 - 439586. (z + 0.009503)^3 - 3.4505710^7 (z + 0.009503)^4 - 2.8940310^9 (z + 0.009503)^5
-			*/
-			zed = z + 0.009503;
-			A = -6.53302;
-			B = -124.248 * zed;
-			C = -6323.79 * Math.pow(zed, 2);
-			D = -439586 * Math.pow(zed, 3);
-			E = -3.45057 * Math.pow(10, 7) * Math.pow(zed, 4);
-			F = -2.89403 * Math.pow(10, 9) * Math.pow(zed, 5);
-		}
-		else if (z > -0.017246) {
-			/*
-				Centered around -0.014665
-				Re((-6.01686 - 81.7817 (z + 0.014665) - 2677.54 (z + 0.014665)^2 - 120506. (z + 0.014665)^3 - 6.1257410^6 (z + 0.014665)^4 - 3.3278810^8 (z + 0.014665)^5
-			*/
-			zed = z + 0.014665;
-			A = -6.01686;
-			B = -81.7817 * zed;
-			C = -2677.54 * Math.pow(zed, 2);
-			D = -120506 * Math.pow(zed, 3);
-			E = -6.12574 * Math.pow(10, 6) * Math.pow(zed, 4);
-			F = -3.32788 * Math.pow(10, 8) * Math.pow(zed, 5);
-		}
-		else if (z > -0.022408) {
-			/*
-				Centered around -0.019827
-				Re((-5.65287 - 61.2761 (z + 0.019827) - 1473.89 (z + 0.019827)^2 - 49040.5 (z + 0.019827)^3 - 1.8429210^6 (z + 0.019827)^4 - 7.4028710^7 (z + 0.019827)^5
-			*/
-			zed = z + 0.019827;
-			A = -5.65287;
-			B = -61.2761 * zed;
-			C = -1473.89 * Math.pow(zed, 2);
-			D = -49040.5 * Math.pow(zed, 3);
-			E = -1.84292 * Math.pow(10, 6) * Math.pow(zed, 4);
-			F = -7.40287 * Math.pow(10, 7) * Math.pow(zed, 5);
-		}
-		else if (z > -0.02757) {
-			/*
-				Centered around -0.024989
-				Re((-5.37018 - 49.1746 (z + 0.024989) - 932.406 (z + 0.024989)^2 - 24610.3 (z + 0.024989)^3 - 733474. (z + 0.024989)^4 - 2.3370510^7 (z + 0.024989)^5
-			*/
-			zed = z + 0.024989;
-			A = -5.37018;
-			B = -49.1746 * zed;
-			C = -932.406 * Math.pow(zed, 2);
-			D = -24610.3 * Math.pow(zed, 3);
-			E = -733474 * Math.pow(zed, 4);
-			F = -2.33705 * Math.pow(10, 7) * Math.pow(zed, 5);
-		}
-		else if (z > -0.032732) {
-			/*
-				Centered around -0.030151
-				Re((-5.13825 - 41.181 (z + 0.030151) - 643.035 (z + 0.030151)^2 - 14067.5 (z + 0.030151)^3 - 347338. (z + 0.030151)^4 - 9.1702910^6 (z + 0.030151)^5
-			*/
-			zed = z + 0.030151;
-			A = -5.13825;
-			B = -41.181 * zed;
-			C = -643.035 * Math.pow(zed, 2);
-			D = -14067.5 * Math.pow(zed, 3);
-			E = -347338 * Math.pow(zed, 4);
-			F = -9.17029 * Math.pow(10, 6) * Math.pow(zed, 5);
-		}
-		else if (z > -0.037894) {
-			/*
-				Centered around -0.035313
-				Re((-4.94109 - 35.5036 (z + 0.035313) - 470.333 (z + 0.035313)^2 - 8787.86 (z + 0.035313)^3 - 185186. (z + 0.035313)^4 - 4.1736910^6 (z + 0.035313)^5
-			*/
-			zed = z + 0.035313;
-			A = -4.94109;
-			B = -35.5036 * zed;
-			C = -470.333 * Math.pow(zed, 2);
-			D = -8787.86 * Math.pow(zed, 3);
-			E = -185186 * Math.pow(zed, 4);
-			F = -4.17369 * Math.pow(10, 6) * Math.pow(zed, 5);
-		}
-		else if (z > -0.043056) {
-			/*
-				Centered around -0.040475
-				Re((-4.76926 - 31.2614 (z + 0.040475) - 358.999 (z + 0.040475)^2 - 5855.3 (z + 0.040475)^3 - 107607. (z + 0.040475)^4 - 2.1155610^6 (z + 0.040475)^5
-			*/
-			zed = z + 0.040475;
-			A = -4.76926;
-			B = -31.2614 * zed;
-			C = -358.999 * Math.pow(zed, 2);
-			D = -5855.3 * Math.pow(zed, 3);
-			E = -107607 * Math.pow(zed, 4);
-			F = -2.11556 * Math.pow(10, 6) * Math.pow(zed, 5);
-		}
-		else if (z > -0.048218) {
-			/*
-				Centered around -0.045637
-				Re((-4.61672 - 27.9706 (z + 0.045637) - 283.019 (z + 0.045637)^2 - 4097.1 (z + 0.045637)^3 - 66748.8 (z + 0.045637)^4 - 1.1636910^6 (z + 0.045637)^5
-			*/
-			zed = z + 0.045637;
-			A = -4.61672;
-			B = -27.9706 * zed;
-			C = -283.019 * Math.pow(zed, 2);
-			D = -4097.1 * Math.pow(zed, 3);
-			E = -66748.8 * Math.pow(zed, 4);
-			F = -1.16369 * Math.pow(10, 6) * Math.pow(zed, 5);
-		}
-		else if (z > -0.05338) {
-			/*
-				Centered around -0.050799
-				Re((-4.47936 - 25.3432 (z + 0.050799) - 228.841 (z + 0.050799)^2 - 2979.24 (z + 0.050799)^3 - 43583.1 (z + 0.050799)^4 - 682537. (z + 0.050799)^5
-			*/
-			zed = z + 0.050799;
-			A = -4.47936;
-			B = -25.3432 * zed;
-			C = -228.841 * Math.pow(zed, 2);
-			D = -2979.24 * Math.pow(zed, 3);
-			E = -43583.1 * Math.pow(zed, 4);
-			F = -682537 * Math.pow(zed, 5);
-		}
-		else if (z > -0.058542) {
-			/*
-				Centered around -0.055961
-				Re((-4.35425 - 23.197 (z + 0.055961) - 188.839 (z + 0.055961)^2 - 2234.61 (z + 0.055961)^3 - 29657.9 (z + 0.055961)^4 - 421585. (z + 0.055961)^5
-			*/
-			zed = z + 0.055961;
-			A = -4.35425;
-			B = -23.197 * zed;
-			C = -188.839 * Math.pow(zed, 2);
-			D = -2234.61 * Math.pow(zed, 3);
-			E = -29657.9 * Math.pow(zed, 4);
-			F = -421585 * Math.pow(zed, 5);
-		}
-		else if (z > -0.063704) {
-			/*
-				Centered around -0.061123
-				Re((-4.23925 - 21.4111 (z + 0.061123) - 158.456 (z + 0.061123)^2 - 1719.47 (z + 0.061123)^3 - 20880.1 (z + 0.061123)^4 - 271733. (z + 0.061123)^5
-			*/
-			zed = z + 0.061123;
-			A = -4.23925;
-			B = -21.4111 * zed;
-			C = -158.456 * Math.pow(zed, 2);
-			D = -1719.47 * Math.pow(zed, 3);
-			E = -20880.1 * Math.pow(zed, 4);
-			F = -271733 * Math.pow(zed, 5);
-		}
-		else if (z > -0.068866) {
-			/*
-				Centered around -0.066285
-				Re((-4.13273 - 19.9021 (z + 0.066285) - 134.828 (z + 0.066285)^2 - 1351.75 (z + 0.066285)^3 - 15124.9 (z + 0.066285)^4 - 181508. (z + 0.066285)^5
-			*/
-			zed = z + 0.066285;
-			A = -4.13273;
-			B = -19.9021 * zed;
-			C = -134.828 * Math.pow(zed, 2);
-			D = -1351.75 * Math.pow(zed, 3);
-			E = -15124.9 * Math.pow(zed, 4);
-			F = -181508 * Math.pow(zed, 5);
-		}
-		else if (z > -0.074028) {
-			/*
-				Centered around -0.071447
-				Re((-4.03341 - 18.6105 (z + 0.071447) - 116.086 (z + 0.071447)^2 - 1082.22 (z + 0.071447)^3 - 11224.1 (z + 0.071447)^4 - 124974. (z + 0.071447)^5
-			*/
-			zed = z + 0.071447;
-			A = -4.03341;
-			B = -18.6105 * zed;
-			C = -116.086 * Math.pow(zed, 2);
-			D = -1082.22 * Math.pow(zed, 3);
-			E = -11224.1 * Math.pow(zed, 4);
-			F = -124974 * Math.pow(zed, 5);
-		}
-		else if (z > -0.07919) {
-			/*
-				Centered around -0.076609
-				Re((-3.9403 - 17.4927 (z + 0.076609) - 100.963 (z + 0.076609)^2 - 880.165 (z + 0.076609)^3 - 8504.31 (z + 0.076609)^4 - 88323.7 (z + 0.076609)^5
-			*/
-			zed = z + 0.076609;
-			A = -3.9403;
-			B = -17.4927 * zed;
-			C = -100.963 * Math.pow(zed, 2);
-			D = -880.165 * Math.pow(zed, 3);
-			E = -8504.31 * Math.pow(zed, 4);
-			F = -88323.7 * Math.pow(zed, 5);
-		}
-		else if (z > -0.084352) {
-			/*
-				Centered around -0.081771
-				Re((-3.85257 - 16.5164 (z + 0.081771) - 88.5805 (z + 0.081771)^2 - 725.715 (z + 0.081771)^3 - 6560.92 (z + 0.081771)^4 - 63854.8 (z + 0.081771)^5
-			*/
-			zed = z + 0.081771;
-			A = -3.85257;
-			B = -16.5164 * zed;
-			C = -88.5805 * Math.pow(zed, 2);
-			D = -725.715 * Math.pow(zed, 3);
-			E = -6560.92 * Math.pow(zed, 4);
-			F = -63854.8 * Math.pow(zed, 5);
-		}
-		else if (z > -0.089514) {
-			/*
-				Centered around -0.086933
-				Re((-3.76958 - 15.6565 (z + 0.086933) - 78.3096 (z + 0.086933)^2 - 605.633 (z + 0.086933)^3 - 5142.3 (z + 0.086933)^4 - 47094. (z + 0.086933)^5
-			*/
-			zed = z + 0.086933;
-			A = -3.76958;
-			B = -15.6565 * zed;
-			C = -78.3096 * Math.pow(zed, 2);
-			D = -605.633 * Math.pow(zed, 3);
-			E = -5142.3 * Math.pow(zed, 4);
-			F = -47094 * Math.pow(zed, 5);
-		}
-		else if (z > -0.094676) {
-			/*
-				Centered around -0.092095
-				Re((-3.69077 - 14.8938 (z + 0.092095) - 69.6926 (z + 0.092095)^2 - 510.87 (z + 0.092095)^3 - 4087.04 (z + 0.092095)^4 - 35350.9 (z + 0.092095)^5
-			*/
-			zed = z + 0.092095;
-			A = -3.69077;
-			B = -14.8938 * zed;
-			C = -69.6926 * Math.pow(zed, 2);
-			D = -510.87 * Math.pow(zed, 3);
-			E = -4087.04 * Math.pow(zed, 4);
-			F = -35350.9 * Math.pow(zed, 5);
-		}
-		else if (z > -0.099838) {
-			/*
-				Centered around -0.097257
-				Re((-3.61568 - 14.213 (z + 0.097257) - 62.3892 (z + 0.097257)^2 - 435.093 (z + 0.097257)^3 - 3288.84 (z + 0.097257)^4 - 26957.1 (z + 0.097257)^5
-			*/
-			zed = z + 0.097257;
-			A = -3.61568;
-			B = -14.213* zed;
-			C = -62.3892 * Math.pow(zed, 2);
-			D = -435.093 * Math.pow(zed, 3);
-			E = -3288.84 * Math.pow(zed, 4);
-			F = -26957.1 * Math.pow(zed, 5);
+	// Both branches of the Lambert W function meet at z = -1/e, where W = -1.
+	private static final double lambertBranchPoint = -1.0 / Math.E;
+	// Halley's method roughly triples the number of correct digits every iteration, so from the starting guesses below it's done in 2-3. This is just a safety net.
+	private static final int maxLambertIterations = 32;
+	// Once a step is this small, the step after it would be smaller than the rounding error of a double, so there's no need to take it.
+	private static final double lambertStepTolerance = 1e-6;
+	
+	/*
+		The lower branch of the Lambert W function, W_-1(z): the solution w <= -1 to w * e^w = z, for any z in [-1/e, 0). Returns NaN for anything outside of that range.
+		
+		This used to be a table of 20 Taylor series (WolframAlpha was nice enough to calculate them for me) that were only any good for z between -0.1 and -0.001, and
+		Weapon.calculateTimeToRecoverRecoil() had to fall back on a binary search because Engineer/Shotgun's recoil didn't fit in that range. Instead, this starts from the
+		usual approximations for W_-1 (the series around the branch point when z is close to -1/e, and the asymptotic series when z is close to 0), and then polishes
+		that guess with Halley's method on f(w) = w * e^w - z until it stops changing. That converges everywhere in [-1/e, 0) and is good to about 15 significant digits.
+	*/
+	public static double lambertWm1(double z) {
+		if (z == 0.0) {
+			return Double.NEGATIVE_INFINITY;
+		}
+		// Written this way around so that NaN gets caught too. The tiny bit of slack lets -1/e itself through even if it was calculated with some rounding error.
+		if (!(z < 0.0 && z >= lambertBranchPoint - 1e-15)) {
+			return Double.NaN;
+		}
+		
+		double w;
+		if (z < -0.25) {
+			// Near the branch point: W_-1(z) = -1 + p - p^2/3 + 11p^3/72 - ..., where p = -sqrt(2(ez + 1))
+			double p = -Math.sqrt(2.0 * Math.max(0.0, Math.E * z + 1.0));
+			w = -1.0 + p * (1.0 + p * (-1.0 / 3.0 + p * 11.0 / 72.0));
 		}
 		else {
-			/*
-				Centered around -0.102419
-				Re((-3.54392 - 13.6019 (z + 0.102419) - 56.1424 (z + 0.102419)^2 - 373.784 (z + 0.102419)^3 - 2675.96 (z + 0.102419)^4 - 20849. (z + 0.102419)^5
-			*/
-			zed = z + 0.102419;
-			A = -3.54392;
-			B = -13.6019* zed;
-			C = -56.1424 * Math.pow(zed, 2);
-			D = -373.784 * Math.pow(zed, 3);
-			E = -2675.96 * Math.pow(zed, 4);
-			F = -20849 * Math.pow(zed, 5);
-		}
-		
-		return A + B + C + D + E + F;
+			// Near zero: W_-1(z) = L1 - L2 + L2/L1 + ..., where L1 = ln(-z) and L2 = ln(-L1)
+			double L1 = Math.log(-z);
+			double L2 = Math.log(-L1);
+			w = L1 - L2 + L2 / L1;
+		}
+		
+		double expW, f, wPlusOne, nextW;
+		for (int i = 0; i < maxLambertIterations; i++) {
+			wPlusOne = w + 1.0;
+			// f'(w) is zero at the branch point, so there's nothing left to do if the guess is sitting right on it.
+			if (wPlusOne >= 0.0) {
+				return -1.0;
+			}
+			
+			expW = Math.exp(w);
+			f = w * expW - z;
+			nextW = w - f / (expW * wPlusOne - (w + 2.0) * f / (2.0 * wPlusOne));
+			
+			// Never step across onto the other branch
+			nextW = Math.min(nextW, -1.0);
+			if (Math.abs(nextW - w) <= lambertStepTolerance * -w) {
+				return nextW;
+			}
+			w = nextW;
+		}
+		
+		return w;
 	}
 }
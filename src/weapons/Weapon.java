@@ -8,13 +8,18 @@ import java.util.Observable;
 
 import javax.swing.JPanel;
 
+import dataGenerator.AccuracyCurve;
+import dataGenerator.BuildCode;
 import guiPieces.AoEVisualizer;
 import guiPieces.GuiConstants;
+import guiPieces.WeaponPictures;
 import guiPieces.customButtons.ButtonIcons.modIcons;
 import modelPieces.AccuracyEstimator;
+import modelPieces.EnemyContext;
 import modelPieces.EnemyInformation;
 import modelPieces.Mod;
 import modelPieces.Overclock;
+import modelPieces.RecoilRecovery;
 import modelPieces.StatsRow;
 import utilities.ConditionalArrayList;
 import utilities.MathUtils;
@@ -27,7 +32,8 @@ public abstract class Weapon extends Observable {
 	****************************************************************************************/
 	
 	protected String fullName = "";
-	protected BufferedImage weaponPic;
+	// The path from WeaponPictures, so that the picture only gets loaded when the GUI draws it
+	protected String weaponPicFile;
 	protected boolean customizableRoF = false;
 	// This value gets set back to 0 after every mod/OC selection so that changing the build resets CustomRoF to max RoF, and once the user has settled on a build they can tweak the RoF via the GUI.
 	// It may feel frustrating for the user, but it neatly sidesteps an issue where the CustomRoF could be greater than the new Max RoF and artificially inflates the DPS stats.
@@ -65,12 +71,11 @@ public abstract class Weapon extends Observable {
 	protected double[] utilityScores = {0, 0, 0, 0, 0, 0, 0};
 	
 	
-	protected double[][] damageWastedByArmorPerCreature = {
-		// Spawn Probabilities
-		{0, 0, 0, 0, 0, 0, 0, 0, 0, 0},
-		// Damage Wasted
-		{0, 0, 0, 0, 0, 0, 0, 0, 0, 0}
-	};
+	/*
+		Row 0 is the Spawn Probabilities and row 1 is the Damage Wasted, with one column for every creature that has breakable armor. EnemyContext.percentageDamageWastedByArmor()
+		copies getNumArmoredEnemies() values into each row, so the rows get sized from that same number instead of assuming that there will always be 10 of them.
+	*/
+	protected double[][] damageWastedByArmorPerCreature = new double[2][getEnemyContext().getNumArmoredEnemies()];
 	
 	protected double[][] overkillPercentages = {
 		// Spawn Probabilities
@@ -86,6 +91,22 @@ public abstract class Weapon extends Observable {
 	protected boolean enableGeneralAccuracyDPS = false;
 	protected boolean enableArmorWastingDPS = false;
 	
+	/*
+		The metric vector is the same 31 numbers that get exported to CSV and MySQL, in the same order: 8 Burst DPS, 8 Sustained DPS, and then the 15 other metrics.
+		Within each group of 8 DPS values, the {Weakpoint, Accuracy, Armor Wasting} flags go in this order.
+	*/
+	public static final int numMetricsInVector = 31;
+	protected static final boolean[][] dpsFlagPermutations = {
+		{false, false, false},  // Ideal
+		{true, false, false},  // Weakpoint
+		{false, true, false},  // Accuracy
+		{false, false, true},  // Armor Wasting
+		{true, true, false},  // WP + Acc
+		{true, false, true},  // WP + AW
+		{false, true, true},  // Acc + AW
+		{true, true, true}  // WP + Acc + AW
+	};
+	
 	// The only legitimate values for these two variables are -1 and [0, 100], so setting them to -100 lets me know later if these values have been set or not.
 	private double metric_generalAccuracy = -100;
 	private double metric_weakpointAccuracy = -100;
@@ -93,10 +114,16 @@ public abstract class Weapon extends Observable {
 	protected double[] baselineBurstDPS;
 	protected double[] baselineSustainedDPS;
 	protected double[] baselineCalculatedStats;
+	// The AoEVisualizer is a JPanel, so calculateNumGlyphidsInRadius() only remembers what to draw and visualizeAoERadius() builds the panel when the GUI asks for it.
 	private AoEVisualizer illustration = null;
+	private double illustrationRadius = 0;
+	private ArrayList<Point2D> illustrationCenters = null;
 	
 	protected AccuracyEstimator accEstimator = new AccuracyEstimator();
 	
+	// The enemies that every metric gets calculated against. Left null, this Weapon follows whatever the Difficulty Scaling menu is set to.
+	private EnemyContext enemyContext = null;
+	
 	/****************************************************************************************
 	* Build from combination
 	****************************************************************************************/
@@ -216,7 +243,7 @@ public abstract class Weapon extends Observable {
 		}
 		else {
 			// This section of the code relies entirely on isCombinationValid() doing proper input santization and validation.
-			char[] symbols = combination.toCharArray();
+			int code = BuildCode.fromCombination(combination);
 			
 			// Start by setting all mods/OC to -1 so that no matter what the old build was, the new build will go through with no problem.
 			setSelectedModAtTier(1, -1, false);
@@ -226,111 +253,18 @@ public abstract class Weapon extends Observable {
 			setSelectedModAtTier(5, -1, false);
 			setSelectedOverclock(-1, false);
 			
-			// Because they're already set to -1 above, these switch statements don't need to account for the hyphen case.
-			switch (symbols[0]) {
-				case 'A': {
-					setSelectedModAtTier(1, 0, false);
-					break;
-				}
-				case 'B': {
-					setSelectedModAtTier(1, 1, false);
-					break;
-				}
-				case 'C': {
-					setSelectedModAtTier(1, 2, false);
-					break;
-				}
-			}
-			
-			switch (symbols[1]) {
-				case 'A': {
-					setSelectedModAtTier(2, 0, false);
-					break;
-				}
-				case 'B': {
-					setSelectedModAtTier(2, 1, false);
-					break;
-				}
-				case 'C': {
-					setSelectedModAtTier(2, 2, false);
-					break;
-				}
-			}
-			
-			switch (symbols[2]) {
-				case 'A': {
-					setSelectedModAtTier(3, 0, false);
-					break;
-				}
-				case 'B': {
-					setSelectedModAtTier(3, 1, false);
-					break;
-				}
-				case 'C': {
-					setSelectedModAtTier(3, 2, false);
-					break;
-				}
-			}
-			
-			switch (symbols[3]) {
-				case 'A': {
-					setSelectedModAtTier(4, 0, false);
-					break;
-				}
-				case 'B': {
-					setSelectedModAtTier(4, 1, false);
-					break;
-				}
-				case 'C': {
-					setSelectedModAtTier(4, 2, false);
-					break;
+			// Because they're already set to -1 above, this doesn't need to account for the hyphen case.
+			int selection;
+			for (int tier = 1; tier < 6; tier++) {
+				selection = BuildCode.getModAtTier(code, tier);
+				if (selection > -1) {
+					setSelectedModAtTier(tier, selection, false);
 				}
 			}
 			
-			switch (symbols[4]) {
-				case 'A': {
-					setSelectedModAtTier(5, 0, false);
-					break;
-				}
-				case 'B': {
-					setSelectedModAtTier(5, 1, false);
-					break;
-				}
-				case 'C': {
-					setSelectedModAtTier(5, 2, false);
-					break;
-				}
-			}
-			
-			switch (symbols[5]) {
-				case '1': {
-					setSelectedOverclock(0, false);
-					break;
-				}
-				case '2': {
-					setSelectedOverclock(1, false);
-					break;
-				}
-				case '3': {
-					setSelectedOverclock(2, false);
-					break;
-				}
-				case '4': {
-					setSelectedOverclock(3, false);
-					break;
-				}
-				case '5': {
-					setSelectedOverclock(4, false);
-					break;
-				}
-				case '6': {
-					setSelectedOverclock(5, false);
-					break;
-				}
-				case '7': {
-					setSelectedOverclock(6, false);
-					break;
-				}
+			selection = BuildCode.getOverclock(code);
+			if (selection > -1) {
+				setSelectedOverclock(selection, false);
 			}
 			
 			// Re-set AoE Efficiency
@@ -694,6 +628,24 @@ public abstract class Weapon extends Observable {
 		}
 	}
 	
+	public EnemyContext getEnemyContext() {
+		if (enemyContext == null) {
+			return EnemyInformation.getContext();
+		}
+		return enemyContext;
+	}
+	// Pins this Weapon to one Hazard Level and player count, or null to go back to following the GUI. Copies made with cloneForCalculations() keep the same context.
+	public void setEnemyContext(EnemyContext newContext) {
+		enemyContext = newContext;
+		
+		// Damage wasted by Armor gets stored when it's calculated, so it has to be re-done against the new enemies.
+		int numArmoredEnemies = getEnemyContext().getNumArmoredEnemies();
+		if (damageWastedByArmorPerCreature[0].length != numArmoredEnemies) {
+			damageWastedByArmorPerCreature = new double[2][numArmoredEnemies];
+		}
+		damageWastedByArmor();
+	}
+	
 	public Mod[] getModsAtTier(int tierNumber) {
 		if (tierNumber > 0 && tierNumber < 6) {
 			switch (tierNumber) {
@@ -838,6 +790,10 @@ public abstract class Weapon extends Observable {
 			}
 		}
 	}
+	// MetricsCache needs to know if the user has changed the RoF for this build, because getCustomRoF() returns the max RoF when they haven't.
+	public boolean isCustomRoFSet() {
+		return customizableRoF && customRoF > 0;
+	}
 	public double getCustomRoF() {
 		if (customizableRoF && customRoF > 0) {
 			return customRoF;
@@ -867,33 +823,14 @@ public abstract class Weapon extends Observable {
 		
 		damageWastedByArmor();
 		
-		baselineBurstDPS = new double[]{
-			calculateSingleTargetDPS(true, false, false, false),  // Ideal
-			calculateSingleTargetDPS(true, true, false, false),  // Weakpoint
-			calculateSingleTargetDPS(true, false, true, false),  // Accuracy
-			calculateSingleTargetDPS(true, false, false, true),  // Armor Wasting
-			calculateSingleTargetDPS(true, true, true, false),  // WP + Acc
-			calculateSingleTargetDPS(true, true, false, true),  // WP + AW
-			calculateSingleTargetDPS(true, false, true, true),  // Acc + AW
-			calculateSingleTargetDPS(true, true, true, true)  // WP + Acc + AW
-		};
+		double[] baselineMetrics = new double[numMetricsInVector];
+		calculateMetricVector(baselineMetrics);
 		
-		baselineSustainedDPS = new double[]{
-			calculateSingleTargetDPS(false, false, false, false),  // Ideal
-			calculateSingleTargetDPS(false, true, false, false),  // Weakpoint
-			calculateSingleTargetDPS(false, false, true, false),  // Accuracy
-			calculateSingleTargetDPS(false, false, false, true),  // Armor Wasting
-			calculateSingleTargetDPS(false, true, true, false),  // WP + Acc
-			calculateSingleTargetDPS(false, true, false, true),  // WP + AW
-			calculateSingleTargetDPS(false, false, true, true),  // Acc + AW
-			calculateSingleTargetDPS(false, true, true, true)  // WP + Acc + AW
-		};
+		baselineBurstDPS = Arrays.copyOfRange(baselineMetrics, 0, 8);
+		baselineSustainedDPS = Arrays.copyOfRange(baselineMetrics, 8, 16);
+		// WeaponTab only uses the first 13 of the other metrics; Damage per Magazine and Time to Fire Magazine aren't shown with the baseline colors
+		baselineCalculatedStats = Arrays.copyOfRange(baselineMetrics, 16, 29);
 		
-		baselineCalculatedStats = new double[] {
-			calculateAdditionalTargetDPS(), calculateMaxNumTargets(), calculateMaxMultiTargetDamage(), ammoEfficiency(), damageWastedByArmor(), 
-			getGeneralAccuracy(), getWeakpointAccuracy(), calculateFiringDuration(), averageTimeToKill(), averageOverkill(), breakpoints(), 
-			utilityScore(), averageTimeToCauterize()
-		};
 		selectedTier1 = oldT1;
 		selectedTier2 = oldT2;
 		selectedTier3 = oldT3;
@@ -1079,6 +1016,10 @@ public abstract class Weapon extends Observable {
 	}
 	
 	public boolean accuracyCanBeVisualized() {
+		// The accuracy metrics can come out of AccuracyCurve without the AccuracyEstimator ever running on this Weapon, so make sure it has run at least once.
+		if (!accEstimator.visualizerIsReady()) {
+			estimatedAccuracy(false);
+		}
 		return accEstimator.visualizerIsReady();
 	}
 	public boolean accuracyVisualizerShowsGeneralAccuracy() {
@@ -1093,13 +1034,18 @@ public abstract class Weapon extends Observable {
 		}
 	}
 	public JPanel getVisualizerPanel() {
+		// Same as above: the AccuracyEstimator might still be holding the numbers from a different build or distance, so re-run it for the one being shown.
+		estimatedAccuracy(!accEstimator.visualizerShowsGeneralAccuracy());
 		return accEstimator.getVisualizer();
 	}
 	
-	// Rather than build out an entire cache for two variables per Weapon, I'll just fake it with these two methods.
+	/*
+		Rather than build out an entire cache for two variables per Weapon, I'll just fake it with these two methods. On the whole, half, and quarter meters they read from the shared
+		AccuracyCurve instead, which is exact there, so that every other Weapon object with this build (and this one, after the distance changes back) gets them for free.
+	*/
 	public double getGeneralAccuracy() {
 		if (metric_generalAccuracy == -100) {
-			metric_generalAccuracy = estimatedAccuracy(false);
+			metric_generalAccuracy = lookUpAccuracy(false);
 			return metric_generalAccuracy;
 		}
 		else {
@@ -1108,13 +1054,31 @@ public abstract class Weapon extends Observable {
 	}
 	public double getWeakpointAccuracy() {
 		if (metric_weakpointAccuracy == -100) {
-			metric_weakpointAccuracy = estimatedAccuracy(true);
+			metric_weakpointAccuracy = lookUpAccuracy(true);
 			return metric_weakpointAccuracy;
 		}
 		else {
 			return metric_weakpointAccuracy;
 		}
 	}
+	private double lookUpAccuracy(boolean weakpointAccuracy) {
+		double distance = accEstimator.getDistance();
+		if (AccuracyCurve.isOnGrid(distance)) {
+			return AccuracyCurve.forWeapon(this).getAccuracy(this, distance, weakpointAccuracy);
+		}
+		else {
+			return estimatedAccuracy(weakpointAccuracy);
+		}
+	}
+	
+	// Used by AccuracyCurve to fill in its samples. The AccuracyEstimator gets put back at its old distance afterwards, and the two values cached above are left alone.
+	public double estimateAccuracyAtDistance(double distance, boolean weakpointAccuracy) {
+		double currentDistance = accEstimator.getDistance();
+		accEstimator.setDistance(distance);
+		double toReturn = estimatedAccuracy(weakpointAccuracy);
+		accEstimator.setDistance(currentDistance);
+		return toReturn;
+	}
 	
 	/****************************************************************************************
 	* Other Methods
@@ -1133,47 +1097,14 @@ public abstract class Weapon extends Observable {
 		return fullName;
 	}
 	public BufferedImage getPicture() {
-		return weaponPic;
+		return WeaponPictures.getPicture(weaponPicFile);
 	}
 	public String getCombination() {
-		String toReturn = "";
-		if (selectedTier1 < 0) {
-			toReturn += "-";
-		}
-		else {
-			toReturn += tier1[selectedTier1].getLetterRepresentation();
-		}
-		if (selectedTier2 < 0) {
-			toReturn += "-";
-		}
-		else {
-			toReturn += tier2[selectedTier2].getLetterRepresentation();
-		}
-		if (selectedTier3 < 0) {
-			toReturn += "-";
-		}
-		else {
-			toReturn += tier3[selectedTier3].getLetterRepresentation();
-		}
-		if (selectedTier4 < 0) {
-			toReturn += "-";
-		}
-		else {
-			toReturn += tier4[selectedTier4].getLetterRepresentation();
-		}
-		if (selectedTier5 < 0) {
-			toReturn += "-";
-		}
-		else {
-			toReturn += tier5[selectedTier5].getLetterRepresentation();
-		}
-		if (selectedOverclock < 0) {
-			toReturn += "-";
-		}
-		else {
-			toReturn += overclocks[selectedOverclock].getShortcutRepresentation();
-		}
-		return toReturn;
+		// The letters and numbers are derived from each Mod and Overclock's index, so there's no need to build this up one character at a time.
+		return BuildCode.toCombination(getBuildCode());
+	}
+	public int getBuildCode() {
+		return BuildCode.encode(selectedTier1, selectedTier2, selectedTier3, selectedTier4, selectedTier5, selectedOverclock);
 	}
 	protected String convertDoubleToPercentage(double input) {
 		int percent = (int) Math.round(input * 100.0);
@@ -1207,59 +1138,55 @@ public abstract class Weapon extends Observable {
 	public abstract Weapon clone();
 	
 	/*
-		This method is written out of frustration with having to do such an expanded numerical approximation of the Inverse Lambert function. Engineer's Shotgun Recoil
-		doesn't play nicely with that method, so I'm going to create a binary-search styled method that samples the output of the Recoil equation and then narrows in on
-		the desired value t, at which point it will return. To be clear: this is extremely inefficient to do computationally when the exact answer is technically calculable.
-		However, after adding 20 segments and it STILL not being enough, my patience for Inverse Lambert has run out and I'm making this monstrosity instead.
-		
-		Because it works.
+		clone() only copies the selected Mods and Overclock, which is fine for the Comparators but not for anything that needs to reproduce the exact same numbers as this Weapon.
+		The child constructors also set the selected tiers AFTER setBaselineStats(), which means that the armor-wasting and AoE values are still the ones for the baseline build.
+		This method copies over all of the settings that change the calculated metrics (accuracy distance and model, status effects, the DPS checkboxes, and the EnemyContext) and then
+		refreshes the build-dependent values so that the new object can be used on its own thread without ever touching this one.
 	*/
-	protected double calculateTimeToRecoverRecoil(double recoilPitch, double recoilYaw, double mass, double springStiffness, double goalRecoilValue) {
-		double desiredPrecision = 0.001;
+	public Weapon cloneForCalculations() {
+		Weapon toReturn = clone();
 		
-		double v = Math.hypot(recoilPitch, recoilYaw);
-		double w = Math.sqrt(springStiffness / mass);
+		toReturn.accEstimator.setDistance(accEstimator.getDistance());
+		toReturn.accEstimator.setModelRecoil(accEstimator.isModelingRecoil());
+		toReturn.accEstimator.setDwarfIsMoving(accEstimator.getDwarfIsMoving());
 		
-		// Early exit condition: if the goalRecoilValue >= maxRecoil the while loop will never close, causing the program to freeze.
-		if (goalRecoilValue >= v / (Math.E * w)) {
-			return -1;
+		for (int i = 0; i < statusEffects.length; i++) {
+			toReturn.statusEffects[i] = statusEffects[i];
 		}
 		
-		// Because Recoil changes from a positive slope to a negative slope at 1/w, I can start my binary search there.
-		double minT = 1 / w;
-		double maxT = -1.0 * MathUtils.lambertInverseWNumericalApproximation(-w * 0.1 / v) / w;
-		double currentT = minT;
-		double currentRecoilValue =  Math.exp(-w * minT) * v * minT;
+		toReturn.enableWeakpointsDPS = enableWeakpointsDPS;
+		toReturn.enableGeneralAccuracyDPS = enableGeneralAccuracyDPS;
+		toReturn.enableArmorWastingDPS = enableArmorWastingDPS;
+		toReturn.enemyContext = enemyContext;
 		
-		while (currentRecoilValue + desiredPrecision < goalRecoilValue || currentRecoilValue - desiredPrecision > goalRecoilValue) {
-			if (currentRecoilValue + desiredPrecision > goalRecoilValue) {
-				minT = currentT;
-				currentT = (currentT + maxT) / 2.0;
-			}
-			else if (currentRecoilValue - desiredPrecision < goalRecoilValue) {
-				maxT = currentT;
-				currentT = (minT + currentT) / 2.0;
-			}
-			else {
-				// If by some bizarre coincidence currentT == goalRecoilValue, return immediately.
-				return currentT;
-			}
-			
-			currentRecoilValue =  Math.exp(-w * currentT) * v * currentT;
+		toReturn.metric_generalAccuracy = -100;
+		toReturn.metric_weakpointAccuracy = -100;
+		if (toReturn.currentlyDealsSplashDamage()) {
+			toReturn.setAoEEfficiency();
 		}
+		toReturn.damageWastedByArmor();
 		
-		return currentT;
+		return toReturn;
+	}
+	
+	/*
+		Returns how long it takes for one shot's recoil to climb up and then fall back down to goalRecoilValue, or -1 if it never gets that high.
+		This used to be a binary search over the recoil equation that stopped once the recoil was within 0.001 of the goal, because the old Lambert W approximation didn't
+		cover the range that Engineer/Shotgun needs. RecoilRecovery solves it exactly instead.
+	*/
+	protected double calculateTimeToRecoverRecoil(double recoilPitch, double recoilYaw, double mass, double springStiffness, double goalRecoilValue) {
+		return RecoilRecovery.getTimeToRecover(recoilPitch, recoilYaw, mass, springStiffness, goalRecoilValue);
 	}
 	
 	protected double calculateProbabilityToBreakLightArmor(double baseDamage) {
 		return calculateProbabilityToBreakLightArmor(baseDamage, 1.0);
 	}
 	protected double calculateProbabilityToBreakLightArmor(double baseDamage, double armorBreaking) {
-		return EnemyInformation.lightArmorBreakProbabilityLookup(baseDamage, armorBreaking, EnemyInformation.averageLightArmorStrength());
+		return EnemyInformation.lightArmorBreakProbabilityLookup(baseDamage, armorBreaking, getEnemyContext().averageLightArmorStrength());
 	}
 	
 	protected double calculateFearProcProbability(double fearFactor) {
-		return Math.min(fearFactor * (1.0 - EnemyInformation.averageCourage()), 1.0);
+		return Math.min(fearFactor * (1.0 - getEnemyContext().averageCourage()), 1.0);
 	}
 	
 	protected double calculateRNGDoTDPSPerMagazine(double DoTProcChance, double DoTDPS, int magazineSize) {
@@ -1372,7 +1299,7 @@ public abstract class Weapon extends Observable {
 		if (onKillEffect) {
 			// This section is for effects that happen any time this weapon scores a killing blow, like Scout/AssaultRifle/Mod/5/B/"Battle Cool"
 			// Intentionally using incorrect "guessed" spawn rates to get better numbers.
-			double burstTTK = EnemyInformation.averageHealthPool(false) / calculateSingleTargetDPS(true, false, false, false);
+			double burstTTK = getEnemyContext().averageHealthPool(false) / calculateSingleTargetDPS(true, false, false, false);
 			double numShotsFiredPerKill = Math.ceil(RoF * burstTTK);
 			if (burstTTK < conditionDuration) {
 				// Early exit condition: if this weapon can score kills to trigger the On-Kill effect again before the effect duration ends, 
@@ -1516,19 +1443,24 @@ public abstract class Weapon extends Observable {
 			}
 			
 			// Due to rounding errors from double subtraction, this gets rounded to 2 decimal points
-			if (MathUtils.round((distanceFromCenterToOrigin - glyphidBodyAndLegsRadius), 2) < radius) {
+			if (MathUtils.roundHalfUp((distanceFromCenterToOrigin - glyphidBodyAndLegsRadius), 2) < radius) {
 				numGlyphidsHitBySplash++;
 			}
 		}
 		
-		illustration = new AoEVisualizer(glyphidBodyRadius, glyphidBodyAndLegsRadius, radius, glyphidCenters);
+		illustration = null;
+		illustrationRadius = radius;
+		illustrationCenters = glyphidCenters;
 		
 		return numGlyphidsHitBySplash;
 	}
 	
 	public abstract boolean currentlyDealsSplashDamage();
 	public JPanel visualizeAoERadius() {
-		if (currentlyDealsSplashDamage() && illustration != null) {
+		if (currentlyDealsSplashDamage() && illustrationCenters != null) {
+			if (illustration == null) {
+				illustration = new AoEVisualizer(EnemyInformation.GlyphidGruntBodyRadius, EnemyInformation.GlyphidGruntBodyAndLegsRadius, illustrationRadius, illustrationCenters);
+			}
 			return illustration;
 		}
 		else {
@@ -1542,10 +1474,10 @@ public abstract class Weapon extends Observable {
 	}
 	
 	protected double increaseBulletDamageForWeakpoints(double preWeakpointBulletDamage) {
-		return increaseBulletDamageForWeakpoints(preWeakpointBulletDamage, 0.0, EnemyInformation.probabilityBulletWillHitWeakpoint());
+		return increaseBulletDamageForWeakpoints(preWeakpointBulletDamage, 0.0, getEnemyContext().probabilityBulletWillHitWeakpoint());
 	}
 	protected double increaseBulletDamageForWeakpoints(double preWeakpointBulletDamage, double weakpointBonusModifier) {
-		return increaseBulletDamageForWeakpoints(preWeakpointBulletDamage, weakpointBonusModifier, EnemyInformation.probabilityBulletWillHitWeakpoint());
+		return increaseBulletDamageForWeakpoints(preWeakpointBulletDamage, weakpointBonusModifier, getEnemyContext().probabilityBulletWillHitWeakpoint());
 	}
 	protected double increaseBulletDamageForWeakpoints(double preWeakpointBulletDamage, double weakpointBonusModifier, double probabilityBulletHitsWeakpoint) {
 		/*
@@ -1553,7 +1485,7 @@ public abstract class Weapon extends Observable {
 			As a rule of thumb, the weakpointBonusModifier is roughly a (2/3 * bonus damage) additional increase per bullet. 
 			30% bonus modifier => ~20% increase to DPS
 		*/
-		double estimatedDamageIncreaseWithoutModifier = EnemyInformation.averageWeakpointDamageIncrease();
+		double estimatedDamageIncreaseWithoutModifier = getEnemyContext().averageWeakpointDamageIncrease();
 		return ((1.0 - probabilityBulletHitsWeakpoint) + probabilityBulletHitsWeakpoint * estimatedDamageIncreaseWithoutModifier * (1.0 + weakpointBonusModifier)) * preWeakpointBulletDamage;
 	}
 	
@@ -1562,6 +1494,127 @@ public abstract class Weapon extends Observable {
 	*/
 	
 	// Single-target calculations
+	/*
+		Fills the first 31 slots of output with every metric for the currently equipped build. This default implementation just calls each method once, but
+		Weapons whose DPS methods repeat a lot of expensive work (like Minigun and Shotgun) override it so that all 16 DPS values share the same intermediate numbers.
+		Any override MUST produce exactly the same numbers as calling the individual methods.
+	*/
+	public void calculateMetricVector(double[] output) {
+		boolean[] flags;
+		for (int i = 0; i < 8; i++) {
+			flags = dpsFlagPermutations[i];
+			output[i] = calculateSingleTargetDPS(true, flags[0], flags[1], flags[2]);
+		}
+		for (int i = 0; i < 8; i++) {
+			flags = dpsFlagPermutations[i];
+			output[8 + i] = calculateSingleTargetDPS(false, flags[0], flags[1], flags[2]);
+		}
+		
+		calculateNonDPSMetrics(output);
+	}
+	// Calculates just one slot of the metric vector. Used by MetricsCache when only one metric is needed, like when finding the Best Combination for a single metric.
+	public double calculateMetric(int vectorIndex) {
+		if (vectorIndex < 16) {
+			boolean[] flags = dpsFlagPermutations[vectorIndex % 8];
+			return calculateSingleTargetDPS(vectorIndex < 8, flags[0], flags[1], flags[2]);
+		}
+		
+		switch (vectorIndex) {
+			case 16: {
+				return calculateAdditionalTargetDPS();
+			}
+			case 17: {
+				return calculateMaxNumTargets();
+			}
+			case 18: {
+				return calculateMaxMultiTargetDamage();
+			}
+			case 19: {
+				return ammoEfficiency();
+			}
+			case 20: {
+				return damageWastedByArmor();
+			}
+			case 21: {
+				return getGeneralAccuracy();
+			}
+			case 22: {
+				return getWeakpointAccuracy();
+			}
+			case 23: {
+				return calculateFiringDuration();
+			}
+			case 24: {
+				return averageTimeToKill();
+			}
+			case 25: {
+				return averageOverkill();
+			}
+			case 26: {
+				return breakpoints();
+			}
+			case 27: {
+				return utilityScore();
+			}
+			case 28: {
+				return averageTimeToCauterize();
+			}
+			case 29: {
+				return damagePerMagazine();
+			}
+			case 30: {
+				return timeToFireMagazine();
+			}
+			default: {
+				System.out.println("Metric vector index " + vectorIndex + " is out of bounds");
+				return 0;
+			}
+		}
+	}
+	
+	/*
+		The GUI shows 15 metrics: Burst DPS, Sustained DPS, and then the 13 metrics from Additional Target DPS to Avg Time to Ignite/Freeze. The two DPS metrics follow 
+		whichever Weakpoint/Accuracy/Armor Wasting checkboxes are enabled on this Weapon, so this translates one of those 15 into its slot in the metric vector.
+	*/
+	public int getMetricVectorIndex(int displayedMetricIndex) {
+		if (displayedMetricIndex > 1) {
+			return displayedMetricIndex + 14;
+		}
+		
+		int dpsIndex = 0;
+		for (int i = 0; i < 8; i++) {
+			if (dpsFlagPermutations[i][0] == enableWeakpointsDPS && dpsFlagPermutations[i][1] == enableGeneralAccuracyDPS && dpsFlagPermutations[i][2] == enableArmorWastingDPS) {
+				dpsIndex = i;
+				break;
+			}
+		}
+		
+		if (displayedMetricIndex == 0) {
+			return dpsIndex;
+		}
+		else {
+			return 8 + dpsIndex;
+		}
+	}
+	
+	protected void calculateNonDPSMetrics(double[] output) {
+		output[16] = calculateAdditionalTargetDPS();
+		output[17] = calculateMaxNumTargets();
+		output[18] = calculateMaxMultiTargetDamage();
+		output[19] = ammoEfficiency();
+		output[20] = damageWastedByArmor();
+		output[21] = getGeneralAccuracy();
+		output[22] = getWeakpointAccuracy();
+		output[23] = calculateFiringDuration();
+		output[24] = averageTimeToKill();
+		output[25] = averageOverkill();
+		output[26] = breakpoints();
+		output[27] = utilityScore();
+		output[28] = averageTimeToCauterize();
+		output[29] = damagePerMagazine();
+		output[30] = timeToFireMagazine();
+	}
+	
 	public double calculateSingleTargetDPS(boolean burst) {
 		return calculateSingleTargetDPS(burst, enableWeakpointsDPS, enableGeneralAccuracyDPS, enableArmorWastingDPS);
 	}
@@ -1593,7 +1646,7 @@ public abstract class Weapon extends Observable {
 		return averageTimeToKill(true);
 	}
 	public double averageTimeToKill(boolean useExactSpawnRates) {
-		return EnemyInformation.averageHealthPool(useExactSpawnRates) / calculateSingleTargetDPS(false, true, false, false);
+		return getEnemyContext().averageHealthPool(useExactSpawnRates) / calculateSingleTargetDPS(false, true, false, false);
 	}
 	protected abstract double averageDamageToKillEnemy();
 	public abstract double averageOverkill();
@@ -7,7 +7,6 @@ import guiPieces.WeaponPictures;
 import guiPieces.customButtons.ButtonIcons.modIcons;
 import guiPieces.customButtons.ButtonIcons.overclockIcons;
 import modelPieces.UtilityInformation;
-import modelPieces.EnemyInformation;
 import modelPieces.Mod;
 import modelPieces.Overclock;
 import modelPieces.StatsRow;
@@ -52,7 +51,7 @@ public class CryoCannon extends Weapon {
 	
 	public CryoCannon(int mod1, int mod2, int mod3, int mod4, int mod5, int overclock) {
 		fullName = "Cryo Cannon";
-		weaponPic = WeaponPictures.cryoCannon;
+		weaponPicFile = WeaponPictures.cryoCannon;
 		
 		// Base stats, before mods or overclocks alter them:
 		particleDamage = 6;
@@ -343,10 +342,10 @@ public class CryoCannon extends Weapon {
 		}
 		
 		if (refreeze) {
-			return EnemyInformation.averageTimeToRefreeze(getParticleCold() * getFlowRate() + icePathColdPerSec + coldRadianceColdPerSec);
+			return getEnemyContext().averageTimeToRefreeze(getParticleCold() * getFlowRate() + icePathColdPerSec + coldRadianceColdPerSec);
 		}
 		else {
-			return EnemyInformation.averageTimeToFreeze(0, getParticleCold(), getFlowRate(), icePathColdPerSec + coldRadianceColdPerSec);
+			return getEnemyContext().averageTimeToFreeze(0, getParticleCold(), getFlowRate(), icePathColdPerSec + coldRadianceColdPerSec);
 		}
 	}
 	
@@ -363,8 +362,8 @@ public class CryoCannon extends Weapon {
 				fragileDamage = 0;
 			}
 			else {
-				double averageHealth = EnemyInformation.averageHealthPool(true);  // This already returns health multiplied by resistances, so this is the "effective" hp, not "internal" hp 
-				double averageResistance = EnemyInformation.averageDifficultyScalingResistance();
+				double averageHealth = getEnemyContext().averageHealthPool(true);  // This already returns health multiplied by resistances, so this is the "effective" hp, not "internal" hp 
+				double averageResistance = getEnemyContext().averageDifficultyScalingResistance();
 				double avgNumParticlesBeforeFragileCanProc = Math.ceil((averageHealth - 100.0 * averageResistance) / dmgPerParticle);  // This will get the Effective HP below 100 * Resistance, which is the same as getting Internal HP below 100
 				double expectedNumParticlesForFragileKill = Math.ceil(recursiveFragileAmmoSpent(100.0, dmgPerParticle, averageResistance));  // This number is how many particles it will take to kill the creature once below 100 Internal HP
 				double totalAmmoForAverageFragileKill = avgNumParticlesBeforeFragileCanProc + expectedNumParticlesForFragileKill;
@@ -393,7 +392,7 @@ public class CryoCannon extends Weapon {
 		double flowRate = getFlowRate();
 		
 		double timeToFreeze = averageTimeToFreeze(false);
-		double freezeDuration = EnemyInformation.averageFreezeDuration();
+		double freezeDuration = getEnemyContext().averageFreezeDuration();
 		double timeToRefreeze = averageTimeToFreeze(true);
 		
 		if (firingTime <= timeToFreeze) {
@@ -537,8 +536,8 @@ public class CryoCannon extends Weapon {
 		double fragileDamage = 0;
 		if (selectedTier5 == 0) {
 			// Adapted from totalDamagePerBurst() above
-			double averageHealth = EnemyInformation.averageHealthPool(true);  // This already returns health multiplied by resistances, so this is the "effective" hp, not "internal" hp 
-			double averageResistance = EnemyInformation.averageDifficultyScalingResistance();
+			double averageHealth = getEnemyContext().averageHealthPool(true);  // This already returns health multiplied by resistances, so this is the "effective" hp, not "internal" hp 
+			double averageResistance = getEnemyContext().averageDifficultyScalingResistance();
 			double avgNumParticlesBeforeFragileCanProc = Math.ceil((averageHealth - 100.0 * averageResistance) / dmgPerParticle);  // This will get the Effective HP below 100 * Resistance, which is the same as getting Internal HP below 100
 			double expectedNumParticlesForFragileKill = Math.ceil(recursiveFragileAmmoSpent(100.0, dmgPerParticle, averageResistance));  // This number is how many particles it will take to kill the creature once below 100 Internal HP
 			double totalAmmoForAverageFragileKill = avgNumParticlesBeforeFragileCanProc + expectedNumParticlesForFragileKill;
@@ -571,12 +570,12 @@ public class CryoCannon extends Weapon {
 	@Override
 	protected double averageDamageToKillEnemy() {
 		double dmgPerShot = getParticleDamage();
-		return Math.ceil(EnemyInformation.averageHealthPool() / dmgPerShot) * dmgPerShot;
+		return Math.ceil(getEnemyContext().averageHealthPool() / dmgPerShot) * dmgPerShot;
 	}
 	
 	@Override
 	public double averageOverkill() {
-		overkillPercentages = EnemyInformation.overkillPerCreature(getParticleDamage());
+		overkillPercentages = getEnemyContext().overkillPerCreature(getParticleDamage());
 		return MathUtils.vectorDotProduct(overkillPercentages[0], overkillPercentages[1]);
 	}
 	
@@ -610,7 +609,7 @@ public class CryoCannon extends Weapon {
 		}
 		
 		// Freeze
-		double freezeDuration = EnemyInformation.averageFreezeDuration();
+		double freezeDuration = getEnemyContext().averageFreezeDuration();
 		double freezeUptime = freezeDuration / (averageTimeToFreeze(false) + freezeDuration);
 		utilityScores[6] = freezeUptime * numTargets * UtilityInformation.Frozen_Utility;
 		
@@ -618,7 +617,7 @@ public class CryoCannon extends Weapon {
 		if (selectedOverclock == 5) {
 			double[] snowballAoEEfficiency = calculateAverageAreaDamage(4, 2, 0.5);
 			double avgColdDamage = -200 * snowballAoEEfficiency[1];
-			utilityScores[6] += snowballAoEEfficiency[2] * EnemyInformation.percentageEnemiesFrozenBySingleBurstOfCold(avgColdDamage) * UtilityInformation.Frozen_Utility;
+			utilityScores[6] += snowballAoEEfficiency[2] * getEnemyContext().percentageEnemiesFrozenBySingleBurstOfCold(avgColdDamage) * UtilityInformation.Frozen_Utility;
 		}
 		
 		return MathUtils.sum(utilityScores);
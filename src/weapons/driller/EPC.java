@@ -69,7 +69,7 @@ public abstract class EPC extends Weapon {
 	****************************************************************************************/
 	
 	public EPC(int mod1, int mod2, int mod3, int mod4, int mod5, int overclock) {
-		weaponPic = WeaponPictures.EPC;
+		weaponPicFile = WeaponPictures.EPC;
 		
 		// Base stats, before mods or overclocks alter them:
 		directDamage = 20;
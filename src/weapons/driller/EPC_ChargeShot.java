@@ -2,7 +2,6 @@ package weapons.driller;
 
 import guiPieces.customButtons.ButtonIcons.modIcons;
 import modelPieces.DoTInformation;
-import modelPieces.EnemyInformation;
 import modelPieces.StatsRow;
 import modelPieces.UtilityInformation;
 import utilities.MathUtils;
@@ -227,12 +226,12 @@ public class EPC_ChargeShot extends EPC {
 	@Override
 	protected double averageDamageToKillEnemy() {
 		double dmgPerShot = getChargedDirectDamage() + getChargedAreaDamage();
-		return Math.ceil(EnemyInformation.averageHealthPool() / dmgPerShot) * dmgPerShot;
+		return Math.ceil(getEnemyContext().averageHealthPool() / dmgPerShot) * dmgPerShot;
 	}
 	
 	@Override
 	public double averageOverkill() {
-		overkillPercentages = EnemyInformation.overkillPerCreature(getChargedDirectDamage() + getChargedAreaDamage());
+		overkillPercentages = getEnemyContext().overkillPerCreature(getChargedDirectDamage() + getChargedAreaDamage());
 		return MathUtils.vectorDotProduct(overkillPercentages[0], overkillPercentages[1]);
 	}
 	
@@ -274,7 +273,7 @@ public class EPC_ChargeShot extends EPC {
 			dot_probability[2] = 1.0;
 		}
 		
-		breakpoints = EnemyInformation.calculateBreakpoints(dDamage, aDamage, dot_dps, dot_duration, dot_probability, 
+		breakpoints = getEnemyContext().calculateBreakpoints(dDamage, aDamage, dot_dps, dot_duration, dot_probability, 
 															-1.0, 1.0, getRateOfFire(), 0.0, 0.0, 
 															statusEffects[1], statusEffects[3], selectedTier5 == 0, false);
 		return MathUtils.sum(breakpoints);
@@ -2,7 +2,6 @@ package weapons.driller;
 
 import guiPieces.customButtons.ButtonIcons.modIcons;
 import modelPieces.DoTInformation;
-import modelPieces.EnemyInformation;
 import modelPieces.StatsRow;
 import modelPieces.UtilityInformation;
 import utilities.MathUtils;
@@ -207,12 +206,12 @@ public class EPC_RegularShot extends EPC {
 	@Override
 	protected double averageDamageToKillEnemy() {
 		double dmgPerShot = increaseBulletDamageForWeakpoints(getDirectDamage());
-		return Math.ceil(EnemyInformation.averageHealthPool() / dmgPerShot) * dmgPerShot;
+		return Math.ceil(getEnemyContext().averageHealthPool() / dmgPerShot) * dmgPerShot;
 	}
 	
 	@Override
 	public double averageOverkill() {
-		overkillPercentages = EnemyInformation.overkillPerCreature(getDirectDamage());
+		overkillPercentages = getEnemyContext().overkillPerCreature(getDirectDamage());
 		return MathUtils.vectorDotProduct(overkillPercentages[0], overkillPercentages[1]);
 	}
 	
@@ -235,7 +234,7 @@ public class EPC_RegularShot extends EPC {
 		double[] dot_duration = new double[4];
 		double[] dot_probability = new double[4];
 		
-		breakpoints = EnemyInformation.calculateBreakpoints(directDamage, areaDamage, dot_dps, dot_duration, dot_probability, 
+		breakpoints = getEnemyContext().calculateBreakpoints(directDamage, areaDamage, dot_dps, dot_duration, dot_probability, 
 															0.0, 1.0, getRateOfFire(), heatPerShot, 0.0, 
 															statusEffects[1], statusEffects[3], false, false);
 		return MathUtils.sum(breakpoints);
@@ -253,7 +252,7 @@ public class EPC_RegularShot extends EPC {
 		if (selectedTier5 == 2) {
 			// 5 + 25% of Direct Damage from the Regular Shots gets added on as Heat Damage.
 			double heatDamagePerShot = 5.0 + 0.25 * getDirectDamage();
-			return EnemyInformation.averageTimeToIgnite(0, heatDamagePerShot, getCustomRoF(), 0);
+			return getEnemyContext().averageTimeToIgnite(0, heatDamagePerShot, getCustomRoF(), 0);
 		}
 		else {
 			return -1;
@@ -277,8 +276,8 @@ public class EPC_RegularShot extends EPC {
 	
 	@Override
 	public double damageWastedByArmor() {
-		double weakpointAccuracy = EnemyInformation.probabilityBulletWillHitWeakpoint() * 100.0;
-		damageWastedByArmorPerCreature = EnemyInformation.percentageDamageWastedByArmor(getDirectDamage(), 1, 0.0, 1.0, 0.0, 100.0, weakpointAccuracy);
+		double weakpointAccuracy = getEnemyContext().probabilityBulletWillHitWeakpoint() * 100.0;
+		getEnemyContext().percentageDamageWastedByArmor(damageWastedByArmorPerCreature, getDirectDamage(), 1, 0.0, 1.0, 0.0, 100.0, weakpointAccuracy);
 		return 100 * MathUtils.vectorDotProduct(damageWastedByArmorPerCreature[0], damageWastedByArmorPerCreature[1]) / MathUtils.sum(damageWastedByArmorPerCreature[0]);
 	}
 }
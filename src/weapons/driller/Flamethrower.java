@@ -9,7 +9,6 @@ import guiPieces.customButtons.ButtonIcons.overclockIcons;
 import modelPieces.UtilityInformation;
 import modelPieces.DoTInformation;
 import modelPieces.DwarfInformation;
-import modelPieces.EnemyInformation;
 import modelPieces.Mod;
 import modelPieces.Overclock;
 import modelPieces.StatsRow;
@@ -54,7 +53,7 @@ public class Flamethrower extends Weapon {
 	
 	public Flamethrower(int mod1, int mod2, int mod3, int mod4, int mod5, int overclock) {
 		fullName = "CRSPR Flamethrower";
-		weaponPic = WeaponPictures.flamethrower;
+		weaponPicFile = WeaponPictures.flamethrower;
 		
 		// Base stats, before mods or overclocks alter them:
 		particleDamage = 10;
@@ -280,7 +279,7 @@ public class Flamethrower extends Weapon {
 		if (selectedOverclock == 4) {
 			modifier -= 0.5;
 		}
-		return MathUtils.round(modifier * DwarfInformation.walkSpeed, 2);
+		return MathUtils.roundHalfUp(modifier * DwarfInformation.walkSpeed, 2);
 	}
 	
 	@Override
@@ -471,12 +470,12 @@ public class Flamethrower extends Weapon {
 	@Override
 	protected double averageDamageToKillEnemy() {
 		double dmgPerShot = getParticleDamage();
-		return Math.ceil(EnemyInformation.averageHealthPool() / dmgPerShot) * dmgPerShot;
+		return Math.ceil(getEnemyContext().averageHealthPool() / dmgPerShot) * dmgPerShot;
 	}
 	
 	@Override
 	public double averageOverkill() {
-		overkillPercentages = EnemyInformation.overkillPerCreature(getParticleDamage());
+		overkillPercentages = getEnemyContext().overkillPerCreature(getParticleDamage());
 		return MathUtils.vectorDotProduct(overkillPercentages[0], overkillPercentages[1]);
 	}
 
@@ -509,7 +508,7 @@ public class Flamethrower extends Weapon {
 		// Fear
 		if (selectedTier4 == 0) {
 			double probabilityToFear = calculateFearProcProbability(0.13);
-			double fearDuration = EnemyInformation.averageFearDuration(getSFSlow(), getSFDuration());
+			double fearDuration = getEnemyContext().averageFearDuration(getSFSlow(), getSFDuration());
 			utilityScores[4] = probabilityToFear * numTargets * fearDuration * UtilityInformation.Fear_Utility;
 		}
 		else {
@@ -530,7 +529,7 @@ public class Flamethrower extends Weapon {
 			heatRadianceDmgAndHeatPerTick = 80.0 * 3.0 / getFlameReach();
 		}
 		
-		return EnemyInformation.averageTimeToIgnite(0, getParticleHeat(), getFlowRate(), stickyFlamesHeatPerSec + heatRadianceDmgAndHeatPerTick);
+		return getEnemyContext().averageTimeToIgnite(0, getParticleHeat(), getFlowRate(), stickyFlamesHeatPerSec + heatRadianceDmgAndHeatPerTick);
 	}
 	
 	@Override
@@ -541,7 +540,7 @@ public class Flamethrower extends Weapon {
 		double directTotalDamage = numTargets * getParticleDamage() * getFuelTankSize();
 		
 		// Total Burn Damage
-		double timeToIgnite = EnemyInformation.averageTimeToIgnite(0, getParticleHeat(), getFlowRate(), 0);
+		double timeToIgnite = getEnemyContext().averageTimeToIgnite(0, getParticleHeat(), getFlowRate(), 0);
 		double fireDoTDamagePerEnemy = calculateAverageDoTDamagePerEnemy(timeToIgnite, DoTInformation.Burn_SecsDuration, DoTInformation.Burn_DPS);
 		double fireDoTTotalDamage = fireDoTDamagePerEnemy * numTargets;
 		
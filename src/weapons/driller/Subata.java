@@ -7,7 +7,6 @@ import guiPieces.WeaponPictures;
 import guiPieces.customButtons.ButtonIcons.modIcons;
 import guiPieces.customButtons.ButtonIcons.overclockIcons;
 import modelPieces.UtilityInformation;
-import modelPieces.EnemyInformation;
 import modelPieces.Mod;
 import modelPieces.Overclock;
 import modelPieces.StatsRow;
@@ -46,7 +45,7 @@ public class Subata extends Weapon {
 	
 	public Subata(int mod1, int mod2, int mod3, int mod4, int mod5, int overclock) {
 		fullName = "Subata 120";
-		weaponPic = WeaponPictures.subata;
+		weaponPicFile = WeaponPictures.subata;
 		customizableRoF = true;
 		
 		// Base stats, before mods or overclocks alter them:
@@ -482,12 +481,12 @@ public class Subata extends Weapon {
 	@Override
 	protected double averageDamageToKillEnemy() {
 		double dmgPerShot = increaseBulletDamageForWeakpoints(getDirectDamage(), getWeakpointBonus()) + getAreaDamage();
-		return Math.ceil(EnemyInformation.averageHealthPool() / dmgPerShot) * dmgPerShot;
+		return Math.ceil(getEnemyContext().averageHealthPool() / dmgPerShot) * dmgPerShot;
 	}
 	
 	@Override
 	public double averageOverkill() {
-		overkillPercentages = EnemyInformation.overkillPerCreature(getDirectDamage() + getAreaDamage());
+		overkillPercentages = getEnemyContext().overkillPerCreature(getDirectDamage() + getAreaDamage());
 		return MathUtils.vectorDotProduct(overkillPercentages[0], overkillPercentages[1]);
 	}
 
@@ -531,7 +530,7 @@ public class Subata extends Weapon {
 		double[] dot_duration = new double[4];
 		double[] dot_probability = new double[4];
 		
-		breakpoints = EnemyInformation.calculateBreakpoints(directDamage, areaDamage, dot_dps, dot_duration, dot_probability, 
+		breakpoints = getEnemyContext().calculateBreakpoints(directDamage, areaDamage, dot_dps, dot_duration, dot_probability, 
 															getWeakpointBonus(), armorBreaking, getRateOfFire(), 0.0, macteraBonus, 
 															statusEffects[1], statusEffects[3], false, selectedOverclock == 4);
 		return MathUtils.sum(breakpoints);
@@ -571,7 +570,7 @@ public class Subata extends Weapon {
 	
 	@Override
 	public double damageWastedByArmor() {
-		damageWastedByArmorPerCreature = EnemyInformation.percentageDamageWastedByArmor(getDirectDamage(), 1, getAreaDamage(), armorBreaking, getWeakpointBonus(), getGeneralAccuracy(), getWeakpointAccuracy(), selectedOverclock == 4);
+		getEnemyContext().percentageDamageWastedByArmor(damageWastedByArmorPerCreature, getDirectDamage(), 1, getAreaDamage(), armorBreaking, getWeakpointBonus(), getGeneralAccuracy(), getWeakpointAccuracy(), selectedOverclock == 4);
 		return 100 * MathUtils.vectorDotProduct(damageWastedByArmorPerCreature[0], damageWastedByArmorPerCreature[1]) / MathUtils.sum(damageWastedByArmorPerCreature[0]);
 	}
 	
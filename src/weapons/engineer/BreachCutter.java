@@ -53,7 +53,7 @@ public class BreachCutter extends Weapon {
 	
 	public BreachCutter(int mod1, int mod2, int mod3, int mod4, int mod5, int overclock) {
 		fullName = "Breach Cutter";
-		weaponPic = WeaponPictures.breachCutter;
+		weaponPicFile = WeaponPictures.breachCutter;
 		
 		// Base stats, before mods or overclocks alter them:
 		projectileVelocity = 10;  // m/sec
@@ -466,12 +466,12 @@ public class BreachCutter extends Weapon {
 			// Weakpoint doesn't apply when enemies are Frozen
 			if (weakpoint && !statusEffects[1]) {
 				// Only the Dmg/Tick benefits from Weakpoints
-				dmgPerTick *= EnemyInformation.averageWeakpointDamageIncrease();
+				dmgPerTick *= getEnemyContext().averageWeakpointDamageIncrease();
 			}
 		}
 		else {
 			if (weakpoint) {
-				dmgPerTick *= EnemyInformation.averageWeakpointDamageIncrease();
+				dmgPerTick *= getEnemyContext().averageWeakpointDamageIncrease();
 			}
 		}
 		
@@ -646,12 +646,12 @@ public class BreachCutter extends Weapon {
 	protected double averageDamageToKillEnemy() {
 		// Yes extend DoT durations, yes primary target, no weakpoint
 		double dmgPerShot = calculateAverageDamagePerGrunt(true, true, false, true);
-		return Math.ceil(EnemyInformation.averageHealthPool() / dmgPerShot) * dmgPerShot;
+		return Math.ceil(getEnemyContext().averageHealthPool() / dmgPerShot) * dmgPerShot;
 	}
 	
 	@Override
 	public double averageOverkill() {
-		overkillPercentages = EnemyInformation.overkillPerCreature(calculateAverageDamagePerGrunt(true, true, false, true));
+		overkillPercentages = getEnemyContext().overkillPerCreature(calculateAverageDamagePerGrunt(true, true, false, true));
 		return MathUtils.vectorDotProduct(overkillPercentages[0], overkillPercentages[1]);
 	}
 
@@ -713,7 +713,7 @@ public class BreachCutter extends Weapon {
 				2. A hidden DoT that does 7 Fire + 7 Heat per tick, 2 ticks/sec, 5 sec duration (11 ticks)
 				3. 90% of the Dmg/Tick as Heat while intersecting enemies
 			*/
-			return EnemyInformation.averageTimeToIgnite(75, 0.9 * getDamagePerTick(), damageTickRate, 7.0 * 2);
+			return getEnemyContext().averageTimeToIgnite(75, 0.9 * getDamagePerTick(), damageTickRate, 7.0 * 2);
 		}
 		else {
 			return -1;
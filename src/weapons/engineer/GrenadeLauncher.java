@@ -8,7 +8,6 @@ import guiPieces.WeaponPictures;
 import guiPieces.customButtons.ButtonIcons.modIcons;
 import guiPieces.customButtons.ButtonIcons.overclockIcons;
 import modelPieces.DoTInformation;
-import modelPieces.EnemyInformation;
 import modelPieces.Mod;
 import modelPieces.Overclock;
 import modelPieces.StatsRow;
@@ -48,7 +47,7 @@ public class GrenadeLauncher extends Weapon {
 	
 	public GrenadeLauncher(int mod1, int mod2, int mod3, int mod4, int mod5, int overclock) {
 		fullName = "Deepcore 40MM PGL";
-		weaponPic = WeaponPictures.grenadeLauncher;
+		weaponPicFile = WeaponPictures.grenadeLauncher;
 		
 		// Base stats, before mods or overclocks alter them:
 		areaDamage = 110;
@@ -379,7 +378,7 @@ public class GrenadeLauncher extends Weapon {
 		// Incendiary Compound
 		if (selectedTier3 == 0 && !statusEffects[1]) {
 			if (burst) {
-				double percentageOfEnemiesIgnitedByOneGrenade = EnemyInformation.percentageEnemiesIgnitedBySingleBurstOfHeat(getHeatPerGrenade());
+				double percentageOfEnemiesIgnitedByOneGrenade = getEnemyContext().percentageEnemiesIgnitedBySingleBurstOfHeat(getHeatPerGrenade());
 				burnDPS = percentageOfEnemiesIgnitedByOneGrenade * DoTInformation.Burn_DPS;
 			}
 			else {
@@ -448,12 +447,12 @@ public class GrenadeLauncher extends Weapon {
 	@Override
 	protected double averageDamageToKillEnemy() {
 		double dmgPerShot = increaseBulletDamageForWeakpoints(getDirectDamage()) + getAreaDamage();
-		return Math.ceil(EnemyInformation.averageHealthPool() / dmgPerShot) * dmgPerShot;
+		return Math.ceil(getEnemyContext().averageHealthPool() / dmgPerShot) * dmgPerShot;
 	}
 	
 	@Override
 	public double averageOverkill() {
-		overkillPercentages = EnemyInformation.overkillPerCreature(getDirectDamage() + getAreaDamage());
+		overkillPercentages = getEnemyContext().overkillPerCreature(getDirectDamage() + getAreaDamage());
 		return MathUtils.vectorDotProduct(overkillPercentages[0], overkillPercentages[1]);
 	}
 
@@ -496,7 +495,7 @@ public class GrenadeLauncher extends Weapon {
 			dot_probability[3] = 1.0;
 		}
 		
-		breakpoints = EnemyInformation.calculateBreakpoints(directDamage, areaDamage, dot_dps, dot_duration, dot_probability, 
+		breakpoints = getEnemyContext().calculateBreakpoints(directDamage, areaDamage, dot_dps, dot_duration, dot_probability, 
 															0.0, getArmorBreaking(), 1.0/((1.0/rateOfFire) + reloadTime), heatPerGrenade, 0.0, 
 															statusEffects[1], statusEffects[3], false, false);
 		return MathUtils.sum(breakpoints);
@@ -529,7 +528,7 @@ public class GrenadeLauncher extends Weapon {
 		}
 
 		// Fear (baseline function of the Grenade Launcher)
-		utilityScores[4] = calculateFearProcProbability(fearFactor) * aoeEfficiency[2] * EnemyInformation.averageFearDuration() * UtilityInformation.Fear_Utility;
+		utilityScores[4] = calculateFearProcProbability(fearFactor) * aoeEfficiency[2] * getEnemyContext().averageFearDuration() * UtilityInformation.Fear_Utility;
 		
 		// Stun (T4.C 100% stun chance, 3 sec duration)
 		if (selectedTier4 == 2) {
@@ -545,7 +544,7 @@ public class GrenadeLauncher extends Weapon {
 	@Override
 	public double averageTimeToCauterize() {
 		if (selectedTier3 == 0) {
-			return EnemyInformation.averageTimeToIgnite(0, getHeatPerGrenade(), 1.0 / ((1.0/rateOfFire) + reloadTime), 0);
+			return getEnemyContext().averageTimeToIgnite(0, getHeatPerGrenade(), 1.0 / ((1.0/rateOfFire) + reloadTime), 0);
 		}
 		else {
 			return -1;
@@ -577,8 +576,8 @@ public class GrenadeLauncher extends Weapon {
 	
 	@Override
 	public double damageWastedByArmor() {
-		double weakpointAccuracy = EnemyInformation.probabilityBulletWillHitWeakpoint() * 100.0;
-		damageWastedByArmorPerCreature = EnemyInformation.percentageDamageWastedByArmor(getDirectDamage(), 1, getAreaDamage(), getArmorBreaking(), 0.0, 100.0, weakpointAccuracy);
+		double weakpointAccuracy = getEnemyContext().probabilityBulletWillHitWeakpoint() * 100.0;
+		getEnemyContext().percentageDamageWastedByArmor(damageWastedByArmorPerCreature, getDirectDamage(), 1, getAreaDamage(), getArmorBreaking(), 0.0, 100.0, weakpointAccuracy);
 		return 100 * MathUtils.vectorDotProduct(damageWastedByArmorPerCreature[0], damageWastedByArmorPerCreature[1]) / MathUtils.sum(damageWastedByArmorPerCreature[0]);
 	}
 	
@@ -7,7 +7,6 @@ import guiPieces.WeaponPictures;
 import guiPieces.customButtons.ButtonIcons.modIcons;
 import guiPieces.customButtons.ButtonIcons.overclockIcons;
 import modelPieces.DoTInformation;
-import modelPieces.EnemyInformation;
 import modelPieces.Mod;
 import modelPieces.Overclock;
 import modelPieces.StatsRow;
@@ -47,7 +46,7 @@ public class SMG extends Weapon {
 	
 	public SMG(int mod1, int mod2, int mod3, int mod4, int mod5, int overclock) {
 		fullName = "\"Stubby\" Voltaic SMG";
-		weaponPic = WeaponPictures.SMG;
+		weaponPicFile = WeaponPictures.SMG;
 		
 		// Base stats, before mods or overclocks alter them:
 		electrocutionDoTChance = 0.2;
@@ -456,12 +455,12 @@ public class SMG extends Weapon {
 	@Override
 	protected double averageDamageToKillEnemy() {
 		double dmgPerShot = increaseBulletDamageForWeakpoints(getDirectDamage() + getElectricDamage());
-		return Math.ceil(EnemyInformation.averageHealthPool() / dmgPerShot) * dmgPerShot;
+		return Math.ceil(getEnemyContext().averageHealthPool() / dmgPerShot) * dmgPerShot;
 	}
 	
 	@Override
 	public double averageOverkill() {
-		overkillPercentages = EnemyInformation.overkillPerCreature(getDirectDamage() + getElectricDamage());
+		overkillPercentages = getEnemyContext().overkillPerCreature(getDirectDamage() + getElectricDamage());
 		return MathUtils.vectorDotProduct(overkillPercentages[0], overkillPercentages[1]);
 	}
 
@@ -502,7 +501,7 @@ public class SMG extends Weapon {
 		dot_duration[0] = DoTInformation.Electro_SecsDuration;
 		dot_probability[0] = getElectrocutionDoTChance();
 		
-		breakpoints = EnemyInformation.calculateBreakpoints(directDamage, areaDamage, dot_dps, dot_duration, dot_probability, 
+		breakpoints = getEnemyContext().calculateBreakpoints(directDamage, areaDamage, dot_dps, dot_duration, dot_probability, 
 															getWeakpointBonus(), 1.0, getRateOfFire(), 0.0, 0.0, 
 															statusEffects[1], statusEffects[3], false, false);
 		return MathUtils.sum(breakpoints);
@@ -529,7 +528,7 @@ public class SMG extends Weapon {
 		if (selectedOverclock == 5) {
 			// OC "Turret EM Discharge" inflicts 0.5 Fear in a 5m radius around the sentry. Also, since the enemies will be electrocuted the Fear duration gets increased.
 			// 5m radius returns 41 Grunts, which is more than I think would realistically be hit by these explosions. As such, I'm artificially halving the Fear radius to 2.5m
-			utilityScores[4] = calculateFearProcProbability(0.5) * calculateNumGlyphidsInRadius(5.0/2.0) * EnemyInformation.averageFearDuration(0.8, 3) * UtilityInformation.Fear_Utility;
+			utilityScores[4] = calculateFearProcProbability(0.5) * calculateNumGlyphidsInRadius(5.0/2.0) * getEnemyContext().averageFearDuration(0.8, 3) * UtilityInformation.Fear_Utility;
 		}
 		else {
 			utilityScores[4] = 0;
@@ -556,7 +555,7 @@ public class SMG extends Weapon {
 	
 	@Override
 	public double damageWastedByArmor() {
-		damageWastedByArmorPerCreature = EnemyInformation.percentageDamageWastedByArmor(getDirectDamage() + getElectricDamage(), 1, 0.0, 1.0, getWeakpointBonus(), getGeneralAccuracy(), getWeakpointAccuracy());
+		getEnemyContext().percentageDamageWastedByArmor(damageWastedByArmorPerCreature, getDirectDamage() + getElectricDamage(), 1, 0.0, 1.0, getWeakpointBonus(), getGeneralAccuracy(), getWeakpointAccuracy());
 		return 100 * MathUtils.vectorDotProduct(damageWastedByArmorPerCreature[0], damageWastedByArmorPerCreature[1]) / MathUtils.sum(damageWastedByArmorPerCreature[0]);
 	}
 	
@@ -6,7 +6,6 @@ import dataGenerator.DatabaseConstants;
 import guiPieces.WeaponPictures;
 import guiPieces.customButtons.ButtonIcons.modIcons;
 import guiPieces.customButtons.ButtonIcons.overclockIcons;
-import modelPieces.EnemyInformation;
 import modelPieces.Mod;
 import modelPieces.Overclock;
 import modelPieces.StatsRow;
@@ -47,7 +46,7 @@ public class Shotgun extends Weapon {
 	
 	public Shotgun(int mod1, int mod2, int mod3, int mod4, int mod5, int overclock) {
 		fullName = "\"Warthog\" Auto 210";
-		weaponPic = WeaponPictures.shotgun;
+		weaponPicFile = WeaponPictures.shotgun;
 		customizableRoF = true;
 		
 		// Base stats, before mods or overclocks alter them:
@@ -446,6 +445,85 @@ public class Shotgun extends Weapon {
 		return (pelletsThatHitWeakpointPerShot * directWeakpointDamagePerPellet + pelletsThatHitTargetPerShot * dmgPerPellet) * getMagazineSize() / duration;
 	}
 
+	/*
+		Same math as calculateSingleTargetDPS(), but the magazine, RoF, reload, Stunner multiplier, and weakpoint multiplier only get calculated once per build
+		instead of once for each of the 16 DPS permutations.
+	*/
+	@Override
+	public void calculateMetricVector(double[] output) {
+		boolean frozen = statusEffects[1];
+		
+		// Index 0 is without Accuracy, index 1 is with Accuracy
+		double[] generalAccuracy = {1.0, getGeneralAccuracy() / 100.0};
+		
+		int magSize = getMagazineSize();
+		double RoF = getCustomRoF();
+		double burstDuration = ((double) magSize) / RoF;
+		double sustainedDuration = (((double) magSize) / RoF) + getReloadTime();
+		
+		// Index 0 is without Armor Wasting, index 1 is with Armor Wasting
+		double baseDamage = getDamagePerPellet();
+		double[] dmgPerPellet = {baseDamage, baseDamage};
+		if (!frozen) {
+			double armorWaste = 1.0 - MathUtils.vectorDotProduct(damageWastedByArmorPerCreature[0], damageWastedByArmorPerCreature[1]);
+			dmgPerPellet[1] *= armorWaste;
+		}
+		
+		double stunnerMultiplier = 1.0;
+		if (selectedOverclock == 0) {
+			stunnerMultiplier = averageBonusPerMagazineForShortEffects(1.3, 3.0, false, calculateCumulativeStunChancePerShot(), magSize, RoF);
+		}
+		
+		double weakpointBonus = getWeakpointBonus();
+		double[] directWeakpointDamagePerPellet = new double[2];
+		for (int aw = 0; aw < 2; aw++) {
+			if (frozen) {
+				dmgPerPellet[aw] *= UtilityInformation.Frozen_Damage_Multiplier;
+			}
+			if (statusEffects[3]) {
+				dmgPerPellet[aw] *= UtilityInformation.IFG_Damage_Multiplier;
+			}
+			if (selectedOverclock == 0) {
+				dmgPerPellet[aw] *= stunnerMultiplier;
+			}
+			directWeakpointDamagePerPellet[aw] = increaseBulletDamageForWeakpoints(dmgPerPellet[aw], weakpointBonus, 1.0);
+		}
+		
+		double weakpointAccuracy = 0.0;
+		if (!frozen) {
+			weakpointAccuracy = getWeakpointAccuracy() / 100.0;
+		}
+		
+		int numPelletsPerShot = getNumberOfPellets();
+		
+		boolean[] flags;
+		int acc, aw;
+		double wpAccuracy, wpDamage, pelletsThatHitWeakpointPerShot, pelletsThatHitTargetPerShot, damagePerMagazine;
+		for (int i = 0; i < 8; i++) {
+			flags = dpsFlagPermutations[i];
+			acc = flags[1] ? 1 : 0;
+			aw = flags[2] ? 1 : 0;
+			
+			if (flags[0] && !frozen) {
+				wpAccuracy = weakpointAccuracy;
+				wpDamage = directWeakpointDamagePerPellet[aw];
+			}
+			else {
+				wpAccuracy = 0.0;
+				wpDamage = dmgPerPellet[aw];
+			}
+			
+			pelletsThatHitWeakpointPerShot = numPelletsPerShot * wpAccuracy;
+			pelletsThatHitTargetPerShot = numPelletsPerShot * generalAccuracy[acc] - pelletsThatHitWeakpointPerShot;
+			damagePerMagazine = (pelletsThatHitWeakpointPerShot * wpDamage + pelletsThatHitTargetPerShot * dmgPerPellet[aw]) * magSize;
+			
+			output[i] = damagePerMagazine / burstDuration;
+			output[8 + i] = damagePerMagazine / sustainedDuration;
+		}
+		
+		calculateNonDPSMetrics(output);
+	}
+	
 	@Override
 	public double calculateAdditionalTargetDPS() {
 		// Shotgun cannot naturally hit more than one target, unless pellet spread is large enough to hit multiple swarmers. In that case, the DPS is equivalent to the single-target DPS but spread between targets.
@@ -473,12 +551,12 @@ public class Shotgun extends Weapon {
 	@Override
 	protected double averageDamageToKillEnemy() {
 		double dmgPerShot = increaseBulletDamageForWeakpoints(getDamagePerPellet(), getWeakpointBonus()) * getNumberOfPellets();
-		return Math.ceil(EnemyInformation.averageHealthPool() / dmgPerShot) * dmgPerShot;
+		return Math.ceil(getEnemyContext().averageHealthPool() / dmgPerShot) * dmgPerShot;
 	}
 	
 	@Override
 	public double averageOverkill() {
-		overkillPercentages = EnemyInformation.overkillPerCreature(getDamagePerPellet() * getNumberOfPellets());
+		overkillPercentages = getEnemyContext().overkillPerCreature(getDamagePerPellet() * getNumberOfPellets());
 		return MathUtils.vectorDotProduct(overkillPercentages[0], overkillPercentages[1]);
 	}
 
@@ -514,7 +592,7 @@ public class Shotgun extends Weapon {
 		double[] dot_duration = new double[4];
 		double[] dot_probability = new double[4];
 		
-		breakpoints = EnemyInformation.calculateBreakpoints(directDamage, areaDamage, dot_dps, dot_duration, dot_probability, 
+		breakpoints = getEnemyContext().calculateBreakpoints(directDamage, areaDamage, dot_dps, dot_duration, dot_probability, 
 															getWeakpointBonus(), getArmorBreaking(), getRateOfFire(), 0.0, 0.0, 
 															statusEffects[1], statusEffects[3], false, false);
 		return MathUtils.sum(breakpoints);
@@ -530,7 +608,7 @@ public class Shotgun extends Weapon {
 		// Fear
 		if (selectedTier5 == 0) {
 			// Turret Whip projectile does 1.0 Fear Factor in its 1.5m radius
-			utilityScores[4] = calculateFearProcProbability(1.0) * calculateNumGlyphidsInRadius(1.5) * EnemyInformation.averageFearDuration() * UtilityInformation.Fear_Utility;
+			utilityScores[4] = calculateFearProcProbability(1.0) * calculateNumGlyphidsInRadius(1.5) * getEnemyContext().averageFearDuration() * UtilityInformation.Fear_Utility;
 		}
 		else {
 			utilityScores[4] = 0;
@@ -565,7 +643,7 @@ public class Shotgun extends Weapon {
 	
 	@Override
 	public double damageWastedByArmor() {
-		damageWastedByArmorPerCreature = EnemyInformation.percentageDamageWastedByArmor(getDamagePerPellet(), getNumberOfPellets(), 0.0, getArmorBreaking(), getWeakpointBonus(), getGeneralAccuracy(), getWeakpointAccuracy());
+		getEnemyContext().percentageDamageWastedByArmor(damageWastedByArmorPerCreature, getDamagePerPellet(), getNumberOfPellets(), 0.0, getArmorBreaking(), getWeakpointBonus(), getGeneralAccuracy(), getWeakpointAccuracy());
 		return 100 * MathUtils.vectorDotProduct(damageWastedByArmorPerCreature[0], damageWastedByArmorPerCreature[1]) / MathUtils.sum(damageWastedByArmorPerCreature[0]);
 	}
 	
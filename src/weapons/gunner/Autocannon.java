@@ -9,7 +9,6 @@ import guiPieces.customButtons.ButtonIcons.modIcons;
 import guiPieces.customButtons.ButtonIcons.overclockIcons;
 import modelPieces.DoTInformation;
 import modelPieces.DwarfInformation;
-import modelPieces.EnemyInformation;
 import modelPieces.Mod;
 import modelPieces.Overclock;
 import modelPieces.StatsRow;
@@ -52,7 +51,7 @@ public class Autocannon extends Weapon {
 	
 	public Autocannon(int mod1, int mod2, int mod3, int mod4, int mod5, int overclock) {
 		fullName = "\"Thunderhead\" Heavy Autocannon";
-		weaponPic = WeaponPictures.autocannon;
+		weaponPicFile = WeaponPictures.autocannon;
 		
 		// Base stats, before mods or overclocks alter them:
 		directDamage = 14;
@@ -238,7 +237,7 @@ public class Autocannon extends Weapon {
 		if (selectedOverclock == 3) {
 			modifier += 0.35;
 		}
-		return MathUtils.round(modifier * DwarfInformation.walkSpeed, 2);
+		return MathUtils.roundHalfUp(modifier * DwarfInformation.walkSpeed, 2);
 	}
 	private double getIncreaseScalingRate() {
 		double toReturn = increaseScalingRate;
@@ -515,12 +514,12 @@ public class Autocannon extends Weapon {
 	@Override
 	protected double averageDamageToKillEnemy() {
 		double dmgPerShot = increaseBulletDamageForWeakpoints(getDirectDamage()) + getAreaDamage();
-		return Math.ceil(EnemyInformation.averageHealthPool() / dmgPerShot) * dmgPerShot;
+		return Math.ceil(getEnemyContext().averageHealthPool() / dmgPerShot) * dmgPerShot;
 	}
 	
 	@Override
 	public double averageOverkill() {
-		overkillPercentages = EnemyInformation.overkillPerCreature(getDirectDamage() + getAreaDamage());
+		overkillPercentages = getEnemyContext().overkillPerCreature(getDirectDamage() + getAreaDamage());
 		return MathUtils.vectorDotProduct(overkillPercentages[0], overkillPercentages[1]);
 	}
 
@@ -556,7 +555,7 @@ public class Autocannon extends Weapon {
 			dot_probability[1] = 0.3;
 		}
 		
-		breakpoints = EnemyInformation.calculateBreakpoints(directDamage, areaDamage, dot_dps, dot_duration, dot_probability, 
+		breakpoints = getEnemyContext().calculateBreakpoints(directDamage, areaDamage, dot_dps, dot_duration, dot_probability, 
 															0.0, getArmorBreaking(), getAverageRateOfFire(), 0.0, 0.0, 
 															statusEffects[1], statusEffects[3], false, false);
 		return MathUtils.sum(breakpoints);
@@ -565,7 +564,7 @@ public class Autocannon extends Weapon {
 	@Override
 	public double utilityScore() {
 		// OC "Combat Mobility" increases Gunner's movespeed
-		utilityScores[0] = (getMovespeedWhileFiring() - MathUtils.round(movespeedWhileFiring * DwarfInformation.walkSpeed, 2)) * UtilityInformation.Movespeed_Utility;
+		utilityScores[0] = (getMovespeedWhileFiring() - MathUtils.roundHalfUp(movespeedWhileFiring * DwarfInformation.walkSpeed, 2)) * UtilityInformation.Movespeed_Utility;
 		
 		// Mod Tier 5 "Damage Resist" gives 33% damage reduction at max RoF
 		if (selectedTier5 == 2) {
@@ -617,10 +616,10 @@ public class Autocannon extends Weapon {
 			double probabilityToFear = calculateFearProcProbability(0.5);
 			double fearDuration = 0;
 			if (selectedOverclock == 5) {
-				fearDuration = EnemyInformation.averageFearDuration(UtilityInformation.Neuro_Slow_Utility, 10.0);
+				fearDuration = getEnemyContext().averageFearDuration(UtilityInformation.Neuro_Slow_Utility, 10.0);
 			}
 			else {
-				fearDuration = EnemyInformation.averageFearDuration();
+				fearDuration = getEnemyContext().averageFearDuration();
 			}
 			utilityScores[4] = probabilityToFear * numGlyphidsFeared * fearDuration * UtilityInformation.Fear_Utility;
 		}
@@ -649,7 +648,7 @@ public class Autocannon extends Weapon {
 	
 	@Override
 	public double damageWastedByArmor() {
-		damageWastedByArmorPerCreature = EnemyInformation.percentageDamageWastedByArmor(getDirectDamage(), 1, getAreaDamage(), getArmorBreaking(), 0.0, getGeneralAccuracy(), getWeakpointAccuracy());
+		getEnemyContext().percentageDamageWastedByArmor(damageWastedByArmorPerCreature, getDirectDamage(), 1, getAreaDamage(), getArmorBreaking(), 0.0, getGeneralAccuracy(), getWeakpointAccuracy());
 		return 100 * MathUtils.vectorDotProduct(damageWastedByArmorPerCreature[0], damageWastedByArmorPerCreature[1]) / MathUtils.sum(damageWastedByArmorPerCreature[0]);
 	}
 	
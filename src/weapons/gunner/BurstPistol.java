@@ -8,7 +8,6 @@ import guiPieces.WeaponPictures;
 import guiPieces.customButtons.ButtonIcons.modIcons;
 import guiPieces.customButtons.ButtonIcons.overclockIcons;
 import modelPieces.DoTInformation;
-import modelPieces.EnemyInformation;
 import modelPieces.Mod;
 import modelPieces.Overclock;
 import modelPieces.StatsRow;
@@ -49,7 +48,7 @@ public class BurstPistol extends Weapon {
 	
 	public BurstPistol(int mod1, int mod2, int mod3, int mod4, int mod5, int overclock) {
 		fullName = "BRT7 Burst Fire Gun";
-		weaponPic = WeaponPictures.burstPistol;
+		weaponPicFile = WeaponPictures.burstPistol;
 		
 		// Base stats, before mods or overclocks alter them:
 		directDamage = 20;
@@ -491,12 +490,12 @@ public class BurstPistol extends Weapon {
 	@Override
 	protected double averageDamageToKillEnemy() {
 		double dmgPerBurst = increaseBulletDamageForWeakpoints(getDirectDamage(), getWeakpointBonus()) * getBurstSize();
-		return Math.ceil(EnemyInformation.averageHealthPool() / dmgPerBurst) * dmgPerBurst;
+		return Math.ceil(getEnemyContext().averageHealthPool() / dmgPerBurst) * dmgPerBurst;
 	}
 	
 	@Override
 	public double averageOverkill() {
-		overkillPercentages = EnemyInformation.overkillPerCreature(getDirectDamage() * getBurstSize());
+		overkillPercentages = getEnemyContext().overkillPerCreature(getDirectDamage() * getBurstSize());
 		return MathUtils.vectorDotProduct(overkillPercentages[0], overkillPercentages[1]);
 	}
 
@@ -538,7 +537,7 @@ public class BurstPistol extends Weapon {
 			dot_probability[0] = 1.0;
 		}
 		
-		breakpoints = EnemyInformation.calculateBreakpoints(directDamage, areaDamage, dot_dps, dot_duration, dot_probability, 
+		breakpoints = getEnemyContext().calculateBreakpoints(directDamage, areaDamage, dot_dps, dot_duration, dot_probability, 
 															getWeakpointBonus(), getArmorBreaking(), getRateOfFire(), 0.0, 0.0, 
 															statusEffects[1], statusEffects[3], false, false);
 		return MathUtils.sum(breakpoints);
@@ -592,7 +591,7 @@ public class BurstPistol extends Weapon {
 	
 	@Override
 	public double damageWastedByArmor() {
-		damageWastedByArmorPerCreature = EnemyInformation.percentageDamageWastedByArmor(getDirectDamage(), 1, 0.0, getArmorBreaking(), getWeakpointBonus(), getGeneralAccuracy(), getWeakpointAccuracy());
+		getEnemyContext().percentageDamageWastedByArmor(damageWastedByArmorPerCreature, getDirectDamage(), 1, 0.0, getArmorBreaking(), getWeakpointBonus(), getGeneralAccuracy(), getWeakpointAccuracy());
 		return 100 * MathUtils.vectorDotProduct(damageWastedByArmorPerCreature[0], damageWastedByArmorPerCreature[1]) / MathUtils.sum(damageWastedByArmorPerCreature[0]);
 	}
 	
@@ -9,7 +9,6 @@ import guiPieces.customButtons.ButtonIcons.modIcons;
 import guiPieces.customButtons.ButtonIcons.overclockIcons;
 import modelPieces.DoTInformation;
 import modelPieces.DwarfInformation;
-import modelPieces.EnemyInformation;
 import modelPieces.Mod;
 import modelPieces.Overclock;
 import modelPieces.StatsRow;
@@ -56,7 +55,7 @@ public class Minigun extends Weapon {
 	
 	public Minigun(int mod1, int mod2, int mod3, int mod4, int mod5, int overclock) {
 		fullName = "\"Lead Storm\" Powered Minigun";
-		weaponPic = WeaponPictures.minigun;
+		weaponPicFile = WeaponPictures.minigun;
 		
 		// Base stats, before mods or overclocks alter them:
 		damagePerPellet = 10;
@@ -270,7 +269,7 @@ public class Minigun extends Weapon {
 		if (selectedOverclock == 6) {
 			modifier *= 0;
 		}
-		return MathUtils.round(modifier * DwarfInformation.walkSpeed, 2);
+		return MathUtils.roundHalfUp(modifier * DwarfInformation.walkSpeed, 2);
 	}
 	private double getBaseSpread() {
 		double toReturn = 1.0;
@@ -344,7 +343,7 @@ public class Minigun extends Weapon {
 			
 			// I'm choosing to model CatG with the incorrect "guessed" Spawn Rates vector because it produced very believable results.
 			// Using the "exact" Spawn Rates made this model CatG WAY too strongly.
-			double estimatedBurstTTK = EnemyInformation.averageHealthPool(false) / estimatedBurstDPS;
+			double estimatedBurstTTK = getEnemyContext().averageHealthPool(false) / estimatedBurstDPS;
 			double timeAddedByCATG = (firingPeriod / estimatedBurstTTK) * heatRemovedPerKill;
 			firingPeriod += timeAddedByCATG;
 			
@@ -469,12 +468,12 @@ public class Minigun extends Weapon {
 			// I'm choosing to reduce the heatPerPellet by the Accuracy of the gun to imitate when pellets miss the target
 			double heatPerPellet = ((double) getDamagePerPellet(true)) * generalAccuracy / 2.0;
 			double RoF = getRateOfFire() / 2.0;
-			return timeBeforeHotBullets + EnemyInformation.averageTimeToIgnite(0, heatPerPellet, RoF, 0);
+			return timeBeforeHotBullets + getEnemyContext().averageTimeToIgnite(0, heatPerPellet, RoF, 0);
 		}
 		// Burning Hell only
 		else if (selectedTier5 != 2 && selectedOverclock == 2) {
 			// Burning Hell burns everything within 5m in a 20 degree arc in front of you at a rate of 80 heat/sec
-			return EnemyInformation.averageTimeToIgnite(0, 0, 0, burningHellHeatPerSec);
+			return getEnemyContext().averageTimeToIgnite(0, 0, 0, burningHellHeatPerSec);
 		}
 		// Both Hot Bullets AND Burning Hell
 		else if (selectedTier5 == 2 && selectedOverclock == 2) {
@@ -487,7 +486,7 @@ public class Minigun extends Weapon {
 			double heatPerPellet = ((double) getDamagePerPellet(true)) * generalAccuracy / 2.0;
 			double RoF = getRateOfFire() / 2.0;
 			double avgHeatPerSec = (timeBeforeHotBullets * burningHellHeatPerSec + timeAfterHotBullets * (heatPerPellet * RoF + burningHellHeatPerSec)) / firingPeriod;
-			return EnemyInformation.averageTimeToIgnite(0, 0, 0, avgHeatPerSec);
+			return getEnemyContext().averageTimeToIgnite(0, 0, 0, avgHeatPerSec);
 		}
 		// Neither are equipped.
 		else {
@@ -590,6 +589,106 @@ public class Minigun extends Weapon {
 		return (pelletsThatHitWeakpoint * directWeakpointDamage + pelletsThatHitTarget * directDamage) / longDuration + burningHellAreaDPS + burnDPS;
 	}
 
+	/*
+		calculateSingleTargetDPS() recalculates the firing period (which includes the Cold As The Grave loop), the damage per pellet, and the ignition time every time it gets
+		called, so calling it 16 times per build repeats all of that work 16 times. This does the same math in the same order, but calculates all of the intermediate values 
+		only once and then combines them for each of the 16 permutations.
+	*/
+	@Override
+	public void calculateMetricVector(double[] output) {
+		boolean frozen = statusEffects[1];
+		
+		// Index 0 is without Accuracy, index 1 is with Accuracy
+		double[] generalAccuracy = {1.0, getGeneralAccuracy() / 100.0};
+		if (selectedOverclock == 5) {
+			generalAccuracy[1] = Math.min(generalAccuracy[1] + 0.5, 1.0);
+		}
+		
+		double burstSize = calculateMaxNumPelletsFiredWithoutOverheating();
+		
+		double burstDuration = 2.0 * burstSize / getRateOfFire();
+		
+		double firingPeriod = calculateFiringPeriod();
+		double cooldownPeriod = calculateCooldownPeriod();
+		double spindown = getSpindownTime();
+		double spinup;
+		if (cooldownPeriod < spindown) {
+			double fractionOfSpinupNeeded = 1.0 - (cooldownPeriod / spindown);
+			spinup = fractionOfSpinupNeeded * getSpinupTime();
+		}
+		else {
+			spinup = getSpinupTime();
+		}
+		double sustainedDuration = firingPeriod + cooldownPeriod + spinup;
+		
+		// Index 0 is without Armor Wasting, index 1 is with Armor Wasting
+		double baseDamage = getDamagePerPellet(false);
+		double[] directDamage = {baseDamage, baseDamage};
+		if (!frozen) {
+			double armorWaste = 1.0 - MathUtils.vectorDotProduct(damageWastedByArmorPerCreature[0], damageWastedByArmorPerCreature[1]);
+			directDamage[1] *= armorWaste;
+		}
+		double[] directWeakpointDamage = new double[2];
+		for (int aw = 0; aw < 2; aw++) {
+			if (frozen) {
+				directDamage[aw] *= UtilityInformation.Frozen_Damage_Multiplier;
+			}
+			if (statusEffects[3]) {
+				directDamage[aw] *= UtilityInformation.IFG_Damage_Multiplier;
+			}
+			directWeakpointDamage[aw] = increaseBulletDamageForWeakpoints(directDamage[aw], 0.0, 1.0);
+		}
+		
+		double weakpointAccuracy = 0.0;
+		if (!frozen) {
+			weakpointAccuracy = getWeakpointAccuracy() / 100.0;
+		}
+		
+		// Index 0 is without Accuracy, index 1 is with Accuracy
+		double[] burstBurnDPS = {0, 0};
+		double sustainedBurnDPS = 0;
+		if ((selectedTier5 == 2 || selectedOverclock == 2) && !frozen) {
+			for (int acc = 0; acc < 2; acc++) {
+				double ignitionTime = calculateIgnitionTime(acc == 1);
+				double burnDoTUptime = (burstDuration - ignitionTime) / burstDuration;
+				burstBurnDPS[acc] = burnDoTUptime * DoTInformation.Burn_DPS;
+			}
+			sustainedBurnDPS = DoTInformation.Burn_DPS;
+		}
+		
+		double burningHellAreaDPS = 0;
+		if (selectedOverclock == 2) {
+			burningHellAreaDPS = 20;
+		}
+		
+		boolean[] flags;
+		int acc, aw, pelletsThatHitWeakpoint, pelletsThatHitTarget;
+		double wpAccuracy, wpDamage, damagePerBurst;
+		for (int i = 0; i < 8; i++) {
+			flags = dpsFlagPermutations[i];
+			acc = flags[1] ? 1 : 0;
+			aw = flags[2] ? 1 : 0;
+			
+			if (flags[0] && !frozen) {
+				wpAccuracy = weakpointAccuracy;
+				wpDamage = directWeakpointDamage[aw];
+			}
+			else {
+				wpAccuracy = 0.0;
+				wpDamage = directDamage[aw];
+			}
+			
+			pelletsThatHitWeakpoint = (int) Math.round(burstSize * wpAccuracy);
+			pelletsThatHitTarget = (int) Math.round(burstSize * generalAccuracy[acc]) - pelletsThatHitWeakpoint;
+			damagePerBurst = pelletsThatHitWeakpoint * wpDamage + pelletsThatHitTarget * directDamage[aw];
+			
+			output[i] = damagePerBurst / burstDuration + burningHellAreaDPS + burstBurnDPS[acc];
+			output[8 + i] = damagePerBurst / sustainedDuration + burningHellAreaDPS + sustainedBurnDPS;
+		}
+		
+		calculateNonDPSMetrics(output);
+	}
+	
 	@Override
 	public double calculateAdditionalTargetDPS() {
 		double idealSustained = calculateSingleTargetDPS(false, false, false, false);
@@ -658,7 +757,7 @@ public class Minigun extends Weapon {
 			// I'm choosing to model Aggressive Venting as Fire DoT max damage without affecting DPS stats, since the 10 sec cooldown penalty would TANK all of those stats.
 			// Additionally, I'm choosing to not combine its burst of 60 Heat Damage with the Heat/sec dealt by Hot Bullets or Burning Hell. It gets its own section, all to itself.
 			double[] aggressiveVentingAoeEfficiency = calculateAverageAreaDamage(10, 6, 15.0/60.0);
-			double percentageOfEnemiesIgnitedByAV = EnemyInformation.percentageEnemiesIgnitedBySingleBurstOfHeat(60 * aggressiveVentingAoeEfficiency[1]);
+			double percentageOfEnemiesIgnitedByAV = getEnemyContext().percentageEnemiesIgnitedBySingleBurstOfHeat(60 * aggressiveVentingAoeEfficiency[1]);
 			double numGlyphidsHitByHeatBurst = aggressiveVentingAoeEfficiency[2];
 			int numTimesAVcanTrigger = (int) Math.floor(numberOfBursts);
 			fireDoTDamagePerEnemy = calculateAverageDoTDamagePerEnemy(0, DoTInformation.Burn_SecsDuration, DoTInformation.Burn_DPS);
@@ -696,12 +795,12 @@ public class Minigun extends Weapon {
 	@Override
 	protected double averageDamageToKillEnemy() {
 		double dmgPerShot = increaseBulletDamageForWeakpoints(getDamagePerPellet(false));
-		return Math.ceil(EnemyInformation.averageHealthPool() / dmgPerShot) * dmgPerShot;
+		return Math.ceil(getEnemyContext().averageHealthPool() / dmgPerShot) * dmgPerShot;
 	}
 	
 	@Override
 	public double averageOverkill() {
-		overkillPercentages = EnemyInformation.overkillPerCreature(getDamagePerPellet(false));
+		overkillPercentages = getEnemyContext().overkillPerCreature(getDamagePerPellet(false));
 		return MathUtils.vectorDotProduct(overkillPercentages[0], overkillPercentages[1]);
 	}
 
@@ -754,7 +853,7 @@ public class Minigun extends Weapon {
 		double[] dot_probability = new double[4];
 		
 		// Setting embeddedDetonators to true when Burning Hell is equipped so that it doesn't affect Armor Breaking stats
-		breakpoints = EnemyInformation.calculateBreakpoints(directDamage, areaDamage, dot_dps, dot_duration, dot_probability, 
+		breakpoints = getEnemyContext().calculateBreakpoints(directDamage, areaDamage, dot_dps, dot_duration, dot_probability, 
 															0.0, getArmorBreaking(), effectiveRoF, heatPerShot, 0.0, 
 															statusEffects[1], statusEffects[3], false, selectedOverclock == 2);
 		return MathUtils.sum(breakpoints);
@@ -763,7 +862,7 @@ public class Minigun extends Weapon {
 	@Override
 	public double utilityScore() {
 		// OC "Lead Storm" reduces Gunner's movement speed
-		utilityScores[0] = (getMovespeedWhileFiring() - MathUtils.round(movespeedWhileFiring * DwarfInformation.walkSpeed, 2)) * UtilityInformation.Movespeed_Utility;
+		utilityScores[0] = (getMovespeedWhileFiring() - MathUtils.roundHalfUp(movespeedWhileFiring * DwarfInformation.walkSpeed, 2)) * UtilityInformation.Movespeed_Utility;
 		
 		// Light Armor Breaking probability
 		utilityScores[2] = calculateProbabilityToBreakLightArmor(getDamagePerPellet(false), getArmorBreaking()) * UtilityInformation.ArmorBreak_Utility;
@@ -775,7 +874,7 @@ public class Minigun extends Weapon {
 			double[] aggressiveVentingAoeEfficiency = calculateAverageAreaDamage(10, 6, 0.25);
 			int numGlyphidsFeared = (int) Math.round(aggressiveVentingAoeEfficiency[1] * aggressiveVentingAoeEfficiency[2]);
 			double probabilityToFear = calculateFearProcProbability(10.0);
-			utilityScores[4] = probabilityToFear * numGlyphidsFeared * EnemyInformation.averageFearDuration() * UtilityInformation.Fear_Utility;
+			utilityScores[4] = probabilityToFear * numGlyphidsFeared * getEnemyContext().averageFearDuration() * UtilityInformation.Fear_Utility;
 		}
 		else {
 			utilityScores[4] = 0;
@@ -813,7 +912,7 @@ public class Minigun extends Weapon {
 	
 	@Override
 	public double damageWastedByArmor() {
-		damageWastedByArmorPerCreature = EnemyInformation.percentageDamageWastedByArmor(getDamagePerPellet(false), 1, 0.0, getArmorBreaking(), 0.0, getGeneralAccuracy(), getWeakpointAccuracy());
+		getEnemyContext().percentageDamageWastedByArmor(damageWastedByArmorPerCreature, getDamagePerPellet(false), 1, 0.0, getArmorBreaking(), 0.0, getGeneralAccuracy(), getWeakpointAccuracy());
 		return 100 * MathUtils.vectorDotProduct(damageWastedByArmorPerCreature[0], damageWastedByArmorPerCreature[1]) / MathUtils.sum(damageWastedByArmorPerCreature[0]);
 	}
 	
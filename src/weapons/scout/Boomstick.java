@@ -8,7 +8,6 @@ import guiPieces.WeaponPictures;
 import guiPieces.customButtons.ButtonIcons.modIcons;
 import guiPieces.customButtons.ButtonIcons.overclockIcons;
 import modelPieces.DoTInformation;
-import modelPieces.EnemyInformation;
 import modelPieces.Mod;
 import modelPieces.Overclock;
 import modelPieces.StatsRow;
@@ -60,7 +59,7 @@ public class Boomstick extends Weapon {
 	
 	public Boomstick(int mod1, int mod2, int mod3, int mod4, int mod5, int overclock) {
 		fullName = "Jury-Rigged Boomstick";
-		weaponPic = WeaponPictures.boomstick;
+		weaponPicFile = WeaponPictures.boomstick;
 		
 		// Base stats, before mods or overclocks alter them:
 		damagePerPellet = 12;
@@ -363,10 +362,10 @@ public class Boomstick extends Weapon {
 		double heatDamagePerShot = 0.5 * (getDamagePerPellet() * numPelletsThatApplyHeat + getBlastwaveDamage());
 		if (selectedOverclock == 1) {
 			// Double Barrel fires both barrels in a 2-shot burst at 20 RoF.
-			return EnemyInformation.averageTimeToIgnite(0, 2.0 * heatDamagePerShot, 1.0 / getReloadTime(), 0);
+			return getEnemyContext().averageTimeToIgnite(0, 2.0 * heatDamagePerShot, 1.0 / getReloadTime(), 0);
 		}
 		else {
-			return EnemyInformation.averageTimeToIgnite(0, heatDamagePerShot, getRateOfFire(), 0);
+			return getEnemyContext().averageTimeToIgnite(0, heatDamagePerShot, getRateOfFire(), 0);
 		}
 	}
 	
@@ -490,7 +489,7 @@ public class Boomstick extends Weapon {
 			double fireDoTDamagePerEnemy;
 			if (selectedOverclock == 1) {
 				// Double barrel fires twice in a row, so it's double the heat of half the damage. Works out to just damage = heat.
-				double percentageOfEnemiesIgnitedPerShot = EnemyInformation.percentageEnemiesIgnitedBySingleBurstOfHeat(directDamagePerShot + getBlastwaveDamage());
+				double percentageOfEnemiesIgnitedPerShot = getEnemyContext().percentageEnemiesIgnitedBySingleBurstOfHeat(directDamagePerShot + getBlastwaveDamage());
 				fireDoTDamagePerEnemy = calculateAverageDoTDamagePerEnemy(0, DoTInformation.Burn_SecsDuration, DoTInformation.Burn_DPS);
 				
 				fireDoTTotalDamage += numShots * (percentageOfEnemiesIgnitedPerShot * numTargets) * fireDoTDamagePerEnemy;
@@ -534,12 +533,12 @@ public class Boomstick extends Weapon {
 			// Because the player cannot shoot only one shot with Double Barrel, I'm choosing to double the damage per shot to penalize this method accordingly.
 			dmgPerShot *= 2.0;
 		}
-		return Math.ceil(EnemyInformation.averageHealthPool() / dmgPerShot) * dmgPerShot;
+		return Math.ceil(getEnemyContext().averageHealthPool() / dmgPerShot) * dmgPerShot;
 	}
 	
 	@Override
 	public double averageOverkill() {
-		overkillPercentages = EnemyInformation.overkillPerCreature(getDamagePerPellet() * getNumberOfPellets() + getBlastwaveDamage());
+		overkillPercentages = getEnemyContext().overkillPerCreature(getDamagePerPellet() * getNumberOfPellets() + getBlastwaveDamage());
 		return MathUtils.vectorDotProduct(overkillPercentages[0], overkillPercentages[1]);
 	}
 
@@ -597,7 +596,7 @@ public class Boomstick extends Weapon {
 		double[] dot_duration = new double[4];
 		double[] dot_probability = new double[4];
 		
-		breakpoints = EnemyInformation.calculateBreakpoints(directDamage, areaDamage, dot_dps, dot_duration, dot_probability, 
+		breakpoints = getEnemyContext().calculateBreakpoints(directDamage, areaDamage, dot_dps, dot_duration, dot_probability, 
 															0.0, getArmorBreaking(), getRateOfFire(), heatPerShot, 0.0, 
 															statusEffects[1], statusEffects[3], false, false);
 		return MathUtils.sum(breakpoints);
@@ -623,7 +622,7 @@ public class Boomstick extends Weapon {
 			// A 5m radius returns 41 grunts, which is just too many. I'm choosing to reduce the radius by half, which brings it down to 12.
 			int gruntsHitByBlastwave = calculateNumGlyphidsInRadius(5.0 / 2.0);
 			double probabilityToFear = calculateFearProcProbability(0.5);
-			utilityScores[4] = probabilityToFear * gruntsHitByBlastwave * EnemyInformation.averageFearDuration() * UtilityInformation.Fear_Utility;
+			utilityScores[4] = probabilityToFear * gruntsHitByBlastwave * getEnemyContext().averageFearDuration() * UtilityInformation.Fear_Utility;
 		}
 		else {
 			utilityScores[4] = 0;
@@ -664,7 +663,7 @@ public class Boomstick extends Weapon {
 	
 	@Override
 	public double damageWastedByArmor() {
-		damageWastedByArmorPerCreature = EnemyInformation.percentageDamageWastedByArmor(getDamagePerPellet(), getNumberOfPellets(), getBlastwaveDamage(), getArmorBreaking(), 0.0, getGeneralAccuracy(), getWeakpointAccuracy());
+		getEnemyContext().percentageDamageWastedByArmor(damageWastedByArmorPerCreature, getDamagePerPellet(), getNumberOfPellets(), getBlastwaveDamage(), getArmorBreaking(), 0.0, getGeneralAccuracy(), getWeakpointAccuracy());
 		return 100 * MathUtils.vectorDotProduct(damageWastedByArmorPerCreature[0], damageWastedByArmorPerCreature[1]) / MathUtils.sum(damageWastedByArmorPerCreature[0]);
 	}
 	
@@ -9,7 +9,6 @@ import guiPieces.customButtons.ButtonIcons.modIcons;
 import guiPieces.customButtons.ButtonIcons.overclockIcons;
 import modelPieces.DoTInformation;
 import modelPieces.DwarfInformation;
-import modelPieces.EnemyInformation;
 import modelPieces.Mod;
 import modelPieces.Overclock;
 import spreadCurves.ClassicCurve;
@@ -39,7 +38,7 @@ public abstract class Classic extends Weapon {
 	****************************************************************************************/
 	
 	public Classic(int mod1, int mod2, int mod3, int mod4, int mod5, int overclock) {
-		weaponPic = WeaponPictures.classic;
+		weaponPicFile = WeaponPictures.classic;
 		
 		// Base stats, before mods or overclocks alter them:
 		directDamage = 50;
@@ -191,7 +190,7 @@ public abstract class Classic extends Weapon {
 			double killingMachineManualReloadWindow = 1.0;
 			double killingMachineReloadReduction = 0.75;
 			// Just like Gunner/Minigun/Mod/5/CatG, I'm using the incorrect "guess" spawn rates to create a more believable uptime coefficient
-			double burstTTK = EnemyInformation.averageHealthPool(false) / calculateSingleTargetDPS(true, false, false, false);
+			double burstTTK = getEnemyContext().averageHealthPool(false) / calculateSingleTargetDPS(true, false, false, false);
 			// Don't let a high Burst DPS increase this beyond a 100% uptime
 			double killingMachineUptimeCoefficient = Math.min(killingMachineManualReloadWindow / burstTTK, 1.0);
 			double effectiveReloadReduction = killingMachineUptimeCoefficient * killingMachineReloadReduction;
@@ -233,7 +232,7 @@ public abstract class Classic extends Weapon {
 			modifier *= 0;
 		}
 		
-		return MathUtils.round(modifier * DwarfInformation.walkSpeed, 2);
+		return MathUtils.roundHalfUp(modifier * DwarfInformation.walkSpeed, 2);
 	}
 	protected int getMaxPenetrations() {
 		if (selectedTier4 == 0) {
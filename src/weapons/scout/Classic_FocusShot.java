@@ -3,7 +3,6 @@ package weapons.scout;
 import guiPieces.customButtons.ButtonIcons.modIcons;
 import modelPieces.DoTInformation;
 import modelPieces.DwarfInformation;
-import modelPieces.EnemyInformation;
 import modelPieces.StatsRow;
 import modelPieces.UtilityInformation;
 import utilities.MathUtils;
@@ -178,12 +177,12 @@ public class Classic_FocusShot extends Classic {
 	@Override
 	protected double averageDamageToKillEnemy() {
 		double dmgPerShot = increaseBulletDamageForWeakpoints(getDirectDamage() * getFocusedShotMultiplier(), getWeakpointBonus());
-		return Math.ceil(EnemyInformation.averageHealthPool() / dmgPerShot) * dmgPerShot;
+		return Math.ceil(getEnemyContext().averageHealthPool() / dmgPerShot) * dmgPerShot;
 	}
 	
 	@Override
 	public double averageOverkill() {
-		overkillPercentages = EnemyInformation.overkillPerCreature(getDirectDamage() * getFocusedShotMultiplier());
+		overkillPercentages = getEnemyContext().overkillPerCreature(getDirectDamage() * getFocusedShotMultiplier());
 		return MathUtils.vectorDotProduct(overkillPercentages[0], overkillPercentages[1]);
 	}
 
@@ -212,7 +211,7 @@ public class Classic_FocusShot extends Classic {
 			dot_probability[0] = 1.0;
 		}
 		
-		breakpoints = EnemyInformation.calculateBreakpoints(directDamage, areaDamage, dot_dps, dot_duration, dot_probability, 
+		breakpoints = getEnemyContext().calculateBreakpoints(directDamage, areaDamage, dot_dps, dot_duration, dot_probability, 
 															getWeakpointBonus(), getArmorBreaking(), getRateOfFire(), 0.0, 0.0, 
 															statusEffects[1], statusEffects[3], false, false);
 		return MathUtils.sum(breakpoints);
@@ -221,7 +220,7 @@ public class Classic_FocusShot extends Classic {
 	@Override
 	public double utilityScore() {
 		// OC "Active Stability System" removes the movespeed penalty while Focusing
-		utilityScores[0] = (getMovespeedWhileFocusing() - MathUtils.round(movespeedWhileFocusing * DwarfInformation.walkSpeed, 2)) * UtilityInformation.Movespeed_Utility;
+		utilityScores[0] = (getMovespeedWhileFocusing() - MathUtils.roundHalfUp(movespeedWhileFocusing * DwarfInformation.walkSpeed, 2)) * UtilityInformation.Movespeed_Utility;
 		
 		// OC "Hoverclock" gives a 2 second cap to Scout's vertical movement speed (guess: 0.5 m/sec?), but after that 2sec ends original velocity is restored
 		if (selectedOverclock == 0) {
@@ -244,11 +243,11 @@ public class Classic_FocusShot extends Classic {
 		
 		// According to MikeGSG & GreyHound, Mod Tier 5 "Precision Terror" does 2 Fear in a 3.5m radius
 		if (selectedTier5 == 1) {
-			double probabilityToHitWeakpoint = EnemyInformation.probabilityBulletWillHitWeakpoint();
+			double probabilityToHitWeakpoint = getEnemyContext().probabilityBulletWillHitWeakpoint();
 			int numGlyphidsFeared = calculateNumGlyphidsInRadius(3.5);
 			double probabilityToFear = calculateFearProcProbability(2.0);
 			// Although it is technically possible to electrocute a Feared enemy with Electrocuting Focus Shots and Blowthrough Rounds, it's so unlikely to happen that I'm choosing not to model that overlap.
-			utilityScores[4] = probabilityToHitWeakpoint * probabilityToFear * numGlyphidsFeared * EnemyInformation.averageFearDuration() * UtilityInformation.Fear_Utility;
+			utilityScores[4] = probabilityToHitWeakpoint * probabilityToFear * numGlyphidsFeared * getEnemyContext().averageFearDuration() * UtilityInformation.Fear_Utility;
 		}
 		else {
 			utilityScores[4] = 0;
@@ -280,8 +279,8 @@ public class Classic_FocusShot extends Classic {
 	
 	@Override
 	public double damageWastedByArmor() {
-		double weakpointAccuracy = EnemyInformation.probabilityBulletWillHitWeakpoint() * 100.0;
-		damageWastedByArmorPerCreature = EnemyInformation.percentageDamageWastedByArmor(getDirectDamage() * getFocusedShotMultiplier(), 1, 0.0, getArmorBreaking(), getWeakpointBonus(), 100.0, weakpointAccuracy);
+		double weakpointAccuracy = getEnemyContext().probabilityBulletWillHitWeakpoint() * 100.0;
+		getEnemyContext().percentageDamageWastedByArmor(damageWastedByArmorPerCreature, getDirectDamage() * getFocusedShotMultiplier(), 1, 0.0, getArmorBreaking(), getWeakpointBonus(), 100.0, weakpointAccuracy);
 		return 100 * MathUtils.vectorDotProduct(damageWastedByArmorPerCreature[0], damageWastedByArmorPerCreature[1]) / MathUtils.sum(damageWastedByArmorPerCreature[0]);
 	}
 }
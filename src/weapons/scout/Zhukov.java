@@ -7,7 +7,6 @@ import guiPieces.WeaponPictures;
 import guiPieces.customButtons.ButtonIcons.modIcons;
 import guiPieces.customButtons.ButtonIcons.overclockIcons;
 import modelPieces.DwarfInformation;
-import modelPieces.EnemyInformation;
 import modelPieces.Mod;
 import modelPieces.Overclock;
 import modelPieces.StatsRow;
@@ -45,7 +44,7 @@ public class Zhukov extends Weapon {
 	
 	public Zhukov(int mod1, int mod2, int mod3, int mod4, int mod5, int overclock) {
 		fullName = "Zhukov NUK17";
-		weaponPic = WeaponPictures.zhukovs;
+		weaponPicFile = WeaponPictures.zhukovs;
 		
 		// Base stats, before mods or overclocks alter them:
 		directDamage = 12;
@@ -266,7 +265,7 @@ public class Zhukov extends Weapon {
 			modifier -= 0.5;
 		}
 		
-		return MathUtils.round(modifier * DwarfInformation.walkSpeed, 2);
+		return MathUtils.roundHalfUp(modifier * DwarfInformation.walkSpeed, 2);
 	}
 	
 	@Override
@@ -321,7 +320,7 @@ public class Zhukov extends Weapon {
 		// Minelets do 10 Cold Damage upon detonation, but they have to take 0.1 seconds to arm first.
 		// While Frozen, bullets do x3 Direct Damage.
 		double effectiveRoF = getRateOfFire() / 2.0;
-		double timeToFreeze = EnemyInformation.averageTimeToFreeze(0, -10, effectiveRoF, 0);
+		double timeToFreeze = getEnemyContext().averageTimeToFreeze(0, -10, effectiveRoF, 0);
 		return Math.ceil(timeToFreeze * effectiveRoF);
 	}
 	
@@ -450,12 +449,12 @@ public class Zhukov extends Weapon {
 			dmgPerShot = increaseBulletDamageForWeakpoints(getDirectDamage(), getWeakpointBonus()) + getAreaDamage();
 		}
 		
-		return Math.ceil(EnemyInformation.averageHealthPool() / dmgPerShot) * dmgPerShot;
+		return Math.ceil(getEnemyContext().averageHealthPool() / dmgPerShot) * dmgPerShot;
 	}
 	
 	@Override
 	public double averageOverkill() {
-		overkillPercentages = EnemyInformation.overkillPerCreature(getDirectDamage() + getAreaDamage());
+		overkillPercentages = getEnemyContext().overkillPerCreature(getDirectDamage() + getAreaDamage());
 		return MathUtils.vectorDotProduct(overkillPercentages[0], overkillPercentages[1]);
 	}
 
@@ -490,7 +489,7 @@ public class Zhukov extends Weapon {
 		double[] dot_duration = new double[4];
 		double[] dot_probability = new double[4];
 		
-		breakpoints = EnemyInformation.calculateBreakpoints(directDamage, areaDamage, dot_dps, dot_duration, dot_probability, 
+		breakpoints = getEnemyContext().calculateBreakpoints(directDamage, areaDamage, dot_dps, dot_duration, dot_probability, 
 															getWeakpointBonus(), 1.0, getRateOfFire()/2.0, 0.0, 0.0, 
 															statusEffects[1], statusEffects[3], false, selectedOverclock == 3);
 		return MathUtils.sum(breakpoints);
@@ -499,7 +498,7 @@ public class Zhukov extends Weapon {
 	@Override
 	public double utilityScore() {
 		// OC "Gas Recycling" reduces Scout's movement speed
-		utilityScores[0] = (getMovespeedWhileFiring() - MathUtils.round(DwarfInformation.walkSpeed, 2)) * UtilityInformation.Movespeed_Utility;
+		utilityScores[0] = (getMovespeedWhileFiring() - MathUtils.roundHalfUp(DwarfInformation.walkSpeed, 2)) * UtilityInformation.Movespeed_Utility;
 		
 		// Mod Tier 5 "Get In, Get Out" gives 50% movement speed increase for 2.5 sec after reloading empty clips
 		if (selectedTier5 == 1) {
@@ -511,7 +510,7 @@ public class Zhukov extends Weapon {
 			// Just because I don't think it's possible doesn't mean I'm not safeguarding against it.
 			double uptimeCoefficient = Math.min(2.5 / timeToFireMagazineAndReload, 1);
 			
-			utilityScores[0] += uptimeCoefficient * MathUtils.round(0.5 * DwarfInformation.walkSpeed, 2) * UtilityInformation.Movespeed_Utility;
+			utilityScores[0] += uptimeCoefficient * MathUtils.roundHalfUp(0.5 * DwarfInformation.walkSpeed, 2) * UtilityInformation.Movespeed_Utility;
 		}
 		
 		// Light Armor Breaking probability
@@ -539,7 +538,7 @@ public class Zhukov extends Weapon {
 		if (selectedOverclock == 2) {
 			double effectiveRoF = getRateOfFire() / 2.0;
 			// I'm choosing to add 0.9 to model the 0.1 creation time and 0.8 arming time before minelets deal their Cold damage
-			return 0.9 + EnemyInformation.averageTimeToFreeze(0, -10, effectiveRoF, 0);
+			return 0.9 + getEnemyContext().averageTimeToFreeze(0, -10, effectiveRoF, 0);
 		}
 		else {
 			return -1;
@@ -559,7 +558,7 @@ public class Zhukov extends Weapon {
 	
 	@Override
 	public double damageWastedByArmor() {
-		damageWastedByArmorPerCreature = EnemyInformation.percentageDamageWastedByArmor(getDirectDamage(), 1, getAreaDamage(), 1.0, getWeakpointBonus(), getGeneralAccuracy(), getWeakpointAccuracy(), selectedOverclock == 3);
+		getEnemyContext().percentageDamageWastedByArmor(damageWastedByArmorPerCreature, getDirectDamage(), 1, getAreaDamage(), 1.0, getWeakpointBonus(), getGeneralAccuracy(), getWeakpointAccuracy(), selectedOverclock == 3);
 		return 100 * MathUtils.vectorDotProduct(damageWastedByArmorPerCreature[0], damageWastedByArmorPerCreature[1]) / MathUtils.sum(damageWastedByArmorPerCreature[0]);
 	}
 	
@@ -0,0 +1,517 @@
+package modelPieces;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+import enemies.Enemy;
+import utilities.MathUtils;
+
+/*
+	BreakpointSolver is only worth having if it gets exactly the same numbers as the shot-by-shot loops that EnemyContext.calculateBreakpoints() used to run, so this keeps
+	a copy of that old method exactly the way it was (the only changes are where it reads the scaled health and resistances from) and checks the two against each other.
+	
+	This lives under tools/ instead of src/ so that it never ends up in the program's .jar; it's in the modelPieces package so that it can read the scaled health the
+	same way EnemyContext does. Compile it against the compiled program and run it with:
+		javac -d <tools output> -cp <program classes> tools/modelPieces/BreakpointReferenceCheck.java
+		java -cp <tools output>:<program classes> modelPieces.BreakpointReferenceCheck [seed] [cases per difficulty]
+	
+	Every one of the 20 difficulties gets the same number of randomly generated inputs from a fixed seed, so running it twice checks exactly the same cases. The inputs
+	cycle through all 16 combinations of Frozen, IFG, Flying Nightmare, and Embedded Detonators, and most of them have at least one DoT (Burn from heat, Electrocute,
+	Neurotoxin, Persistent Plasma, or Radiation) active. Some of the damage values get an extra 5 in the fifth decimal place so that the rounding ties, where
+	BreakpointSolver has to fall back to stepping shot-by-shot, get checked too. It prints every input that disagrees and exits with 1 if there were any.
+*/
+public class BreakpointReferenceCheck {
+	
+	/****************************************************************************************
+	* Class Variables
+	****************************************************************************************/
+	
+	private static final long defaultSeed = 20200516L;
+	private static final int defaultCasesPerDifficulty = 2000;
+	
+	/****************************************************************************************
+	* Other Methods
+	****************************************************************************************/
+	
+	public static void main(String[] args) {
+		long seed = defaultSeed;
+		int casesPerDifficulty = defaultCasesPerDifficulty;
+		try {
+			if (args.length > 0) {
+				seed = Long.parseLong(args[0]);
+			}
+			if (args.length > 1) {
+				casesPerDifficulty = Integer.parseInt(args[1]);
+			}
+		}
+		catch (NumberFormatException e) {
+			System.out.println("Usage: modelPieces.BreakpointReferenceCheck [seed] [cases per difficulty]");
+			System.exit(1);
+		}
+		
+		Random rng = new Random(seed);
+		int numCases = 0, numMismatches = 0;
+		int[] caseCountPerFlags = new int[16];
+		EnemyContext context;
+		for (int h = 1; h <= EnemyInformation.numHazardLevels; h++) {
+			for (int p = 1; p <= EnemyInformation.maxPlayerCount; p++) {
+				context = EnemyContext.forDifficulty(h, p);
+				for (int c = 0; c < casesPerDifficulty; c++) {
+					if (!checkOneCase(context, rng, c % 16)) {
+						numMismatches++;
+					}
+					caseCountPerFlags[c % 16]++;
+					numCases++;
+				}
+			}
+		}
+		
+		System.out.println("Checked " + numCases + " inputs across all " + (EnemyInformation.numHazardLevels * EnemyInformation.maxPlayerCount) + " difficulties with seed " + seed 
+						   + " (per Frozen/IFG/Flying Nightmare/Embedded Detonators combination: " + Arrays.toString(caseCountPerFlags) + ")");
+		System.out.println(numMismatches + " of them disagreed with the shot-by-shot reference");
+		if (numMismatches > 0) {
+			System.exit(1);
+		}
+	}
+	
+	// Bit 0 of flags is Frozen, bit 1 is IFG, bit 2 is Flying Nightmare, and bit 3 is Embedded Detonators. Returns false and prints the inputs if the answers differ.
+	private static boolean checkOneCase(EnemyContext context, Random rng, int flags) {
+		boolean frozen = (flags & 1) != 0;
+		boolean IFG = (flags & 2) != 0;
+		boolean flyingNightmare = (flags & 4) != 0;
+		boolean embeddedDetonators = (flags & 8) != 0;
+		
+		// Kinetic, Explosive, Fire, Frost, Electric. Direct Damage always has some Kinetic so that the Heavy Armor on the weakpoints can always be broken.
+		double[] directDamage = new double[5];
+		double[] areaDamage = new double[5];
+		directDamage[0] = randomDamage(rng, 1.0, 150.0);
+		for (int i = 1; i < 5; i++) {
+			if (rng.nextInt(4) == 0) {
+				directDamage[i] = randomDamage(rng, 0.0, 60.0);
+			}
+		}
+		if (rng.nextBoolean()) {
+			areaDamage[rng.nextInt(5)] = randomDamage(rng, 0.0, 120.0);
+		}
+		
+		// Electrocute, Neurotoxin, Persistent Plasma, Radiation
+		double[] DoT_DPS = new double[4];
+		double[] DoT_durations = new double[4];
+		double[] DoT_probabilities = new double[4];
+		boolean allDoTs = rng.nextInt(5) == 0;
+		for (int i = 0; i < 4; i++) {
+			if (allDoTs || rng.nextInt(3) == 0) {
+				DoT_DPS[i] = randomDamage(rng, 1.0, 40.0);
+				DoT_durations[i] = 0.5 + rng.nextInt(80) / 10.0;
+				DoT_probabilities[i] = 0.05 + rng.nextInt(96) / 100.0;
+			}
+		}
+		
+		double heatPerShot = 0.0;
+		if (allDoTs || rng.nextInt(3) == 0) {
+			heatPerShot = randomDamage(rng, 1.0, 120.0);
+		}
+		
+		double weakpointModifier = 0.0;
+		int weakpointChoice = rng.nextInt(4);
+		if (weakpointChoice == 0) {
+			weakpointModifier = -1.0;
+		}
+		else if (weakpointChoice == 1) {
+			weakpointModifier = 0.05 * (1 + rng.nextInt(20));
+		}
+		
+		double armorBreaking = 0.25 * (1 + rng.nextInt(20));
+		double RoF = 0.5 + rng.nextInt(200) / 10.0;
+		double macteraModifier = 0.0;
+		if (rng.nextInt(4) == 0) {
+			macteraModifier = 0.2;
+		}
+		
+		// Both methods get their own copies because Frozen and IFG used to be able to change the arrays they were given.
+		int[] expected = calculateBreakpointsShotByShot(context, directDamage.clone(), areaDamage.clone(), DoT_DPS.clone(), DoT_durations.clone(), DoT_probabilities.clone(), 
+														weakpointModifier, armorBreaking, RoF, heatPerShot, macteraModifier, frozen, IFG, flyingNightmare, embeddedDetonators);
+		int[] actual = context.calculateBreakpoints(directDamage.clone(), areaDamage.clone(), DoT_DPS.clone(), DoT_durations.clone(), DoT_probabilities.clone(), 
+													weakpointModifier, armorBreaking, RoF, heatPerShot, macteraModifier, frozen, IFG, flyingNightmare, embeddedDetonators);
+		if (Arrays.equals(expected, actual)) {
+			return true;
+		}
+		
+		System.out.println("Mismatch at Hazard " + context.getHazardLevel() + ", " + context.getPlayerCount() + " players: direct " + Arrays.toString(directDamage) + ", area " 
+						   + Arrays.toString(areaDamage) + ", DoT DPS " + Arrays.toString(DoT_DPS) + ", DoT durations " + Arrays.toString(DoT_durations) 
+						   + ", DoT probabilities " + Arrays.toString(DoT_probabilities) + ", weakpoint " + weakpointModifier + ", armor breaking " + armorBreaking 
+						   + ", RoF " + RoF + ", heat " + heatPerShot + ", mactera " + macteraModifier + ", frozen " + frozen + ", IFG " + IFG 
+						   + ", Flying Nightmare " + flyingNightmare + ", Embedded Detonators " + embeddedDetonators);
+		System.out.println("    shot-by-shot: " + Arrays.toString(expected));
+		System.out.println("    solver:       " + Arrays.toString(actual));
+		return false;
+	}
+	
+	/*
+		Damage values with 2 decimal places, like the ones that Weapons use, except that 1 in 4 of them land right on a rounding tie in the 5th decimal place. They're spread
+		out evenly on a log scale, because BreakpointSolver only skips shots when it takes a lot of them to kill something, so the small values are the ones that matter most.
+	*/
+	private static double randomDamage(Random rng, double min, double max) {
+		double value = Math.floor((min + 1.0) * Math.pow((max + 1.0) / (min + 1.0), rng.nextDouble()) * 100.0) / 100.0 - 1.0;
+		if (rng.nextInt(4) == 0) {
+			value += 0.00005;
+		}
+		return value;
+	}
+	
+	/*
+		This is EnemyContext.calculateBreakpoints() exactly as it was before BreakpointSolver replaced its three while (aliasHP > 0) loops. Please don't "fix" anything in
+		here; the whole point is that it stays the old way.
+	*/
+	static int[] calculateBreakpointsShotByShot(EnemyContext context, double[] directDamageByType, double[] areaDamageByType, double[] DoT_DPS, double[] DoT_durations, 
+												double[] DoT_probabilities, double weakpointModifier, double armorBreaking, double RoF, double heatPerShot, 
+												double macteraModifier, boolean frozen, boolean IFG, boolean flyingNightmare, boolean embeddedDetonators) {
+		ArrayList<Integer> toReturn = new ArrayList<Integer>();
+		
+		// Frozen
+		double lightArmorReduction = UtilityInformation.LightArmor_DamageReduction;
+		if (frozen) {
+			// Removes Weakpoint Bonuses
+			weakpointModifier = -1.0;
+			
+			// Bypasses all Armor types
+			lightArmorReduction = 1.0;
+			
+			// Multiplies Direct Damage by x3 (except for Flying Nightmare)
+			if (!flyingNightmare) {
+				directDamageByType = MathUtils.vectorScalarMultiply(UtilityInformation.Frozen_Damage_Multiplier, directDamageByType);
+			}
+		}
+		
+		// Flying Nightmare is weird... it does the Direct Damage listed but it passes through enemies, ignores armor, and doesn't benefit from Weakpoints like the Breach Cutter.
+		if (flyingNightmare) {
+			weakpointModifier = -1.0;
+			lightArmorReduction = 1.0;
+		}
+		
+		// IFG
+		if (IFG) {
+			// Increases Direct and Area Damage taken by x1.3
+			directDamageByType = MathUtils.vectorScalarMultiply(UtilityInformation.IFG_Damage_Multiplier, directDamageByType);
+			areaDamageByType = MathUtils.vectorScalarMultiply(UtilityInformation.IFG_Damage_Multiplier, areaDamageByType);
+		}
+		
+		double creatureHP, creatureWeakpointModifier, aliasHP;
+		double rawDirectDamage, modifiedDirectDamage, rawAreaDamage, modifiedAreaDamage;
+		double numShotsToProcBurn, numShotsToProcElectrocute, numShotsToProcNeurotoxin, numShotsToProcPersistentPlasma, numShotsToProcRadiation;
+		double burnDPS, burnDuration, electrocuteDPS, plasmaDPS;
+		double[] creatureResistances;
+		int breakpointCounter;
+		double fourSecondsDoTDamage;
+		double lightArmorStrength, heavyArmorHP, numShotsToBreakArmor;
+		Enemy[] enemies = EnemyInformation.enemiesModeled;
+		Enemy alias;
+		for (int i = 0; i < enemies.length; i++) {
+			alias = enemies[i];
+			
+			// If this enemy shouldn't be modeled in breakpoints, skip it.
+			if (!alias.shouldHaveBreakpointsCalculated()) {
+				continue;
+			}
+			
+			creatureHP = context.getScaledHealth(i);
+			
+			creatureResistances = new double[] {
+				1.0 - alias.getExplosiveResistance(),
+				1.0 - alias.getFireResistance(),
+				1.0 - alias.getFrostResistance(),
+				1.0 - alias.getElectricResistance()
+			};
+			
+			creatureWeakpointModifier = alias.getWeakpointMultiplier();
+			if (weakpointModifier < 0) {
+				creatureWeakpointModifier = 1.0;
+			}
+			else {
+				creatureWeakpointModifier *= (1.0 + weakpointModifier);
+			}
+			
+			rawDirectDamage = MathUtils.sum(directDamageByType);
+			modifiedDirectDamage = directDamageByType[0] + directDamageByType[1] * creatureResistances[0] + directDamageByType[2] * creatureResistances[1] + directDamageByType[3] * creatureResistances[2] + directDamageByType[4] * creatureResistances[3];
+			
+			rawAreaDamage = MathUtils.sum(areaDamageByType);
+			modifiedAreaDamage = areaDamageByType[0] + areaDamageByType[1] * creatureResistances[0] + areaDamageByType[2] * creatureResistances[1] + areaDamageByType[3] * creatureResistances[2] + areaDamageByType[4] * creatureResistances[3];
+			
+			// Driller/Subata/Mod/5/B "Mactera Neurotoxin Coating" makes the Subata's damage do x1.2 more to Mactera-type enemies
+			if (alias.isMacteraType()) {
+				modifiedDirectDamage *= (1.0 + macteraModifier);
+				modifiedAreaDamage *= (1.0 + macteraModifier);
+			}
+			
+			// Neurotoxin does Poison damage -- which no enemy resists -- and Radiation is not resisted by any creatures modeled by the program (but it is technically resisted by enemies in REZ biome)
+			burnDPS = DoTInformation.Burn_DPS * creatureResistances[1];
+			electrocuteDPS = DoT_DPS[0] * creatureResistances[3];
+			plasmaDPS = DoT_DPS[2] * creatureResistances[1];
+			
+			numShotsToProcBurn = 0;
+			burnDuration = 0;
+			numShotsToProcElectrocute = 0;
+			numShotsToProcNeurotoxin = 0;
+			numShotsToProcPersistentPlasma = 0;
+			numShotsToProcRadiation = 0;
+			if (!frozen && heatPerShot > 0.0) {
+				if (heatPerShot >= alias.getIgniteTemp()) {
+					numShotsToProcBurn = 1;
+					burnDuration = (heatPerShot - alias.getDouseTemp()) / alias.getCoolingRate();
+				}
+				else {
+					// This is technically an approximation and not precisely how it works in-game, but it's close enough for what I need.
+					numShotsToProcBurn = Math.floor((alias.getIgniteTemp() * RoF) / (heatPerShot * RoF - alias.getCoolingRate()));
+					burnDuration = (alias.getIgniteTemp() - alias.getDouseTemp()) / alias.getCoolingRate();
+				}
+			}
+			if (DoT_probabilities[0] > 0.0) {
+				numShotsToProcElectrocute = Math.round(MathUtils.meanRolls(DoT_probabilities[0]));
+			}
+			if (DoT_probabilities[1] > 0.0) {
+				numShotsToProcNeurotoxin = Math.round(MathUtils.meanRolls(DoT_probabilities[1]));
+			}
+			if (DoT_probabilities[2] > 0.0) {
+				numShotsToProcPersistentPlasma = Math.round(MathUtils.meanRolls(DoT_probabilities[2]));
+			}
+			if (DoT_probabilities[3] > 0.0) {
+				numShotsToProcRadiation = Math.round(MathUtils.meanRolls(DoT_probabilities[3]));
+			}
+			
+			// Normal Damage
+			if (alias.hasExposedBodySomewhere()) {
+				breakpointCounter = 0;
+				aliasHP = creatureHP;
+				
+				while (aliasHP > 0) {
+					breakpointCounter++;
+					
+					// First, subtract Direct Damage
+					aliasHP -= modifiedDirectDamage;
+					
+					// Second, subtract Area Damage
+					aliasHP -= modifiedAreaDamage;
+					
+					// Third, determine if 4 seconds of DoTs can do enough damage to kill the creature
+					fourSecondsDoTDamage = 0;
+					if (numShotsToProcBurn > 0 && breakpointCounter >= numShotsToProcBurn) {
+						fourSecondsDoTDamage += Math.min(burnDuration, 4.0) * burnDPS;
+					}
+					if (numShotsToProcElectrocute > 0 && breakpointCounter >= numShotsToProcElectrocute) {
+						fourSecondsDoTDamage += Math.min(DoT_durations[0], 4.0) * electrocuteDPS;
+					}
+					if (numShotsToProcNeurotoxin > 0 && breakpointCounter >= numShotsToProcNeurotoxin) {
+						fourSecondsDoTDamage += Math.min(DoT_durations[1], 4.0) * DoT_DPS[1];
+					}
+					if (numShotsToProcPersistentPlasma > 0 && breakpointCounter >= numShotsToProcPersistentPlasma) {
+						fourSecondsDoTDamage += Math.min(DoT_durations[2], 4.0) * plasmaDPS;
+					}
+					if (numShotsToProcRadiation > 0 && breakpointCounter >= numShotsToProcRadiation) {
+						fourSecondsDoTDamage += Math.min(DoT_durations[3], 4.0) * DoT_DPS[3];
+					}
+					
+					if (fourSecondsDoTDamage >= aliasHP) {
+						break;
+					}
+					
+					// If not, subtract the damage dealt by DoTs until the next shot at max RoF
+					if (numShotsToProcBurn > 0 && breakpointCounter >= numShotsToProcBurn) {
+						aliasHP -= burnDPS / RoF;
+					}
+					if (numShotsToProcElectrocute > 0 && breakpointCounter >= numShotsToProcElectrocute) {
+						aliasHP -= electrocuteDPS / RoF;
+					}
+					if (numShotsToProcNeurotoxin > 0 && breakpointCounter >= numShotsToProcNeurotoxin) {
+						aliasHP -=  DoT_DPS[1] / RoF;
+					}
+					if (numShotsToProcPersistentPlasma > 0 && breakpointCounter >= numShotsToProcPersistentPlasma) {
+						aliasHP -= plasmaDPS / RoF;
+					}
+					if (numShotsToProcRadiation > 0 && breakpointCounter >= numShotsToProcRadiation) {
+						aliasHP -= DoT_DPS[3] / RoF;
+					}
+					
+					// This is just a catch-all statement for the rounding errors inherent to double division.
+					aliasHP = MathUtils.round(aliasHP, 4);
+				}
+				
+				toReturn.add(breakpointCounter);
+			}
+			
+			// Light Armor
+			if (alias.hasLightArmor()) {
+				breakpointCounter = 0;
+				aliasHP = creatureHP;
+				
+				lightArmorStrength = alias.getArmorStrength();
+				
+				if (embeddedDetonators) {
+					numShotsToBreakArmor = Math.ceil(MathUtils.meanRolls(EnemyInformation.lightArmorBreakProbabilityLookup(rawDirectDamage, armorBreaking, lightArmorStrength)));
+				}
+				else {
+					numShotsToBreakArmor = Math.ceil(MathUtils.meanRolls(EnemyInformation.lightArmorBreakProbabilityLookup(rawDirectDamage + rawAreaDamage, armorBreaking, lightArmorStrength)));
+				}
+				
+				while (aliasHP > 0) {
+					breakpointCounter++;
+					
+					// First, subtract Direct Damage
+					if (armorBreaking > 1.0 && breakpointCounter >= numShotsToBreakArmor) {
+						aliasHP -= modifiedDirectDamage;
+					}
+					else if (armorBreaking <= 1.0 && breakpointCounter > numShotsToBreakArmor) {
+						aliasHP -= modifiedDirectDamage;
+					}
+					else {
+						aliasHP -= modifiedDirectDamage * lightArmorReduction;
+					}
+					
+					// Second, subtract Area Damage
+					aliasHP -= modifiedAreaDamage;
+					
+					// Third, determine if 4 seconds of DoTs can do enough damage to kill the creature
+					fourSecondsDoTDamage = 0;
+					if (numShotsToProcBurn > 0 && breakpointCounter >= numShotsToProcBurn) {
+						fourSecondsDoTDamage += Math.min(burnDuration, 4.0) * burnDPS;
+					}
+					if (numShotsToProcElectrocute > 0 && breakpointCounter >= numShotsToProcElectrocute) {
+						fourSecondsDoTDamage += Math.min(DoT_durations[0], 4.0) * electrocuteDPS;
+					}
+					if (numShotsToProcNeurotoxin > 0 && breakpointCounter >= numShotsToProcNeurotoxin) {
+						fourSecondsDoTDamage += Math.min(DoT_durations[1], 4.0) * DoT_DPS[1];
+					}
+					if (numShotsToProcPersistentPlasma > 0 && breakpointCounter >= numShotsToProcPersistentPlasma) {
+						fourSecondsDoTDamage += Math.min(DoT_durations[2], 4.0) * plasmaDPS;
+					}
+					if (numShotsToProcRadiation > 0 && breakpointCounter >= numShotsToProcRadiation) {
+						fourSecondsDoTDamage += Math.min(DoT_durations[3], 4.0) * DoT_DPS[3];
+					}
+					
+					if (fourSecondsDoTDamage >= aliasHP) {
+						break;
+					}
+					
+					// If not, subtract the damage dealt by DoTs until the next shot at max RoF
+					if (numShotsToProcBurn > 0 && breakpointCounter >= numShotsToProcBurn) {
+						aliasHP -= burnDPS / RoF;
+					}
+					if (numShotsToProcElectrocute > 0 && breakpointCounter >= numShotsToProcElectrocute) {
+						aliasHP -= electrocuteDPS / RoF;
+					}
+					if (numShotsToProcNeurotoxin > 0 && breakpointCounter >= numShotsToProcNeurotoxin) {
+						aliasHP -=  DoT_DPS[1] / RoF;
+					}
+					if (numShotsToProcPersistentPlasma > 0 && breakpointCounter >= numShotsToProcPersistentPlasma) {
+						aliasHP -= plasmaDPS / RoF;
+					}
+					if (numShotsToProcRadiation > 0 && breakpointCounter >= numShotsToProcRadiation) {
+						aliasHP -= DoT_DPS[3] / RoF;
+					}
+					
+					// This is just a catch-all statement for the rounding errors inherent to double division.
+					aliasHP = MathUtils.round(aliasHP, 4);
+				}
+				
+				toReturn.add(breakpointCounter);
+			}
+			
+			// Weakpoint
+			if (alias.hasWeakpoint()) {
+				breakpointCounter = 0;
+				aliasHP = creatureHP;
+				
+				if (alias.weakpointIsCoveredByHeavyArmor()) {
+					heavyArmorHP = context.getScaledArmorHealth(i);
+					
+					if (embeddedDetonators) {
+						numShotsToBreakArmor = heavyArmorHP / (rawDirectDamage * armorBreaking);
+					}
+					else {
+						numShotsToBreakArmor = heavyArmorHP / ((rawDirectDamage + rawAreaDamage) * armorBreaking);
+					}
+				}
+				else {
+					heavyArmorHP = 0;
+					numShotsToBreakArmor = 0;
+				}
+				
+				while (aliasHP > 0) {
+					breakpointCounter++;
+					
+					if (!frozen && heavyArmorHP > 0) {
+						// First, subtract Direct Damage (and Explosive Reload/Embedded Detonators)
+						if ((armorBreaking > 1.0 && breakpointCounter >= numShotsToBreakArmor) || (armorBreaking <= 1.0 && breakpointCounter > numShotsToBreakArmor)) {
+							aliasHP -= modifiedDirectDamage * creatureWeakpointModifier;
+							if (embeddedDetonators) {
+								aliasHP -= modifiedAreaDamage;
+							}
+						}
+						else {
+							continue;
+						}
+						
+						// Second, subtract Area Damage
+						if (!embeddedDetonators) {
+							aliasHP -= modifiedAreaDamage;
+						}
+					}
+					else {
+						aliasHP -= modifiedDirectDamage * creatureWeakpointModifier;
+						aliasHP -= modifiedAreaDamage;
+					}
+					
+					// Third, determine if 4 seconds of DoTs can do enough damage to kill the creature
+					fourSecondsDoTDamage = 0;
+					if (numShotsToProcBurn > 0 && breakpointCounter >= numShotsToProcBurn) {
+						fourSecondsDoTDamage += Math.min(burnDuration, 4.0) * burnDPS;
+					}
+					if (numShotsToProcElectrocute > 0 && breakpointCounter >= numShotsToProcElectrocute) {
+						fourSecondsDoTDamage += Math.min(DoT_durations[0], 4.0) * electrocuteDPS;
+					}
+					if (numShotsToProcNeurotoxin > 0 && breakpointCounter >= numShotsToProcNeurotoxin) {
+						fourSecondsDoTDamage += Math.min(DoT_durations[1], 4.0) * DoT_DPS[1];
+					}
+					if (numShotsToProcPersistentPlasma > 0 && breakpointCounter >= numShotsToProcPersistentPlasma) {
+						fourSecondsDoTDamage += Math.min(DoT_durations[2], 4.0) * plasmaDPS;
+					}
+					if (numShotsToProcRadiation > 0 && breakpointCounter >= numShotsToProcRadiation) {
+						fourSecondsDoTDamage += Math.min(DoT_durations[3], 4.0) * DoT_DPS[3];
+					}
+					
+					if (fourSecondsDoTDamage >= aliasHP) {
+						break;
+					}
+					
+					// If not, subtract the damage dealt by DoTs until the next shot at max RoF
+					if (numShotsToProcBurn > 0 && breakpointCounter >= numShotsToProcBurn) {
+						aliasHP -= burnDPS / RoF;
+					}
+					if (numShotsToProcElectrocute > 0 && breakpointCounter >= numShotsToProcElectrocute) {
+						aliasHP -= electrocuteDPS / RoF;
+					}
+					if (numShotsToProcNeurotoxin > 0 && breakpointCounter >= numShotsToProcNeurotoxin) {
+						aliasHP -=  DoT_DPS[1] / RoF;
+					}
+					if (numShotsToProcPersistentPlasma > 0 && breakpointCounter >= numShotsToProcPersistentPlasma) {
+						aliasHP -= plasmaDPS / RoF;
+					}
+					if (numShotsToProcRadiation > 0 && breakpointCounter >= numShotsToProcRadiation) {
+						aliasHP -= DoT_DPS[3] / RoF;
+					}
+					
+					// This is just a catch-all statement for the rounding errors inherent to double division.
+					aliasHP = MathUtils.round(aliasHP, 4);
+				}
+				
+				toReturn.add(breakpointCounter);
+			}
+		}
+				
+		int[] breakpoints = new int[toReturn.size()];
+		for (int i = 0; i < breakpoints.length; i++) {
+			breakpoints[i] = toReturn.get(i);
+		}
+		return breakpoints;
+	}
+}